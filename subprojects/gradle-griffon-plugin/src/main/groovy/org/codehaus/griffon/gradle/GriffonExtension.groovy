@@ -39,6 +39,21 @@ class GriffonExtension {
 
     Map applicationProperties = [:]
 
+    /**
+     * Evaluates resource bundles at build time and packages the result with the application.
+     */
+    boolean precompileResourceBundles = false
+
+    /**
+     * Environments for which resource bundles are precompiled.
+     */
+    List<String> precompiledEnvironments = ['prod']
+
+    /**
+     * Basenames of the resource bundles to be precompiled.
+     */
+    List<String> precompiledResourceBundles = ['Config']
+
     GriffonExtension(Project project) {
     }
 }
@@ -174,6 +174,37 @@ class GriffonPlugin implements Plugin<Project> {
         }
     }
 
+    private void configurePrecompiledResourceBundles(Project project, GriffonExtension extension, boolean groovyDependenciesEnabled) {
+        if (!extension.precompileResourceBundles) {
+            return
+        }
+
+        File outputDir = project.file("${project.buildDir}/precompiled-resources")
+        String precompilerClassName = groovyDependenciesEnabled ?
+            'org.codehaus.griffon.runtime.groovy.util.GroovyAwareResourceBundlePrecompiler' :
+            'org.codehaus.griffon.runtime.util.ResourceBundlePrecompiler'
+
+        Task precompileTask = project.tasks.create(name: 'precompileResourceBundles', group: 'Build',
+            description: 'Evaluates resource bundles such as Config for every configured environment.')
+        precompileTask.dependsOn(project.tasks.findByName('classes'))
+        precompileTask.inputs.files(project.sourceSets.main.runtimeClasspath)
+        precompileTask.outputs.dir(outputDir)
+        precompileTask.doLast {
+            project.delete(outputDir)
+            extension.precompiledEnvironments.each { String environment ->
+                project.javaexec {
+                    classpath = project.sourceSets.main.runtimeClasspath
+                    main = precompilerClassName
+                    args = [outputDir.absolutePath, environment] + extension.precompiledResourceBundles
+                }
+            }
+        }
+
+        Task jarTask = project.tasks.findByName('jar')
+        jarTask.dependsOn(precompileTask)
+        jarTask.from(outputDir)
+    }
+
     private void createDefaultDirectoryStructure(Project project, String sourceSetName) {
         project.gradle.taskGraph.whenReady {
             def createIfNotExists = { File dir ->
@@ -237,6 +268,7 @@ class GriffonPlugin implements Plugin<Project> {
 
                 processMainResources(project, extension)
                 processTestResources(project, extension)
+                configurePrecompiledResourceBundles(project, extension, groovyDependenciesEnabled)
 
                 project.plugins.withId('org.kordamp.gradle.stats') { plugin ->
                     Task statsTask = project.tasks.findByName('stats')
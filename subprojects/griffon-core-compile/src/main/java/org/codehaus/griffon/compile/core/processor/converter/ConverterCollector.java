@@ -0,0 +1,101 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.processor.converter;
+
+import griffon.core.editors.Converter;
+import org.kordamp.jipsy.processor.Initializer;
+import org.kordamp.jipsy.processor.LogLocation;
+import org.kordamp.jipsy.processor.Logger;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public final class ConverterCollector {
+    private final Set<String> converters = new TreeSet<>();
+    private final Set<String> cached = new TreeSet<>();
+
+    private final Initializer initializer;
+    private final Logger logger;
+
+    public ConverterCollector(Initializer initializer, Logger logger) {
+        this.initializer = initializer;
+        this.logger = logger;
+    }
+
+    public void addConverter(String converter) {
+        if (converter == null) {
+            throw new NullPointerException("converter");
+        }
+        converters.add(converter);
+    }
+
+    public boolean isModified() {
+        return !cached.equals(converters);
+    }
+
+    public void load() {
+        CharSequence initialData = initializer.initialData(Converter.class.getName());
+        if (initialData != null) {
+            fromList(initialData.toString());
+        }
+        cached.addAll(converters);
+    }
+
+    public void removeConverter(String converter) {
+        if (converter == null) {
+            throw new NullPointerException("converter");
+        }
+
+        logger.note(LogLocation.LOG_FILE, "Removing " + converter);
+        converters.remove(converter);
+    }
+
+    @Override
+    public String toString() {
+        return converters.toString();
+    }
+
+    public String toList() {
+        StringBuilder sb = new StringBuilder();
+        for (String converter : converters) {
+            sb.append(converter)
+                .append("\n");
+        }
+        return sb.toString();
+    }
+
+    public Set<String> converters() {
+        return Collections.unmodifiableSet(converters);
+    }
+
+    public void fromList(String input) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        String[] lines = input.split("\\n");
+        for (String line : lines) {
+            if (line.startsWith("#")) { continue; }
+            if (line.trim().length() > 0) {
+                converters.add(line.trim());
+            }
+        }
+    }
+}
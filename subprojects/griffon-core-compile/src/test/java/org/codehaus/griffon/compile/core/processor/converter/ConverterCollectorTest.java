@@ -0,0 +1,88 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.processor.converter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kordamp.jipsy.processor.testutils.NoOutputTestBase;
+import org.kordamp.jipsy.processor.testutils.TestInitializer;
+import org.kordamp.jipsy.processor.testutils.TestLogger;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ConverterCollectorTest extends NoOutputTestBase {
+    private TestInitializer initializer;
+    private TestLogger logger;
+    private ConverterCollector collector;
+
+    @Before
+    public void loadFrameWork() {
+        HashMap<String, String> map = new HashMap<String, String>();
+        map.put("griffon.core.editors.Converter", "# comment\nconverter1\nconverter2\n");
+        initializer = new TestInitializer(map);
+        logger = new TestLogger();
+        collector = new ConverterCollector(initializer, logger);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddConverterNull() {
+        collector.addConverter(null);
+    }
+
+    @Test
+    public void testAddConverterTwice() {
+        collector.addConverter("converter");
+        collector.addConverter("converter");
+        assertEquals(1, collector.converters().size());
+    }
+
+    @Test
+    public void testLoad() {
+        collector.load();
+        Set<String> converters = collector.converters();
+        assertEquals(2, converters.size());
+        assertTrue(converters.contains("converter1"));
+        assertTrue(converters.contains("converter2"));
+        assertFalse(collector.isModified());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testRemoveConverterNull() {
+        collector.removeConverter(null);
+    }
+
+    @Test
+    public void testRemoveConverter() {
+        collector.load();
+        logger.reset();
+        collector.removeConverter("converter1");
+        assertEquals(1, logger.records().size());
+        assertEquals(1, collector.converters().size());
+        assertTrue(collector.isModified());
+    }
+
+    @Test
+    public void testToList() {
+        collector.addConverter("converter2");
+        collector.addConverter("converter1");
+        assertEquals("converter1\nconverter2\n", collector.toList());
+    }
+}
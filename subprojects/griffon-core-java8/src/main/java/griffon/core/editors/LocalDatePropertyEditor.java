@@ -28,6 +28,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import static griffon.core.formatters.FormatterRegistry.getSharedFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 import static java.time.LocalDate.ofEpochDay;
 
@@ -75,7 +76,7 @@ public class LocalDatePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalDate> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalDateFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getSharedFormatter(LocalDateFormatter.class, getFormat());
     }
 
     protected void handleAsList(List<?> list) {
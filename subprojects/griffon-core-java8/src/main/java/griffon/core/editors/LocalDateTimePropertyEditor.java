@@ -28,6 +28,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
+import static griffon.core.formatters.FormatterRegistry.getSharedFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -86,7 +87,7 @@ public class LocalDateTimePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalDateTime> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalDateTimeFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getSharedFormatter(LocalDateTimeFormatter.class, getFormat());
     }
 
     protected void handleAsList(List<?> list) {
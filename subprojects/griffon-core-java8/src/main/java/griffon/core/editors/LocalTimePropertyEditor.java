@@ -27,6 +27,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
+import static griffon.core.formatters.FormatterRegistry.getSharedFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -85,7 +86,7 @@ public class LocalTimePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalTime> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalTimeFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getSharedFormatter(LocalTimeFormatter.class, getFormat());
     }
 
     protected void handleAsList(List<?> list) {
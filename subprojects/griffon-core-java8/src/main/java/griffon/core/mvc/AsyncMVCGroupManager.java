@@ -0,0 +1,40 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.mvc;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creates MVC groups asynchronously on behalf of the application's {@code MVCGroupManager}.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public interface AsyncMVCGroupManager extends AsyncMVCHandler {
+    @Nonnull
+    MVCGroupManager getMvcGroupManager();
+
+    /**
+     * Returns an {@code AsyncMVCHandler} that creates groups through the given handler.
+     * Use an {@code MVCGroup} or an MVC member as handler to establish a parent-child
+     * relationship with the newly created groups.
+     *
+     * @param handler the handler that creates groups
+     * @return an asynchronous handler bound to {@code handler}.
+     */
+    @Nonnull
+    AsyncMVCHandler forHandler(@Nonnull MVCHandler handler);
+}
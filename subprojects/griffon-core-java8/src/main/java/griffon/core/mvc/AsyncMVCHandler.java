@@ -0,0 +1,103 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.mvc;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous counterpart of {@code MVCHandler}. Configuration resolution, member instantiation
+ * and injection take place outside of the UI thread; views are initialized inside the UI thread.<p>
+ * Cancelling the returned {@code CompletionStage} (via {@code toCompletableFuture().cancel()})
+ * destroys the group as soon as it has been built. Failures, including submissions rejected
+ * by an executor that was shut down, complete the stage exceptionally instead of being thrown.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public interface AsyncMVCHandler {
+    /**
+     * Instantiates an MVC group of the specified type.<p>
+     *
+     * @param mvcType the type of group to build.
+     * @return a stage that completes with the newly created group.
+     * @see MVCHandler#createMVCGroup(String)
+     */
+    @Nonnull
+    CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType);
+
+    /**
+     * Instantiates an MVC group of the specified type with a particular name.<p>
+     *
+     * @param mvcType the type of group to build.
+     * @param mvcId   the name to assign to the built group.
+     * @return a stage that completes with the newly created group.
+     * @see MVCHandler#createMVCGroup(String, String)
+     */
+    @Nonnull
+    CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType, @Nonnull String mvcId);
+
+    /**
+     * Instantiates an MVC group of the specified type with additional variables.<p>
+     *
+     * @param args    any useful values that can be set as properties on each MVC member or that
+     *                identify a member that can be shared with other groups.
+     * @param mvcType the type of group to build.
+     * @return a stage that completes with the newly created group.
+     * @see MVCHandler#createMVCGroup(Map, String)
+     */
+    @Nonnull
+    CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull Map<String, Object> args, @Nonnull String mvcType);
+
+    /**
+     * Instantiates an MVC group of the specified type with additional variables.<p>
+     *
+     * @param mvcType the type of group to build.
+     * @param args    any useful values that can be set as properties on each MVC member or that
+     *                identify a member that can be shared with other groups.
+     * @return a stage that completes with the newly created group.
+     * @see MVCHandler#createMVCGroup(String, Map)
+     */
+    @Nonnull
+    CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType, @Nonnull Map<String, Object> args);
+
+    /**
+     * Instantiates an MVC group of the specified type with a particular name and additional variables.<p>
+     *
+     * @param args    any useful values that can be set as properties on each MVC member or that
+     *                identify a member that can be shared with other groups.
+     * @param mvcType the type of group to build.
+     * @param mvcId   the name to assign to the built group.
+     * @return a stage that completes with the newly created group.
+     * @see MVCHandler#createMVCGroup(Map, String, String)
+     */
+    @Nonnull
+    CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull Map<String, Object> args, @Nonnull String mvcType, @Nonnull String mvcId);
+
+    /**
+     * Instantiates an MVC group of the specified type with a particular name and additional variables.<p>
+     *
+     * @param mvcType the type of group to build.
+     * @param mvcId   the name to assign to the built group.
+     * @param args    any useful values that can be set as properties on each MVC member or that
+     *                identify a member that can be shared with other groups.
+     * @return a stage that completes with the newly created group.
+     * @see MVCHandler#createMVCGroup(String, String, Map)
+     */
+    @Nonnull
+    CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType, @Nonnull String mvcId, @Nonnull Map<String, Object> args);
+}
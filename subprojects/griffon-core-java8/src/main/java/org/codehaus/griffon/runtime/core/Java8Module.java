@@ -0,0 +1,41 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import griffon.core.injection.Module;
+import griffon.core.mvc.AsyncMVCGroupManager;
+import org.codehaus.griffon.runtime.core.injection.AbstractModule;
+import org.codehaus.griffon.runtime.core.mvc.DefaultAsyncMVCGroupManager;
+import org.kordamp.jipsy.ServiceProviderFor;
+
+import javax.inject.Named;
+
+/**
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+@Named("core-java8")
+@ServiceProviderFor(Module.class)
+public class Java8Module extends AbstractModule {
+    @Override
+    protected void doConfigure() {
+        // tag::bindings[]
+        bind(AsyncMVCGroupManager.class)
+            .to(DefaultAsyncMVCGroupManager.class)
+            .asSingleton();
+        // end::bindings[]
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.mvc;
+
+import griffon.core.ExecutorServiceManager;
+import griffon.core.mvc.AsyncMVCGroupManager;
+import griffon.core.mvc.AsyncMVCHandler;
+import griffon.core.mvc.MVCGroupManager;
+import griffon.core.mvc.MVCHandler;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@code AsyncMVCGroupManager} interface.
+ * Groups are built on a dedicated {@code ExecutorService} whose threads are named
+ * {@code griffon-mvc-async-<n>}; it is not shared with the default {@code ExecutorService}
+ * thus tasks submitted there while a group is being built can not starve group creation
+ * and vice versa.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class DefaultAsyncMVCGroupManager extends DefaultAsyncMVCHandler implements AsyncMVCGroupManager {
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger(1);
+
+    @Inject
+    public DefaultAsyncMVCGroupManager(@Nonnull MVCGroupManager mvcGroupManager, @Nonnull ExecutorServiceManager executorServiceManager) {
+        this(mvcGroupManager, newExecutorService());
+        requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null")
+            .add((ExecutorService) getExecutor());
+    }
+
+    public DefaultAsyncMVCGroupManager(@Nonnull MVCGroupManager mvcGroupManager, @Nonnull ExecutorService executorService) {
+        super(mvcGroupManager, executorService);
+    }
+
+    @Nonnull
+    private static ExecutorService newExecutorService() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "griffon-mvc-async-" + THREAD_NUMBER.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Nonnull
+    @Override
+    public MVCGroupManager getMvcGroupManager() {
+        return (MVCGroupManager) getHandler();
+    }
+
+    @Nonnull
+    @Override
+    public AsyncMVCHandler forHandler(@Nonnull MVCHandler handler) {
+        return new DefaultAsyncMVCHandler(handler, getExecutor());
+    }
+}
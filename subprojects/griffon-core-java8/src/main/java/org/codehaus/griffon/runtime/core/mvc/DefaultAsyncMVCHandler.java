@@ -0,0 +1,130 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.mvc;
+
+import griffon.core.mvc.AsyncMVCHandler;
+import griffon.core.mvc.MVCGroup;
+import griffon.core.mvc.MVCHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import static griffon.core.GriffonExceptionHandler.sanitize;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Creates MVC groups on an {@code Executor} by delegating to an {@code MVCHandler}.
+ * Views are still initialized inside the UI thread by the {@code MVCGroupManager}.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class DefaultAsyncMVCHandler implements AsyncMVCHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultAsyncMVCHandler.class);
+
+    private final MVCHandler handler;
+    private final Executor executor;
+
+    public DefaultAsyncMVCHandler(@Nonnull MVCHandler handler, @Nonnull Executor executor) {
+        this.handler = requireNonNull(handler, "Argument 'handler' must not be null");
+        this.executor = requireNonNull(executor, "Argument 'executor' must not be null");
+    }
+
+    @Nonnull
+    protected MVCHandler getHandler() {
+        return handler;
+    }
+
+    @Nonnull
+    protected Executor getExecutor() {
+        return executor;
+    }
+
+    @Nonnull
+    @Override
+    public CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType) {
+        return createAsync(() -> handler.createMVCGroup(mvcType));
+    }
+
+    @Nonnull
+    @Override
+    public CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType, @Nonnull String mvcId) {
+        return createAsync(() -> handler.createMVCGroup(mvcType, mvcId));
+    }
+
+    @Nonnull
+    @Override
+    public CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull Map<String, Object> args, @Nonnull String mvcType) {
+        return createAsync(() -> handler.createMVCGroup(args, mvcType));
+    }
+
+    @Nonnull
+    @Override
+    public CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType, @Nonnull Map<String, Object> args) {
+        return createAsync(() -> handler.createMVCGroup(mvcType, args));
+    }
+
+    @Nonnull
+    @Override
+    public CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull Map<String, Object> args, @Nonnull String mvcType, @Nonnull String mvcId) {
+        return createAsync(() -> handler.createMVCGroup(args, mvcType, mvcId));
+    }
+
+    @Nonnull
+    @Override
+    public CompletionStage<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType, @Nonnull String mvcId, @Nonnull Map<String, Object> args) {
+        return createAsync(() -> handler.createMVCGroup(mvcType, mvcId, args));
+    }
+
+    @Nonnull
+    protected CompletionStage<MVCGroup> createAsync(@Nonnull Supplier<MVCGroup> factory) {
+        CompletableFuture<MVCGroup> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> build(factory, future));
+        } catch (RejectedExecutionException e) {
+            // the executor was shut down or is saturated, report it through the stage like any other failure
+            future.completeExceptionally(sanitize(e));
+        }
+        return future;
+    }
+
+    private void build(@Nonnull Supplier<MVCGroup> factory, @Nonnull CompletableFuture<MVCGroup> future) {
+        if (future.isDone()) {
+            // cancelled before building started
+            return;
+        }
+
+        MVCGroup group;
+        try {
+            group = factory.get();
+        } catch (Throwable t) {
+            future.completeExceptionally(sanitize(t));
+            return;
+        }
+
+        if (!future.complete(group)) {
+            LOG.debug("Creation of MVC group '{}' was cancelled. Destroying it.", group.getMvcId());
+            group.destroy();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.mvc
+
+import griffon.core.ExecutorServiceManager
+import griffon.core.mvc.MVCGroup
+import griffon.core.mvc.MVCGroupManager
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class DefaultAsyncMVCGroupManagerSpec extends Specification {
+    void "Groups are created asynchronously"() {
+        given:
+        MVCGroup group = Stub(MVCGroup)
+        MVCGroupManager mvcGroupManager = Stub(MVCGroupManager) {
+            createMVCGroup('sample', [key: 'value']) >> group
+        }
+        DefaultAsyncMVCGroupManager manager = new DefaultAsyncMVCGroupManager(mvcGroupManager, Stub(ExecutorServiceManager))
+
+        when:
+        MVCGroup result = manager.createMVCGroupAsync('sample', [key: 'value']).toCompletableFuture().get(10, TimeUnit.SECONDS)
+
+        then:
+        result.is(group)
+    }
+
+    void "Failures are propagated through the returned stage"() {
+        given:
+        IllegalStateException failure = new IllegalStateException('boom')
+        MVCGroupManager mvcGroupManager = Stub(MVCGroupManager) {
+            createMVCGroup('sample') >> { throw failure }
+        }
+        DefaultAsyncMVCGroupManager manager = new DefaultAsyncMVCGroupManager(mvcGroupManager, Stub(ExecutorServiceManager))
+
+        when:
+        manager.createMVCGroupAsync('sample').toCompletableFuture().get(10, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause.is(failure)
+    }
+
+    void "Groups are built on a dedicated executor registered with the ExecutorServiceManager"() {
+        given:
+        String threadName = null
+        MVCGroupManager mvcGroupManager = Stub(MVCGroupManager) {
+            createMVCGroup('sample') >> {
+                threadName = Thread.currentThread().name
+                Stub(MVCGroup)
+            }
+        }
+        ExecutorServiceManager executorServiceManager = Mock(ExecutorServiceManager)
+
+        when:
+        DefaultAsyncMVCGroupManager manager = new DefaultAsyncMVCGroupManager(mvcGroupManager, executorServiceManager)
+        manager.createMVCGroupAsync('sample').toCompletableFuture().get(10, TimeUnit.SECONDS)
+
+        then:
+        1 * executorServiceManager.add({ it instanceof ExecutorService && it.is(manager.executor) })
+        threadName.startsWith('griffon-mvc-async-')
+    }
+
+    void "Groups whose stage was cancelled while being built are destroyed"() {
+        given:
+        MVCGroup group = Mock(MVCGroup)
+        CompletableFuture<MVCGroup> stage = null
+        MVCGroupManager mvcGroupManager = Stub(MVCGroupManager) {
+            createMVCGroup('sample') >> {
+                stage.cancel(false)
+                group
+            }
+        }
+        List<Runnable> tasks = []
+        ExecutorService executorService = Stub(ExecutorService) {
+            execute(_) >> { Runnable task -> tasks << task }
+        }
+        DefaultAsyncMVCGroupManager manager = new DefaultAsyncMVCGroupManager(mvcGroupManager, executorService)
+
+        when:
+        stage = manager.createMVCGroupAsync('sample').toCompletableFuture()
+        tasks*.run()
+
+        then:
+        stage.cancelled
+        1 * group.destroy()
+    }
+
+    void "Rejected submissions fail the returned stage"() {
+        given:
+        MVCGroupManager mvcGroupManager = Mock(MVCGroupManager)
+        ExecutorService executorService = Executors.newSingleThreadExecutor()
+        executorService.shutdown()
+        DefaultAsyncMVCGroupManager manager = new DefaultAsyncMVCGroupManager(mvcGroupManager, executorService)
+
+        when:
+        CompletableFuture<MVCGroup> stage = manager.createMVCGroupAsync('sample').toCompletableFuture()
+
+        then:
+        stage.completedExceptionally
+        0 * mvcGroupManager.createMVCGroup(_)
+
+        when:
+        stage.get()
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof RejectedExecutionException
+    }
+}
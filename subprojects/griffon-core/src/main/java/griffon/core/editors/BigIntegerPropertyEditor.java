@@ -21,6 +21,7 @@ import griffon.core.formatters.Formatter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -59,6 +60,6 @@ public class BigIntegerPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<BigInteger> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new BigIntegerFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(BigIntegerFormatter.class, getFormat());
     }
 }
@@ -18,6 +18,7 @@ package griffon.core.editors;
 import griffon.core.formatters.ByteFormatter;
 import griffon.core.formatters.Formatter;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -50,6 +51,6 @@ public class BytePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Byte> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new ByteFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(ByteFormatter.class, getFormat());
     }
 }
@@ -23,6 +23,7 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -74,6 +75,6 @@ public class CalendarPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Calendar> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new CalendarFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(CalendarFormatter.class, getFormat());
     }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.editors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Converts values of a source type into values of a target type.
+ * <p>
+ * Unlike {@code PropertyEditor}s, converters hold no conversion state. A single instance
+ * is shared by every thread, which means implementations must be thread-safe.
+ *
+ * @param <S> the source type
+ * @param <T> the target type
+ * @author Andres Almiray
+ * @see ConverterRegistry
+ * @since 2.8.0
+ */
+public interface Converter<S, T> {
+    /**
+     * Returns the type of the values this converter accepts. Subtypes are accepted too.
+     *
+     * @return the source type of this converter.
+     */
+    @Nonnull
+    Class<S> getSourceType();
+
+    /**
+     * Returns the type of the values this converter produces.
+     *
+     * @return the target type of this converter.
+     */
+    @Nonnull
+    Class<T> getTargetType();
+
+    /**
+     * Converts the given value.
+     *
+     * @param value the value to be converted
+     * @return the converted value. May be {@code null}.
+     * @throws ValueConversionException if the value can not be converted
+     */
+    @Nullable
+    T convert(@Nonnull S value);
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.editors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static griffon.util.MethodUtils.toNonPrimitiveClass;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps track of all registered {@code Converter}s and resolves conversion paths between
+ * a pair of types. A path is either a single converter or two converters applied in sequence,
+ * for example {@code String -> Integer -> Color}.
+ * <p>
+ * Paths are computed once per pair of types, including pairs that can not be converted, and
+ * recomputed only when converter registrations change. Paths involving types or converters that
+ * are not visible from the class loader of the source type are kept apart and discarded whenever
+ * registrations change, thus bootstrap types such as {@code String} never keep application
+ * classes reachable.
+ *
+ * @author Andres Almiray
+ * @see Converter
+ * @since 2.8.0
+ */
+public final class ConverterRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(ConverterRegistry.class);
+    private static final Object LOCK = new Object[0];
+    private static final String ERROR_CONVERTER_NULL = "Argument 'converter' must not be null";
+    private static final String ERROR_SOURCE_TYPE_NULL = "Argument 'sourceType' must not be null";
+    private static final String ERROR_TARGET_TYPE_NULL = "Argument 'targetType' must not be null";
+
+    @GuardedBy("LOCK")
+    private static final List<Converter<?, ?>> converters = new ArrayList<>();
+    private static volatile List<Converter<?, ?>> snapshot = Collections.emptyList();
+    private static volatile int registryVersion;
+
+    private static final ClassValue<ConcurrentMap<Class<?>, ConversionPath>> PATHS = new ClassValue<ConcurrentMap<Class<?>, ConversionPath>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, ConversionPath> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final ConcurrentMap<TypePair, ConversionPath> FOREIGN_PATHS = new ConcurrentHashMap<>();
+
+    private ConverterRegistry() {
+
+    }
+
+    /**
+     * Removes all currently registered converters.
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            converters.clear();
+            updateSnapshot();
+        }
+    }
+
+    /**
+     * Registers a converter. Converters registered first take precedence when more than one
+     * converter can handle the same pair of types. A converter of the same class and types as
+     * an already registered one replaces it, keeping its precedence.
+     *
+     * @param converter the converter to register
+     */
+    public static void registerConverter(@Nonnull Converter<?, ?> converter) {
+        requireNonNull(converter, ERROR_CONVERTER_NULL);
+        requireNonNull(converter.getSourceType(), ERROR_SOURCE_TYPE_NULL);
+        requireNonNull(converter.getTargetType(), ERROR_TARGET_TYPE_NULL);
+        synchronized (LOCK) {
+            for (int i = 0; i < converters.size(); i++) {
+                Converter<?, ?> registered = converters.get(i);
+                if (registered == converter) {
+                    return;
+                }
+                if (registered.getClass() == converter.getClass() &&
+                    registered.getSourceType() == converter.getSourceType() &&
+                    registered.getTargetType() == converter.getTargetType()) {
+                    converters.set(i, converter);
+                    updateSnapshot();
+                    return;
+                }
+            }
+            converters.add(converter);
+            updateSnapshot();
+        }
+    }
+
+    /**
+     * Unregisters a converter.
+     *
+     * @param converter the converter to unregister
+     */
+    public static void unregisterConverter(@Nonnull Converter<?, ?> converter) {
+        requireNonNull(converter, ERROR_CONVERTER_NULL);
+        synchronized (LOCK) {
+            if (converters.remove(converter)) {
+                updateSnapshot();
+            }
+        }
+    }
+
+    /**
+     * Locates a converter, or a pair of chained converters, that turns values of
+     * {@code sourceType} into values of {@code targetType}.
+     *
+     * @param sourceType the type of the values to be converted
+     * @param targetType the type of the converted values
+     * @return a converter for the given types. The result is {@code null} if no suitable
+     * converters can be found.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> Converter<Object, T> findConverter(@Nonnull Class<?> sourceType, @Nonnull Class<T> targetType) {
+        requireNonNull(sourceType, ERROR_SOURCE_TYPE_NULL);
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+
+        int version = registryVersion;
+        if (version == 0) {
+            // nothing was ever registered
+            return null;
+        }
+
+        ConcurrentMap<Class<?>, ConversionPath> paths = PATHS.get(sourceType);
+        ConversionPath path = paths.get(targetType);
+        if (path == null) {
+            path = FOREIGN_PATHS.get(new TypePair(sourceType, targetType));
+        }
+        if (path == null || path.version != version) {
+            path = new ConversionPath(version, resolvePath(snapshot, sourceType, targetType));
+            if (isCacheable(sourceType, targetType, path.converter)) {
+                paths.put(targetType, path);
+            } else {
+                paths.remove(targetType);
+                FOREIGN_PATHS.put(new TypePair(sourceType, targetType), path);
+                if (version != registryVersion) {
+                    // registrations changed meanwhile, do not keep the outdated path around
+                    FOREIGN_PATHS.remove(new TypePair(sourceType, targetType), path);
+                }
+            }
+        }
+        return (Converter<Object, T>) path.converter;
+    }
+
+    /**
+     * Returns whether the given converter, as returned by {@link #findConverter(Class, Class)},
+     * chains two registered converters.
+     *
+     * @param converter the converter to inspect
+     * @return {@code true} if the converter applies two converters in sequence.
+     */
+    public static boolean isChained(@Nonnull Converter<?, ?> converter) {
+        requireNonNull(converter, ERROR_CONVERTER_NULL);
+        return converter instanceof ChainedConverter;
+    }
+
+    @GuardedBy("LOCK")
+    private static void updateSnapshot() {
+        snapshot = Collections.unmodifiableList(new ArrayList<>(converters));
+        registryVersion++;
+        FOREIGN_PATHS.clear();
+    }
+
+    /**
+     * Whether the target type and the classes of the converters are visible from the class loader
+     * of the source type. Caching other paths with the source type would keep them reachable for
+     * as long as the source type is alive.
+     */
+    private static boolean isCacheable(@Nonnull Class<?> sourceType, @Nonnull Class<?> targetType, @Nullable Converter<?, ?> converter) {
+        ClassLoader classLoader = sourceType.getClassLoader();
+        if (!isVisible(classLoader, targetType)) {
+            return false;
+        }
+        if (converter instanceof ChainedConverter) {
+            ChainedConverter chained = (ChainedConverter) converter;
+            return isVisible(classLoader, chained.first.getClass()) && isVisible(classLoader, chained.second.getClass());
+        }
+        return converter == null || isVisible(classLoader, converter.getClass());
+    }
+
+    private static boolean isVisible(@Nullable ClassLoader classLoader, @Nonnull Class<?> type) {
+        ClassLoader typeClassLoader = type.getClassLoader();
+        if (typeClassLoader == null) {
+            return true;
+        }
+        for (ClassLoader cl = classLoader; cl != null; cl = cl.getParent()) {
+            if (cl == typeClassLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static Converter<?, ?> resolvePath(@Nonnull List<Converter<?, ?>> converters, @Nonnull Class<?> sourceType, @Nonnull Class<?> targetType) {
+        Class<?> source = toNonPrimitiveClass(sourceType);
+        Class<?> target = toNonPrimitiveClass(targetType);
+
+        // direct conversions, those declaring the exact source type first
+        Converter<?, ?> candidate = null;
+        for (Converter<?, ?> converter : converters) {
+            if (target.isAssignableFrom(toNonPrimitiveClass(converter.getTargetType()))) {
+                Class<?> converterSource = toNonPrimitiveClass(converter.getSourceType());
+                if (converterSource == source) {
+                    return converter;
+                } else if (candidate == null && converterSource.isAssignableFrom(source)) {
+                    candidate = converter;
+                }
+            }
+        }
+        if (candidate != null) {
+            return candidate;
+        }
+
+        // two step conversions
+        for (Converter<?, ?> first : converters) {
+            if (!toNonPrimitiveClass(first.getSourceType()).isAssignableFrom(source)) {
+                continue;
+            }
+            Class<?> intermediate = toNonPrimitiveClass(first.getTargetType());
+            for (Converter<?, ?> second : converters) {
+                if (second != first &&
+                    toNonPrimitiveClass(second.getSourceType()).isAssignableFrom(intermediate) &&
+                    target.isAssignableFrom(toNonPrimitiveClass(second.getTargetType()))) {
+                    LOG.trace("Converting {} to {} with {} and {}", sourceType.getName(), targetType.getName(), first, second);
+                    return new ChainedConverter((Converter<Object, Object>) first, (Converter<Object, Object>) second);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static final class ConversionPath {
+        private final int version;
+        private final Converter<?, ?> converter;
+
+        private ConversionPath(int version, @Nullable Converter<?, ?> converter) {
+            this.version = version;
+            this.converter = converter;
+        }
+    }
+
+    private static final class TypePair {
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+
+        private TypePair(@Nonnull Class<?> sourceType, @Nonnull Class<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TypePair)) return false;
+            TypePair other = (TypePair) o;
+            return sourceType == other.sourceType && targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sourceType.hashCode() + targetType.hashCode();
+        }
+    }
+
+    private static final class ChainedConverter implements Converter<Object, Object> {
+        private final Converter<Object, Object> first;
+        private final Converter<Object, Object> second;
+
+        private ChainedConverter(@Nonnull Converter<Object, Object> first, @Nonnull Converter<Object, Object> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Nonnull
+        @Override
+        public Class<Object> getSourceType() {
+            return first.getSourceType();
+        }
+
+        @Nonnull
+        @Override
+        public Class<Object> getTargetType() {
+            return second.getTargetType();
+        }
+
+        @Nullable
+        @Override
+        public Object convert(@Nonnull Object value) {
+            Object intermediate = first.convert(value);
+            return intermediate != null ? second.convert(intermediate) : null;
+        }
+
+        @Override
+        public String toString() {
+            return first + " -> " + second;
+        }
+    }
+}
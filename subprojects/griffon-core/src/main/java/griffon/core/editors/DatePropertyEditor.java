@@ -23,6 +23,7 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -67,6 +68,6 @@ public class DatePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Date> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new DateFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(DateFormatter.class, getFormat());
     }
 }
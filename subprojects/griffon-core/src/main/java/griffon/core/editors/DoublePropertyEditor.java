@@ -18,6 +18,7 @@ package griffon.core.editors;
 import griffon.core.formatters.DoubleFormatter;
 import griffon.core.formatters.Formatter;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -50,6 +51,6 @@ public class DoublePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Double> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new DoubleFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(DoubleFormatter.class, getFormat());
     }
 }
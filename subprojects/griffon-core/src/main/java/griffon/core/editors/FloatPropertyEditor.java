@@ -18,6 +18,7 @@ package griffon.core.editors;
 import griffon.core.formatters.FloatFormatter;
 import griffon.core.formatters.Formatter;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -50,6 +51,6 @@ public class FloatPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Float> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new FloatFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(FloatFormatter.class, getFormat());
     }
 }
@@ -18,6 +18,7 @@ package griffon.core.editors;
 import griffon.core.formatters.Formatter;
 import griffon.core.formatters.IntegerFormatter;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -50,6 +51,6 @@ public class IntegerPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Integer> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new IntegerFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(IntegerFormatter.class, getFormat());
     }
 }
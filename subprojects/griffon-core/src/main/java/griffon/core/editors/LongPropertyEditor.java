@@ -18,6 +18,7 @@ package griffon.core.editors;
 import griffon.core.formatters.Formatter;
 import griffon.core.formatters.LongFormatter;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -50,6 +51,6 @@ public class LongPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Long> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LongFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(LongFormatter.class, getFormat());
     }
 }
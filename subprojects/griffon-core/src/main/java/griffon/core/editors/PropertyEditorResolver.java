@@ -24,12 +24,16 @@ import javax.annotation.concurrent.GuardedBy;
 import java.beans.PropertyEditor;
 import java.beans.PropertyEditorManager;
 import java.beans.PropertyEditorSupport;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
 
+import static java.lang.reflect.Modifier.isPublic;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -49,6 +53,18 @@ public final class PropertyEditorResolver {
     @GuardedBy("LOCK")
     private static final Map<String, PropertyEditorChain> propertyEditorChainRegistry = new LinkedHashMap<>();
     private static final String ERROR_TARGET_TYPE_NULL = "Argument 'targetType' must not be null";
+    private static final MethodType EDITOR_CONSTRUCTOR = MethodType.methodType(void.class);
+    private static final MethodType EDITOR_FACTORY = MethodType.methodType(PropertyEditor.class);
+
+    // bumped whenever registrations change; stale factories are recomputed on their next use
+    private static volatile int registryVersion;
+
+    private static final ClassValue<EditorFactoryHolder> EDITOR_FACTORIES = new ClassValue<EditorFactoryHolder>() {
+        @Override
+        protected EditorFactoryHolder computeValue(Class<?> type) {
+            return new EditorFactoryHolder();
+        }
+    };
 
     private PropertyEditorResolver() {
 
@@ -63,6 +79,7 @@ public final class PropertyEditorResolver {
         synchronized (LOCK) {
             propertyEditorRegistry.clear();
             propertyEditorChainRegistry.clear();
+            registryVersion++;
         }
     }
 
@@ -71,6 +88,10 @@ public final class PropertyEditorResolver {
      * <p>
      * If the input {@code type} is an Enum then an instance of {@code EnumPropertyEditor}
      * is returned with the {@code type} set as {@code enumType}.
+     * <p>
+     * The way editors are created is computed once per type and kept until editor
+     * registrations change, thus this method neither locks nor relies on reflection
+     * in the common case. A new editor instance is returned on every call.
      *
      * @param type The Class object for the type to be edited
      * @return An editor object for the given target class.
@@ -83,22 +104,7 @@ public final class PropertyEditorResolver {
         requireNonNull(type, "Argument 'type' must not be  null");
         LOG.trace("Searching PropertyEditor for {}", type.getName());
 
-        PropertyEditor editor;
-        if (Enum.class.isAssignableFrom(type)) {
-            editor = new EnumPropertyEditor();
-            ((EnumPropertyEditor) editor).setEnumType((Class<? extends Enum<?>>) type);
-        } else {
-            editor = doFindEditor(type);
-        }
-
-        if (editor == null) {
-            // fallback
-            editor = PropertyEditorManager.findEditor(type);
-        }
-
-        if (editor == null) {
-            editor = new NoopPropertyEditor();
-        }
+        PropertyEditor editor = resolveEditorFactory(type).newEditor(type);
 
         LOG.trace("PropertyEditor for {} is {}", type.getName(), editor.getClass().getName());
         return editor;
@@ -116,6 +122,7 @@ public final class PropertyEditorResolver {
             String targetTypeName = targetType.getName();
             propertyEditorChainRegistry.remove(targetTypeName);
             propertyEditorRegistry.remove(targetTypeName);
+            registryVersion++;
         }
     }
 
@@ -136,6 +143,7 @@ public final class PropertyEditorResolver {
     public static void registerEditor(@Nonnull Class<?> targetType, @Nullable Class<? extends PropertyEditor> editorClass) {
         requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
         synchronized (LOCK) {
+            registryVersion++;
             String targetTypeName = targetType.getName();
             if (editorClass == null) {
                 propertyEditorChainRegistry.remove(targetTypeName);
@@ -179,30 +187,153 @@ public final class PropertyEditorResolver {
         }
     }
 
-    private static PropertyEditor doFindEditor(Class<?> targetType) {
+    @Nonnull
+    private static EditorFactory resolveEditorFactory(@Nonnull Class<?> type) {
+        EditorFactoryHolder holder = EDITOR_FACTORIES.get(type);
+        EditorFactoryEntry entry = holder.entry;
+        int version = registryVersion;
+        if (entry == null || entry.version != version) {
+            entry = new EditorFactoryEntry(version, createEditorFactory(type));
+            holder.entry = entry;
+        }
+        return entry.factory;
+    }
+
+    @Nonnull
+    private static EditorFactory createEditorFactory(@Nonnull Class<?> type) {
+        if (Enum.class.isAssignableFrom(type)) {
+            return ENUM_EDITOR_FACTORY;
+        }
+
         synchronized (LOCK) {
-            String targetTypeName = targetType.getName();
-            if (propertyEditorChainRegistry.containsKey(targetTypeName)) {
-                PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
-                return chain.copyOf();
-            } else {
-                Class<?> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
-                if (propertyEditorType != null) {
-                    try {
-                        return (PropertyEditor) propertyEditorType.newInstance();
-                    } catch (InstantiationException | IllegalAccessException e) {
-                        throw new IllegalStateException("Can't instantiate " + propertyEditorType, e);
+            String targetTypeName = type.getName();
+            final PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
+            if (chain != null) {
+                return new EditorFactory() {
+                    @Nonnull
+                    @Override
+                    public PropertyEditor newEditor(@Nonnull Class<?> targetType) {
+                        return chain.copyOf();
                     }
+                };
+            }
+
+            Class<? extends PropertyEditor> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
+            if (propertyEditorType != null) {
+                return constructorFactory(propertyEditorType);
+            }
+        }
+
+        // fallback
+        PropertyEditor editor = PropertyEditorManager.findEditor(type);
+        if (editor != null) {
+            EditorFactory factory = publicConstructorFactory(editor.getClass());
+            return factory != null ? factory : PROPERTY_EDITOR_MANAGER_FACTORY;
+        }
+
+        return NOOP_EDITOR_FACTORY;
+    }
+
+    @Nonnull
+    private static EditorFactory constructorFactory(@Nonnull final Class<? extends PropertyEditor> editorClass) {
+        EditorFactory factory = publicConstructorFactory(editorClass);
+        if (factory != null) {
+            return factory;
+        }
+        return new EditorFactory() {
+            @Nonnull
+            @Override
+            public PropertyEditor newEditor(@Nonnull Class<?> targetType) {
+                try {
+                    return editorClass.newInstance();
+                } catch (InstantiationException | IllegalAccessException e) {
+                    throw new IllegalStateException("Can't instantiate " + editorClass, e);
                 }
             }
+        };
+    }
+
+    @Nullable
+    private static EditorFactory publicConstructorFactory(@Nonnull final Class<? extends PropertyEditor> editorClass) {
+        if (!isPublic(editorClass.getModifiers())) {
+            return null;
+        }
+
+        final MethodHandle constructor;
+        try {
+            constructor = MethodHandles.publicLookup()
+                .findConstructor(editorClass, EDITOR_CONSTRUCTOR)
+                .asType(EDITOR_FACTORY);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
         }
-        return null;
+
+        return new EditorFactory() {
+            @Nonnull
+            @Override
+            public PropertyEditor newEditor(@Nonnull Class<?> targetType) {
+                try {
+                    return (PropertyEditor) constructor.invokeExact();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Can't instantiate " + editorClass, t);
+                }
+            }
+        };
     }
 
     public static final class NoopPropertyEditor extends PropertyEditorSupport {
 
     }
 
+    private interface EditorFactory {
+        @Nonnull
+        PropertyEditor newEditor(@Nonnull Class<?> targetType);
+    }
+
+    private static final EditorFactory ENUM_EDITOR_FACTORY = new EditorFactory() {
+        @Nonnull
+        @Override
+        @SuppressWarnings("unchecked")
+        public PropertyEditor newEditor(@Nonnull Class<?> targetType) {
+            EnumPropertyEditor editor = new EnumPropertyEditor();
+            editor.setEnumType((Class<? extends Enum<?>>) targetType);
+            return editor;
+        }
+    };
+
+    private static final EditorFactory PROPERTY_EDITOR_MANAGER_FACTORY = new EditorFactory() {
+        @Nonnull
+        @Override
+        public PropertyEditor newEditor(@Nonnull Class<?> targetType) {
+            PropertyEditor editor = PropertyEditorManager.findEditor(targetType);
+            return editor != null ? editor : new NoopPropertyEditor();
+        }
+    };
+
+    private static final EditorFactory NOOP_EDITOR_FACTORY = new EditorFactory() {
+        @Nonnull
+        @Override
+        public PropertyEditor newEditor(@Nonnull Class<?> targetType) {
+            return new NoopPropertyEditor();
+        }
+    };
+
+    private static final class EditorFactoryHolder {
+        private volatile EditorFactoryEntry entry;
+    }
+
+    private static final class EditorFactoryEntry {
+        private final int version;
+        private final EditorFactory factory;
+
+        private EditorFactoryEntry(int version, @Nonnull EditorFactory factory) {
+            this.version = version;
+            this.factory = factory;
+        }
+    }
+
     private static final class WeakCache<K, V> {
         private final Map<K, Reference<V>> map = new WeakHashMap<>();
 
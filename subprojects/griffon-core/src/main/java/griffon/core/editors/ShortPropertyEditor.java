@@ -18,6 +18,7 @@ package griffon.core.editors;
 import griffon.core.formatters.Formatter;
 import griffon.core.formatters.ShortFormatter;
 
+import static griffon.core.formatters.FormatterRegistry.getFormatter;
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -50,6 +51,6 @@ public class ShortPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Short> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new ShortFormatter(getFormat());
+        return isBlank(getFormat()) ? null : getFormatter(ShortFormatter.class, getFormat());
     }
 }
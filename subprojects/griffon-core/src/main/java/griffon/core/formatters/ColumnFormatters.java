@@ -0,0 +1,431 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Formats whole columns of primitive values, for example when rendering large tables or
+ * exporting them to CSV.
+ * <p>
+ * Values are never boxed, and a single buffer is reused for every value of a column.
+ * Allocation is limited to the output. The fixed decimal and ISO-8601 formatters do not
+ * rely on {@code java.text} at all. Use {@link #ofNumberFormat} and {@link #ofDateFormat}
+ * for any other pattern.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public final class ColumnFormatters {
+    private static final String ERROR_VALUES_NULL = "Argument 'values' must not be null";
+    private static final String ERROR_FORMATTER_NULL = "Argument 'formatter' must not be null";
+    private static final String ERROR_OUTPUT_NULL = "Argument 'output' must not be null";
+    private static final String ERROR_BUFFER_NULL = "Argument 'buffer' must not be null";
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L
+    };
+
+    private static final LongColumnFormatter INTEGER = new LongColumnFormatter() {
+        @Override
+        public void appendTo(@Nonnull StringBuilder buffer, long value) {
+            buffer.append(value);
+        }
+    };
+
+    private ColumnFormatters() {
+
+    }
+
+    // -- formatters
+
+    /**
+     * Formats values as plain integers, without grouping separators.
+     */
+    @Nonnull
+    public static LongColumnFormatter integer() {
+        return INTEGER;
+    }
+
+    /**
+     * Formats values with a fixed number of fraction digits and no grouping separators, as the
+     * pattern {@code "0.00"} would for two digits. Like {@code DecimalFormat}, values are rounded
+     * half-even based on their exact binary value and negative values keep their sign even when
+     * they round to zero, thus {@code -0.001} is formatted as {@code "-0.00"}. The returned
+     * formatter is thread-safe.
+     *
+     * @param fractionDigits number of fraction digits, between 0 and 9
+     */
+    @Nonnull
+    public static DoubleColumnFormatter fixedDecimal(final int fractionDigits) {
+        if (fractionDigits < 0 || fractionDigits >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Argument 'fractionDigits' must be between 0 and " + (POWERS_OF_TEN.length - 1));
+        }
+        final long scale = POWERS_OF_TEN[fractionDigits];
+        // largest value that can be scaled without overflowing a long
+        final double limit = (double) (Long.MAX_VALUE / scale);
+
+        return new DoubleColumnFormatter() {
+            @Override
+            public void appendTo(@Nonnull StringBuilder buffer, double value) {
+                if (Double.isNaN(value)) {
+                    buffer.append("NaN");
+                    return;
+                }
+                double abs = Math.abs(value);
+                if (abs >= limit) {
+                    // infinite or too large to be handled with longs
+                    if (Double.isInfinite(value)) {
+                        buffer.append(value < 0 ? "-Infinity" : "Infinity");
+                    } else {
+                        buffer.append(new BigDecimal(value).setScale(fractionDigits, RoundingMode.HALF_EVEN).toPlainString());
+                    }
+                    return;
+                }
+
+                double product = abs * scale;
+                long scaled = (long) product;
+                double fraction = product - scaled;
+                if (Math.abs(fraction - 0.5d) <= 2 * Math.ulp(product)) {
+                    // the product may have been rounded into or out of a tie, settle it exactly
+                    scaled = new BigDecimal(abs).setScale(fractionDigits, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+                } else if (fraction > 0.5d) {
+                    scaled++;
+                }
+                if (Double.doubleToRawLongBits(value) < 0) {
+                    // negative values that round to zero, and -0.0, keep their sign
+                    buffer.append('-');
+                }
+                buffer.append(scaled / scale);
+                if (fractionDigits > 0) {
+                    buffer.append('.');
+                    appendPadded(buffer, scaled % scale, fractionDigits);
+                }
+            }
+        };
+    }
+
+    /**
+     * Formats epoch milliseconds as ISO-8601 dates ({@code yyyy-MM-dd}) in UTC.
+     */
+    @Nonnull
+    public static LongColumnFormatter isoDate() {
+        return isoDate(TimeZone.getTimeZone("UTC"));
+    }
+
+    /**
+     * Formats epoch milliseconds as ISO-8601 dates ({@code yyyy-MM-dd}) in the given time zone.
+     * The returned formatter is thread-safe.
+     */
+    @Nonnull
+    public static LongColumnFormatter isoDate(@Nonnull final TimeZone timeZone) {
+        requireNonNull(timeZone, "Argument 'timeZone' must not be null");
+        return new LongColumnFormatter() {
+            @Override
+            public void appendTo(@Nonnull StringBuilder buffer, long value) {
+                appendDate(buffer, floorDiv(value + timeZone.getOffset(value), MILLIS_PER_DAY));
+            }
+        };
+    }
+
+    /**
+     * Formats epoch milliseconds as ISO-8601 date times ({@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'}) in UTC.
+     */
+    @Nonnull
+    public static LongColumnFormatter isoDateTime() {
+        return isoDateTime(TimeZone.getTimeZone("UTC"));
+    }
+
+    /**
+     * Formats epoch milliseconds as ISO-8601 date times ({@code yyyy-MM-dd'T'HH:mm:ss.SSSXXX})
+     * in the given time zone. The returned formatter is thread-safe.
+     */
+    @Nonnull
+    public static LongColumnFormatter isoDateTime(@Nonnull final TimeZone timeZone) {
+        requireNonNull(timeZone, "Argument 'timeZone' must not be null");
+        return new LongColumnFormatter() {
+            @Override
+            public void appendTo(@Nonnull StringBuilder buffer, long value) {
+                int offset = timeZone.getOffset(value);
+                long local = value + offset;
+                long days = floorDiv(local, MILLIS_PER_DAY);
+                long millisOfDay = local - days * MILLIS_PER_DAY;
+
+                appendDate(buffer, days);
+                buffer.append('T');
+                appendPadded(buffer, millisOfDay / 3600000L, 2);
+                buffer.append(':');
+                appendPadded(buffer, (millisOfDay / 60000L) % 60, 2);
+                buffer.append(':');
+                appendPadded(buffer, (millisOfDay / 1000L) % 60, 2);
+                buffer.append('.');
+                appendPadded(buffer, millisOfDay % 1000L, 3);
+                appendOffset(buffer, offset);
+            }
+        };
+    }
+
+    /**
+     * Adapts a {@code NumberFormat} for columns of {@code long} values. The returned formatter is
+     * not thread-safe.
+     */
+    @Nonnull
+    public static LongColumnFormatter ofNumberFormat(@Nonnull NumberFormat numberFormat) {
+        final NumberFormatAdapter adapter = new NumberFormatAdapter(numberFormat);
+        return new LongColumnFormatter() {
+            @Override
+            public void appendTo(@Nonnull StringBuilder buffer, long value) {
+                adapter.appendTo(buffer, value);
+            }
+        };
+    }
+
+    /**
+     * Adapts a {@code NumberFormat} for columns of {@code double} values. The returned formatter is
+     * not thread-safe.
+     */
+    @Nonnull
+    public static DoubleColumnFormatter ofDecimalFormat(@Nonnull NumberFormat numberFormat) {
+        final NumberFormatAdapter adapter = new NumberFormatAdapter(numberFormat);
+        return new DoubleColumnFormatter() {
+            @Override
+            public void appendTo(@Nonnull StringBuilder buffer, double value) {
+                adapter.appendTo(buffer, value);
+            }
+        };
+    }
+
+    /**
+     * Adapts a {@code DateFormat} for columns of epoch milliseconds. The returned formatter is
+     * not thread-safe.
+     */
+    @Nonnull
+    public static LongColumnFormatter ofDateFormat(@Nonnull final DateFormat dateFormat) {
+        requireNonNull(dateFormat, "Argument 'dateFormat' must not be null");
+        return new LongColumnFormatter() {
+            private final Date date = new Date();
+            private final StringBuffer scratch = new StringBuffer();
+            private final FieldPosition position = new FieldPosition(0);
+
+            @Override
+            public void appendTo(@Nonnull StringBuilder buffer, long value) {
+                date.setTime(value);
+                scratch.setLength(0);
+                dateFormat.format(date, scratch, position);
+                buffer.append(scratch);
+            }
+        };
+    }
+
+    // -- bulk operations
+
+    /**
+     * Formats all values into a new array.
+     */
+    @Nonnull
+    public static String[] format(@Nonnull long[] values, @Nonnull LongColumnFormatter formatter) {
+        requireNonNull(values, ERROR_VALUES_NULL);
+        String[] output = new String[values.length];
+        format(values, 0, values.length, formatter, output, 0);
+        return output;
+    }
+
+    /**
+     * Formats {@code length} values starting at {@code offset} into {@code output}, starting
+     * at {@code outputOffset}.
+     */
+    public static void format(@Nonnull long[] values, int offset, int length, @Nonnull LongColumnFormatter formatter, @Nonnull String[] output, int outputOffset) {
+        requireNonNull(values, ERROR_VALUES_NULL);
+        requireNonNull(formatter, ERROR_FORMATTER_NULL);
+        requireNonNull(output, ERROR_OUTPUT_NULL);
+        checkRange(values.length, offset, length);
+        checkRange(output.length, outputOffset, length);
+
+        StringBuilder buffer = new StringBuilder(32);
+        for (int i = 0; i < length; i++) {
+            buffer.setLength(0);
+            formatter.appendTo(buffer, values[offset + i]);
+            output[outputOffset + i] = buffer.toString();
+        }
+    }
+
+    /**
+     * Formats all values into a new array.
+     */
+    @Nonnull
+    public static String[] format(@Nonnull double[] values, @Nonnull DoubleColumnFormatter formatter) {
+        requireNonNull(values, ERROR_VALUES_NULL);
+        String[] output = new String[values.length];
+        format(values, 0, values.length, formatter, output, 0);
+        return output;
+    }
+
+    /**
+     * Formats {@code length} values starting at {@code offset} into {@code output}, starting
+     * at {@code outputOffset}.
+     */
+    public static void format(@Nonnull double[] values, int offset, int length, @Nonnull DoubleColumnFormatter formatter, @Nonnull String[] output, int outputOffset) {
+        requireNonNull(values, ERROR_VALUES_NULL);
+        requireNonNull(formatter, ERROR_FORMATTER_NULL);
+        requireNonNull(output, ERROR_OUTPUT_NULL);
+        checkRange(values.length, offset, length);
+        checkRange(output.length, outputOffset, length);
+
+        StringBuilder buffer = new StringBuilder(32);
+        for (int i = 0; i < length; i++) {
+            buffer.setLength(0);
+            formatter.appendTo(buffer, values[offset + i]);
+            output[outputOffset + i] = buffer.toString();
+        }
+    }
+
+    /**
+     * Appends {@code length} values starting at {@code offset} to the given buffer, separated by
+     * {@code separator}. Callers may reuse the same buffer across columns and rows.
+     *
+     * @return the given buffer.
+     */
+    @Nonnull
+    public static StringBuilder appendTo(@Nonnull StringBuilder buffer, @Nonnull long[] values, int offset, int length, @Nonnull LongColumnFormatter formatter, char separator) {
+        requireNonNull(buffer, ERROR_BUFFER_NULL);
+        requireNonNull(values, ERROR_VALUES_NULL);
+        requireNonNull(formatter, ERROR_FORMATTER_NULL);
+        checkRange(values.length, offset, length);
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                buffer.append(separator);
+            }
+            formatter.appendTo(buffer, values[offset + i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Appends {@code length} values starting at {@code offset} to the given buffer, separated by
+     * {@code separator}. Callers may reuse the same buffer across columns and rows.
+     *
+     * @return the given buffer.
+     */
+    @Nonnull
+    public static StringBuilder appendTo(@Nonnull StringBuilder buffer, @Nonnull double[] values, int offset, int length, @Nonnull DoubleColumnFormatter formatter, char separator) {
+        requireNonNull(buffer, ERROR_BUFFER_NULL);
+        requireNonNull(values, ERROR_VALUES_NULL);
+        requireNonNull(formatter, ERROR_FORMATTER_NULL);
+        checkRange(values.length, offset, length);
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                buffer.append(separator);
+            }
+            formatter.appendTo(buffer, values[offset + i]);
+        }
+        return buffer;
+    }
+
+    // -- helpers
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", size: " + size);
+        }
+    }
+
+    private static long floorDiv(long x, long y) {
+        long r = x / y;
+        if ((x % y != 0) && ((x ^ y) < 0)) {
+            r--;
+        }
+        return r;
+    }
+
+    private static void appendPadded(@Nonnull StringBuilder buffer, long value, int width) {
+        for (int i = width - 1; i > 0 && value < POWERS_OF_TEN[i]; i--) {
+            buffer.append('0');
+        }
+        buffer.append(value);
+    }
+
+    private static void appendDate(@Nonnull StringBuilder buffer, long epochDay) {
+        // civil calendar from days since 1970-01-01, see http://howardhinnant.github.io/date_algorithms.html
+        long z = epochDay + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        long day = doy - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        // years outside 0000-9999 carry a sign, as required by ISO-8601 and done by java.time
+        if (year > 9999) {
+            buffer.append('+');
+        } else if (year < 0) {
+            buffer.append('-');
+            year = -year;
+        }
+        appendPadded(buffer, year, 4);
+        buffer.append('-');
+        appendPadded(buffer, month, 2);
+        buffer.append('-');
+        appendPadded(buffer, day, 2);
+    }
+
+    private static void appendOffset(@Nonnull StringBuilder buffer, int offsetMillis) {
+        if (offsetMillis == 0) {
+            buffer.append('Z');
+            return;
+        }
+        int minutes = Math.abs(offsetMillis) / 60000;
+        buffer.append(offsetMillis < 0 ? '-' : '+');
+        appendPadded(buffer, minutes / 60, 2);
+        buffer.append(':');
+        appendPadded(buffer, minutes % 60, 2);
+    }
+
+    private static final class NumberFormatAdapter {
+        private final NumberFormat numberFormat;
+        private final StringBuffer scratch = new StringBuffer();
+        private final FieldPosition position = new FieldPosition(0);
+
+        private NumberFormatAdapter(@Nonnull NumberFormat numberFormat) {
+            this.numberFormat = requireNonNull(numberFormat, "Argument 'numberFormat' must not be null");
+        }
+
+        private void appendTo(@Nonnull StringBuilder buffer, long value) {
+            scratch.setLength(0);
+            numberFormat.format(value, scratch, position);
+            buffer.append(scratch);
+        }
+
+        private void appendTo(@Nonnull StringBuilder buffer, double value) {
+            scratch.setLength(0);
+            numberFormat.format(value, scratch, position);
+            buffer.append(scratch);
+        }
+    }
+}
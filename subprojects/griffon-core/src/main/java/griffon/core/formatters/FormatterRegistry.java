@@ -0,0 +1,209 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches {@code Formatter} instances by formatter type, pattern and locale.
+ * <p>
+ * Most formatters wrap a {@code java.text.Format}, which is not thread-safe. Instances of
+ * those formatters are cached per thread and obtained through {@link #getFormatter}.
+ * Formatters that are thread-safe, such as those backed by {@code java.time.format.DateTimeFormatter},
+ * are shared by every thread and obtained through {@link #getSharedFormatter}.
+ * <p>
+ * The locale is always the current default {@code FORMAT} locale, as formatters pick it
+ * up when they are created. Formatters are instantiated through their public constructor
+ * that takes a single {@code String} pattern.
+ * <p>
+ * Both caches keep the most recently used formatters. Per thread caches are softly reachable,
+ * thus idle threads do not keep formatters, nor their classes, alive under memory pressure.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public final class FormatterRegistry {
+    private static final String ERROR_FORMATTER_CLASS_NULL = "Argument 'formatterClass' must not be null";
+    private static final int MAX_FORMATTERS = Integer.getInteger("griffon.formatters.cache.size", 64);
+
+    private static final ThreadLocal<SoftReference<FormatterCache>> LOCAL_FORMATTERS = new ThreadLocal<>();
+    // caches of other threads are discarded on their next lookup once clear() has been called
+    private static volatile int generation;
+
+    @GuardedBy("SHARED_FORMATTERS")
+    private static final FormatterCache SHARED_FORMATTERS = new FormatterCache(0);
+
+    private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                return type.getConstructor(String.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " does not define a public constructor that takes a String pattern", e);
+            }
+        }
+    };
+
+    private FormatterRegistry() {
+
+    }
+
+    /**
+     * Returns a formatter confined to the calling thread. The formatter must not be handed
+     * over to other threads.
+     *
+     * @param formatterClass the type of the formatter
+     * @param pattern        the pattern to be used by the formatter. May be {@code null}
+     * @return a cached formatter instance.
+     */
+    @Nonnull
+    public static <F extends Formatter<?>> F getFormatter(@Nonnull Class<F> formatterClass, @Nullable String pattern) {
+        requireNonNull(formatterClass, ERROR_FORMATTER_CLASS_NULL);
+        FormatterKey key = new FormatterKey(formatterClass, pattern, Locale.getDefault(Locale.Category.FORMAT));
+        FormatterCache formatters = localFormatters();
+        Formatter<?> formatter = formatters.get(key);
+        if (formatter == null) {
+            formatter = createFormatter(formatterClass, pattern);
+            formatters.put(key, formatter);
+        }
+        return formatterClass.cast(formatter);
+    }
+
+    /**
+     * Returns a formatter shared by all threads. Use this method only with thread-safe formatters.
+     *
+     * @param formatterClass the type of the formatter
+     * @param pattern        the pattern to be used by the formatter. May be {@code null}
+     * @return a cached formatter instance.
+     */
+    @Nonnull
+    public static <F extends Formatter<?>> F getSharedFormatter(@Nonnull Class<F> formatterClass, @Nullable String pattern) {
+        requireNonNull(formatterClass, ERROR_FORMATTER_CLASS_NULL);
+        FormatterKey key = new FormatterKey(formatterClass, pattern, Locale.getDefault(Locale.Category.FORMAT));
+        Formatter<?> formatter;
+        synchronized (SHARED_FORMATTERS) {
+            formatter = SHARED_FORMATTERS.get(key);
+        }
+        if (formatter == null) {
+            formatter = createFormatter(formatterClass, pattern);
+            synchronized (SHARED_FORMATTERS) {
+                Formatter<?> existing = SHARED_FORMATTERS.get(key);
+                if (existing != null) {
+                    formatter = existing;
+                } else {
+                    SHARED_FORMATTERS.put(key, formatter);
+                }
+            }
+        }
+        return formatterClass.cast(formatter);
+    }
+
+    /**
+     * Discards all shared formatters and those cached by every thread.
+     */
+    public static void clear() {
+        synchronized (SHARED_FORMATTERS) {
+            SHARED_FORMATTERS.clear();
+            generation++;
+        }
+        LOCAL_FORMATTERS.remove();
+    }
+
+    @Nonnull
+    private static FormatterCache localFormatters() {
+        SoftReference<FormatterCache> reference = LOCAL_FORMATTERS.get();
+        FormatterCache formatters = reference != null ? reference.get() : null;
+        int current = generation;
+        if (formatters == null || formatters.generation != current) {
+            formatters = new FormatterCache(current);
+            LOCAL_FORMATTERS.set(new SoftReference<>(formatters));
+        }
+        return formatters;
+    }
+
+    @Nonnull
+    private static Formatter<?> createFormatter(@Nonnull Class<?> formatterClass, @Nullable String pattern) {
+        try {
+            return (Formatter<?>) CONSTRUCTORS.get(formatterClass).newInstance(pattern);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                // invalid patterns
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalArgumentException("Can't instantiate " + formatterClass.getName(), cause);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Can't instantiate " + formatterClass.getName(), e);
+        }
+    }
+
+    private static final class FormatterCache extends LinkedHashMap<FormatterKey, Formatter<?>> {
+        private static final long serialVersionUID = 2580375834290463165L;
+
+        private final int generation;
+
+        private FormatterCache(int generation) {
+            super(16, 0.75f, true);
+            this.generation = generation;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FormatterKey, Formatter<?>> eldest) {
+            return size() > MAX_FORMATTERS;
+        }
+    }
+
+    private static final class FormatterKey {
+        private final Class<?> formatterClass;
+        private final String pattern;
+        private final Locale locale;
+        private final int hash;
+
+        private FormatterKey(@Nonnull Class<?> formatterClass, @Nullable String pattern, @Nonnull Locale locale) {
+            this.formatterClass = formatterClass;
+            this.pattern = pattern;
+            this.locale = locale;
+            int h = formatterClass.hashCode();
+            h = 31 * h + (pattern != null ? pattern.hashCode() : 0);
+            this.hash = 31 * h + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FormatterKey)) return false;
+            FormatterKey that = (FormatterKey) o;
+            return formatterClass == that.formatterClass &&
+                locale.equals(that.locale) &&
+                (pattern != null ? pattern.equals(that.pattern) : that.pattern == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
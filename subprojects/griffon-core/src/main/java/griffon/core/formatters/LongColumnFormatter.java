@@ -0,0 +1,35 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Formats primitive {@code long} values without boxing them.
+ *
+ * @author Andres Almiray
+ * @see ColumnFormatters
+ * @since 2.8.0
+ */
+public interface LongColumnFormatter {
+    /**
+     * Appends the literal representation of the given value to the buffer.
+     *
+     * @param buffer the buffer that receives the formatted value
+     * @param value  the value to be formatted
+     */
+    void appendTo(@Nonnull StringBuilder buffer, long value);
+}
@@ -66,7 +66,8 @@ public interface MVCGroup extends MVCHandler {
     GriffonModel getModel();
 
     /**
-     * Returns the View portion of this group.
+     * Returns the View portion of this group. Deferred view initialization
+     * will be triggered if it has not happened yet.
      *
      * @return a GriffonView instance if the group has a view member, null otherwise
      * @throws IllegalStateException if the group has been destroyed already
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.mvc;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+/**
+ * Identifies an MVC member that may be parked in a pool when its group is destroyed
+ * and handed out again when a new group of the same type is created.<p>
+ * Pooling is enabled per MVC type by setting {@code config.pool.enabled = true}
+ * on the group's configuration. Groups are pooled only if all of their members implement
+ * this interface; members that do not opt in are always destroyed.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public interface RecyclableMVCMember {
+    /**
+     * Callback for when the owning group is destroyed and this member is returned to the pool
+     * instead of being discarded. Implementors must reset any state tied to the previous group
+     * as the member is handed as is to the next group. Throwing an exception prevents the
+     * member's group from being pooled; its members are destroyed instead.
+     */
+    void mvcGroupRecycle();
+
+    /**
+     * Callback for when a pooled member is handed to a new group. This callback is invoked
+     * instead of {@code initUI()} and {@code mvcGroupInit()}.
+     *
+     * @param args a Map of MVC instances or variables keyed by type.
+     */
+    void mvcGroupReuse(@Nonnull Map<String, Object> args);
+}
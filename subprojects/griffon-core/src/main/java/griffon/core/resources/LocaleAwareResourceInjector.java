@@ -0,0 +1,37 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.resources;
+
+import javax.annotation.Nonnull;
+import java.util.Locale;
+
+/**
+ * A {@code ResourceInjector} that can update previously injected instances when the
+ * application's locale changes.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public interface LocaleAwareResourceInjector extends ResourceInjector {
+    /**
+     * Updates instances that had resources injected previously. Only those members whose
+     * resources differ between both locales are injected again.
+     *
+     * @param oldLocale the locale used for the previous injection
+     * @param newLocale the locale to be used from now on
+     */
+    void reinjectResources(@Nonnull Locale oldLocale, @Nonnull Locale newLocale);
+}
@@ -20,12 +20,14 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 import static griffon.util.ExpandableResourceBundle.wrapResourceBundle;
 import static griffon.util.GriffonClassUtils.requireState;
@@ -38,8 +40,7 @@ import static java.util.Objects.requireNonNull;
  */
 public class CompositeResourceBundle extends ResourceBundle {
     private static final Logger LOG = LoggerFactory.getLogger(CompositeResourceBundle.class);
-    private final ResourceBundle[] bundles;
-    private final List<String> keys = new ArrayList<>();
+    private final Map<String, Object> entries = new LinkedHashMap<>();
 
     public CompositeResourceBundle(@Nonnull Collection<ResourceBundle> bundles) {
         this(toResourceBundleArray(bundles));
@@ -48,17 +49,13 @@ public class CompositeResourceBundle extends ResourceBundle {
     public CompositeResourceBundle(@Nonnull ResourceBundle[] bundles) {
         requireNonNull(bundles, "Argument 'bundles' must not be null");
         requireState(bundles.length > 0, "Argument 'bundles' must not be empty");
-        this.bundles = new ResourceBundle[bundles.length];
-        for (int i = 0; i < bundles.length; i++) {
-            this.bundles[i] = wrapResourceBundle(bundles[i]);
-        }
 
-        for (ResourceBundle bundle : this.bundles) {
-            Enumeration<String> ks = bundle.getKeys();
-            while (ks.hasMoreElements()) {
-                String key = ks.nextElement();
-                if (!keys.contains(key)) {
-                    keys.add(key);
+        // bundles are expanded snapshots, merge them once with the first non-null value winning
+        for (ResourceBundle bundle : bundles) {
+            ExpandableResourceBundle expandable = (ExpandableResourceBundle) wrapResourceBundle(bundle);
+            for (Map.Entry<String, Object> entry : expandable.getExpandedEntries().entrySet()) {
+                if (entries.get(entry.getKey()) == null) {
+                    entries.put(entry.getKey(), entry.getValue());
                 }
             }
         }
@@ -67,26 +64,21 @@ public class CompositeResourceBundle extends ResourceBundle {
     @Nullable
     protected Object handleGetObject(@Nonnull String key) {
         requireNonBlank(key, "Arguments 'key' must not be blank");
+        Object value = entries.get(key);
+        LOG.trace("Searching key={}; value='{}'", key, value);
+        return value;
+    }
 
-        LOG.trace("Searching key={}", key);
-        for (ResourceBundle bundle : bundles) {
-            try {
-                Object value = bundle.getObject(key);
-                LOG.trace("Bundle {}; key={}; value='{}'", bundle, key, value);
-                if (value != null) {
-                    return value;
-                }
-            } catch (Exception e) {
-                // ignore
-            }
-        }
-        return null;
+    @Nonnull
+    @Override
+    protected Set<String> handleKeySet() {
+        return Collections.unmodifiableSet(entries.keySet());
     }
 
     @Nonnull
     @Override
     public Enumeration<String> getKeys() {
-        return new IteratorAsEnumeration<>(keys.iterator());
+        return new IteratorAsEnumeration<>(entries.keySet().iterator());
     }
 
     private static class IteratorAsEnumeration<E> implements Enumeration<E> {
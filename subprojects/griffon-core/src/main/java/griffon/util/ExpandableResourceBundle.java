@@ -25,6 +25,7 @@ import java.util.ResourceBundle;
 
 import static griffon.util.ConfigUtils.getConfigValue;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -43,6 +44,17 @@ public class ExpandableResourceBundle extends ResourceBundle {
         return resourceBundle;
     }
 
+    /**
+     * Creates a bundle from entries that have already been expanded, such as those
+     * returned by {@link #getExpandedEntries()}.
+     *
+     * @param expandedEntries the expanded entries
+     * @since 2.8.0
+     */
+    protected ExpandableResourceBundle(@Nonnull Map<String, Object> expandedEntries) {
+        entries.putAll(requireNonNull(expandedEntries, "Argument 'expandedEntries' must not be null"));
+    }
+
     public ExpandableResourceBundle(@Nonnull ResourceBundle delegate) {
         requireNonNull(delegate, "Argument 'delegate' must not be null");
         for (String key : delegate.keySet()) {
@@ -75,6 +87,17 @@ public class ExpandableResourceBundle extends ResourceBundle {
         return new String[]{head, tail};
     }
 
+    /**
+     * Returns all entries of this bundle, nested maps and flat keys alike.
+     *
+     * @return an unmodifiable view of the expanded entries.
+     * @since 2.8.0
+     */
+    @Nonnull
+    public Map<String, Object> getExpandedEntries() {
+        return unmodifiableMap(entries);
+    }
+
     @Nullable
     @Override
     protected final Object handleGetObject(@Nonnull String key) {
@@ -33,10 +33,13 @@ import griffon.exceptions.StaticMethodInvocationException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -53,6 +56,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import static griffon.util.GriffonNameUtils.requireNonBlank;
@@ -1995,27 +2000,16 @@ public class GriffonClassUtils {
         requireNonNull(obj, ERROR_OBJECT_NULL);
         requireNonBlank(name, ERROR_NAME_BLANK);
 
-        Class<?> clazz = obj.getClass();
-        Class c = clazz;
-        while (c != null && !c.equals(Object.class)) {
-            Field field = null;
-            boolean wasAccessible = false;
-            try {
-                field = c.getDeclaredField(name);
-                wasAccessible = field.isAccessible();
-                field.setAccessible(true);
-                return field.get(obj);
-            } catch (Exception e) {
-                // ignore
-            } finally {
-                if (field != null) {
-                    field.setAccessible(wasAccessible);
-                }
-            }
-            c = c.getSuperclass();
+        FieldMetadata field = BEAN_METADATA.get(obj.getClass()).getField(name);
+        if (field == null || field.field.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        try {
+            return field.getValue(obj);
+        } catch (Throwable t) {
+            // ignore
+            return null;
         }
-
-        return null;
     }
 
     /**
@@ -2617,7 +2611,12 @@ public class GriffonClassUtils {
 
     // -- The following methods and properties were copied from commons-beanutils
 
-    private static final Map<String, PropertyDescriptor[]> descriptorsCache = new LinkedHashMap<>();
+    private static final ClassValue<BeanMetadata> BEAN_METADATA = new ClassValue<BeanMetadata>() {
+        @Override
+        protected BeanMetadata computeValue(Class<?> type) {
+            return new BeanMetadata(type);
+        }
+    };
 
     /**
      * <p>Retrieve the property descriptor for the specified property of the
@@ -2678,14 +2677,8 @@ public class GriffonClassUtils {
         requireNonNull(clazz, ERROR_CLAZZ_NULL);
         requireNonBlank(name, ERROR_NAME_BLANK);
 
-        PropertyDescriptor[] descriptors = getPropertyDescriptors(clazz);
-        for (PropertyDescriptor descriptor : descriptors) {
-            if (name.equals(descriptor.getName())) {
-                return (descriptor);
-            }
-        }
-
-        return null;
+        PropertyMetadata property = BEAN_METADATA.get(clazz).getProperty(name);
+        return property != null ? property.descriptor : null;
     }
 
     /**
@@ -2700,28 +2693,7 @@ public class GriffonClassUtils {
     @Nonnull
     public static PropertyDescriptor[] getPropertyDescriptors(@Nonnull Class<?> beanClass) {
         requireNonNull(beanClass, ERROR_CLAZZ_NULL);
-
-        // Look up any cached descriptors for this bean class
-        PropertyDescriptor[] descriptors;
-        descriptors = descriptorsCache.get(beanClass.getName());
-        if (descriptors != null) {
-            return descriptors;
-        }
-
-        // Introspect the bean and cache the generated descriptors
-        BeanInfo beanInfo;
-        try {
-            beanInfo = Introspector.getBeanInfo(beanClass);
-        } catch (IntrospectionException e) {
-            return (new PropertyDescriptor[0]);
-        }
-        descriptors = beanInfo.getPropertyDescriptors();
-        if (descriptors == null) {
-            descriptors = new PropertyDescriptor[0];
-        }
-
-        descriptorsCache.put(beanClass.getName(), descriptors);
-        return descriptors;
+        return BEAN_METADATA.get(beanClass).descriptors;
     }
 
     /**
@@ -2844,29 +2816,22 @@ public class GriffonClassUtils {
         requireNonNull(bean, ERROR_BEAN_NULL);
         requireNonBlank(name, ERROR_NAME_BLANK);
 
-        Class<?> declaringClass = bean.getClass();
-        while (declaringClass != null) {
-            try {
-                Field field = declaringClass.getDeclaredField(name);
+        FieldMetadata field = BEAN_METADATA.get(bean.getClass()).getField(name);
+        if (field == null) {
+            throw new NoSuchFieldException(name);
+        }
 
-                // type conversion needed?
-                Class<?> propertyType = field.getType();
-                if (value != null && !propertyType.isAssignableFrom(value.getClass())) {
-                    value = TypeUtils.convertValue(propertyType, value);
-                }
+        // type conversion needed?
+        Class<?> propertyType = field.field.getType();
+        if (value != null && !propertyType.isAssignableFrom(value.getClass())) {
+            value = TypeUtils.convertValue(propertyType, value);
+        }
 
-                field.setAccessible(true);
-                try {
-                    field.set(bean, value);
-                    return;
-                } catch (IllegalArgumentException iae) {
-                    throw new FieldException(bean, name, value, iae);
-                }
-            } catch (NoSuchFieldException nsfe) {
-                declaringClass = declaringClass.getSuperclass();
-            }
+        try {
+            field.setValue(bean, value);
+        } catch (IllegalArgumentException iae) {
+            throw new FieldException(bean, name, value, iae);
         }
-        throw new NoSuchFieldException(name);
     }
 
     /**
@@ -2891,6 +2856,32 @@ public class GriffonClassUtils {
         requireNonNull(bean, ERROR_BEAN_NULL);
         requireNonBlank(name, ERROR_NAME_BLANK);
 
+        if (!(bean instanceof Class)) {
+            PropertyMetadata property = BEAN_METADATA.get(bean.getClass()).getProperty(name);
+            if (property == null) {
+                throw new NoSuchMethodException("Unknown property '" +
+                    name + "' on class '" + bean.getClass() + "'");
+            }
+            PropertyAccessor writer = property.getWriter();
+            if (writer == null) {
+                throw new NoSuchMethodException("Property '" + name +
+                    "' has no setter method in class '" + bean.getClass() + "'");
+            }
+
+            // type conversion needed?
+            Class<?> propertyType = property.descriptor.getPropertyType();
+            if (value != null && !propertyType.isAssignableFrom(value.getClass())) {
+                value = TypeUtils.convertValue(propertyType, value);
+            }
+
+            try {
+                writer.invoke(bean, value);
+            } catch (IllegalArgumentException iae) {
+                throw new PropertyException(bean, name, value, iae);
+            }
+            return;
+        }
+
         // Retrieve the property setter method for the specified property
         PropertyDescriptor descriptor = getPropertyDescriptor(bean, name);
         if (descriptor == null) {
@@ -2942,6 +2933,20 @@ public class GriffonClassUtils {
         requireNonNull(bean, ERROR_BEAN_NULL);
         requireNonBlank(name, ERROR_NAME_BLANK);
 
+        if (!(bean instanceof Class)) {
+            PropertyMetadata property = BEAN_METADATA.get(bean.getClass()).getProperty(name);
+            if (property == null) {
+                throw new NoSuchMethodException("Unknown property '" +
+                    name + "' on class '" + bean.getClass() + "'");
+            }
+            PropertyAccessor reader = property.getReader();
+            if (reader == null) {
+                throw new NoSuchMethodException("Property '" + name +
+                    "' has no getter method in class '" + bean.getClass() + "'");
+            }
+            return reader.invoke(bean);
+        }
+
         // Retrieve the property getter method for the specified property
         PropertyDescriptor descriptor = getPropertyDescriptor(bean, name);
         if (descriptor == null) {
@@ -2988,6 +2993,205 @@ public class GriffonClassUtils {
         return (MethodUtils.getAccessibleMethod(clazz, descriptor.getWriteMethod()));
     }
 
+    /**
+     * Introspection results of a single class. Instances are kept in a {@code ClassValue}
+     * thus they never outlive the class they describe.
+     */
+    private static final class BeanMetadata {
+        private static final FieldMetadata NO_FIELD = new FieldMetadata(null);
+
+        private final Class<?> beanClass;
+        private final PropertyDescriptor[] descriptors;
+        private final Map<String, PropertyMetadata> properties = new HashMap<>();
+        private final ConcurrentMap<String, FieldMetadata> fields = new ConcurrentHashMap<>();
+
+        private BeanMetadata(@Nonnull Class<?> beanClass) {
+            this.beanClass = beanClass;
+            this.descriptors = introspect(beanClass);
+            for (PropertyDescriptor descriptor : descriptors) {
+                if (!properties.containsKey(descriptor.getName())) {
+                    properties.put(descriptor.getName(), new PropertyMetadata(beanClass, descriptor));
+                }
+            }
+        }
+
+        @Nonnull
+        private static PropertyDescriptor[] introspect(@Nonnull Class<?> beanClass) {
+            try {
+                PropertyDescriptor[] descriptors = Introspector.getBeanInfo(beanClass).getPropertyDescriptors();
+                return descriptors != null ? descriptors : new PropertyDescriptor[0];
+            } catch (IntrospectionException e) {
+                return new PropertyDescriptor[0];
+            }
+        }
+
+        @Nullable
+        private PropertyMetadata getProperty(@Nonnull String name) {
+            return properties.get(name);
+        }
+
+        @Nullable
+        private FieldMetadata getField(@Nonnull String name) {
+            FieldMetadata field = fields.get(name);
+            if (field == null) {
+                field = NO_FIELD;
+                for (Class<?> c = beanClass; c != null; c = c.getSuperclass()) {
+                    try {
+                        field = new FieldMetadata(c.getDeclaredField(name));
+                        break;
+                    } catch (NoSuchFieldException | SecurityException e) {
+                        // continue with the superclass
+                    }
+                }
+                fields.putIfAbsent(name, field);
+            }
+            return field != NO_FIELD ? field : null;
+        }
+    }
+
+    private static final class PropertyMetadata {
+        private final Class<?> beanClass;
+        private final PropertyDescriptor descriptor;
+        private volatile PropertyAccessor reader;
+        private volatile PropertyAccessor writer;
+
+        private PropertyMetadata(@Nonnull Class<?> beanClass, @Nonnull PropertyDescriptor descriptor) {
+            this.beanClass = beanClass;
+            this.descriptor = descriptor;
+        }
+
+        @Nullable
+        private PropertyAccessor getReader() {
+            PropertyAccessor accessor = reader;
+            if (accessor == null) {
+                accessor = PropertyAccessor.of(getReadMethod(beanClass, descriptor));
+                reader = accessor;
+            }
+            return accessor != PropertyAccessor.NONE ? accessor : null;
+        }
+
+        @Nullable
+        private PropertyAccessor getWriter() {
+            PropertyAccessor accessor = writer;
+            if (accessor == null) {
+                accessor = PropertyAccessor.of(getWriteMethod(beanClass, descriptor));
+                writer = accessor;
+            }
+            return accessor != PropertyAccessor.NONE ? accessor : null;
+        }
+    }
+
+    /**
+     * Invokes an accessible getter or setter through a {@code MethodHandle}, mimicking the
+     * exceptions thrown by {@code Method.invoke}.
+     */
+    private static final class PropertyAccessor {
+        private static final PropertyAccessor NONE = new PropertyAccessor(null, null);
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final Method method;
+        private final MethodHandle handle;
+
+        private PropertyAccessor(@Nullable Method method, @Nullable MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+        }
+
+        @Nonnull
+        private static PropertyAccessor of(@Nullable Method method) {
+            if (method == null) {
+                return NONE;
+            }
+            try {
+                MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+                return new PropertyAccessor(method, handle.asType(method.getParameterTypes().length == 0 ? GETTER_TYPE : SETTER_TYPE));
+            } catch (IllegalAccessException | IllegalArgumentException | WrongMethodTypeException e) {
+                // invoke it reflectively
+                return new PropertyAccessor(method, null);
+            }
+        }
+
+        @Nullable
+        private Object invoke(@Nonnull Object bean) throws IllegalAccessException, InvocationTargetException {
+            if (handle == null) {
+                return method.invoke(bean, EMPTY_OBJECT_ARRAY);
+            }
+            try {
+                return handle.invokeExact(bean);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private void invoke(@Nonnull Object bean, @Nullable Object value) throws IllegalAccessException, InvocationTargetException {
+            if (handle == null) {
+                method.invoke(bean, value);
+                return;
+            }
+            checkArgument(method.getParameterTypes()[0], value);
+            try {
+                handle.invokeExact(bean, value);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+    }
+
+    private static final class FieldMetadata {
+        private final Field field;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private FieldMetadata(@Nullable Field field) {
+            this.field = field;
+            MethodHandle getter = null;
+            MethodHandle setter = null;
+            if (field != null) {
+                try {
+                    field.setAccessible(true);
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        MethodHandles.Lookup lookup = MethodHandles.lookup();
+                        getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+                        if (!Modifier.isFinal(field.getModifiers())) {
+                            setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+                        }
+                    }
+                } catch (IllegalAccessException | SecurityException e) {
+                    // use reflection
+                }
+            }
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Nullable
+        private Object getValue(@Nonnull Object bean) throws Throwable {
+            return getter != null ? getter.invokeExact(bean) : field.get(bean);
+        }
+
+        private void setValue(@Nonnull Object bean, @Nullable Object value) throws IllegalAccessException {
+            if (setter == null) {
+                field.set(bean, value);
+                return;
+            }
+            checkArgument(field.getType(), value);
+            try {
+                setter.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+
+    private static void checkArgument(@Nonnull Class<?> type, @Nullable Object value) {
+        if (value == null ? type.isPrimitive() : !MethodUtils.toNonPrimitiveClass(type).isInstance(value)) {
+            throw new IllegalArgumentException("argument type mismatch");
+        }
+    }
+
     // -- The following methods and properties were copied from commons-lang
 
     /**
@@ -18,14 +18,15 @@
 package griffon.util;
 
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -66,7 +67,7 @@ public class MethodUtils {
      * configurable per webapp would mean having a map keyed by context classloader
      * which may introduce memory-leak problems.
      */
-    private static boolean CACHE_METHODS = true;
+    private static volatile boolean CACHE_METHODS = true;
 
     /**
      * An empty class array
@@ -78,26 +79,27 @@ public class MethodUtils {
     private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
 
     /**
-     * Stores a cache of MethodDescriptor -> Method in a WeakHashMap.
-     * <p/>
-     * The keys into this map only ever exist as temporary variables within
-     * methods of this class, and are never exposed to users of this class.
-     * This means that the WeakHashMap is used only as a mechanism for
-     * limiting the size of the cache, ie a way to tell the garbage collector
-     * that the contents of the cache can be completely garbage-collected
-     * whenever it needs the memory. Whether this is a good approach to
-     * this problem is doubtful; something like the commons-collections
-     * LRUMap may be more appropriate (though of course selecting an
-     * appropriate size is an issue).
+     * Maximum number of parameter type combinations cached per method name and arity.
+     */
+    private static final int MAX_CACHED_SIGNATURES = 32;
+
+    /**
+     * Stores resolved methods per class, keyed by method name and arity.
      * <p/>
-     * This static variable is safe even when this code is deployed via a
-     * shared classloader because it is keyed via a MethodDescriptor object
-     * which has a Class as one of its members and that member is used in
-     * the MethodDescriptor.equals method. So two components that load the same
-     * class via different classloaders will generate non-equal MethodDescriptor
-     * objects and hence end up with different entries in the map.
+     * Lookups never lock nor allocate; failed lookups are cached too, thus
+     * repeated misses are as cheap as hits. Entries live as long as the class
+     * they belong to, hence resolutions whose parameter types are not visible
+     * from the class loader of the target class are never cached.
      */
-    private static final Map cache = Collections.synchronizedMap(new WeakHashMap());
+    private static final ClassValue<ClassMethods> METHOD_CACHE = new ClassValue<ClassMethods>() {
+        @Override
+        protected ClassMethods computeValue(Class<?> type) {
+            return new ClassMethods();
+        }
+    };
+
+    private static final AtomicInteger cachedMethodCount = new AtomicInteger();
+    private static volatile int cacheGeneration;
 
     // --------------------------------------------------------- Public Methods
 
@@ -123,9 +125,8 @@ public class MethodUtils {
      * @since 1.8.0
      */
     public static synchronized int clearCache() {
-        int size = cache.size();
-        cache.clear();
-        return size;
+        cacheGeneration++;
+        return cachedMethodCount.getAndSet(0);
     }
 
     /**
@@ -258,11 +259,11 @@ public class MethodUtils {
             args = EMPTY_OBJECT_ARRAY;
         }
 
-        Method method = getMatchingAccessibleMethod(
+        CachedMethod method = findMatchingAccessibleMethod(
             object.getClass(),
             methodName,
             parameterTypes);
-        if (method == null) {
+        if (method.method == null) {
             throw new NoSuchMethodException("No such accessible method: " +
                 methodName + "() on object: " + object.getClass().getName());
         }
@@ -377,11 +378,11 @@ public class MethodUtils {
             parameterTypes = EMPTY_CLASS_PARAMETERS;
         }
 
-        Method method = getAccessibleMethod(
+        CachedMethod method = findAccessibleMethod(
             object.getClass(),
             methodName,
             parameterTypes);
-        if (method == null) {
+        if (method.method == null) {
             throw new NoSuchMethodException("No such accessible method: " +
                 methodName + "() on object: " + object.getClass().getName());
         }
@@ -426,11 +427,11 @@ public class MethodUtils {
             parameterTypes = EMPTY_CLASS_PARAMETERS;
         }
 
-        Method method = getAccessibleMethod(
+        CachedMethod method = findAccessibleMethod(
             objectClass,
             methodName,
             parameterTypes);
-        if (method == null) {
+        if (method.method == null) {
             throw new NoSuchMethodException("No such accessible method: " +
                 methodName + "() on class: " + objectClass.getName());
         }
@@ -571,11 +572,11 @@ public class MethodUtils {
             args = EMPTY_OBJECT_ARRAY;
         }
 
-        Method method = getMatchingAccessibleMethod(
+        CachedMethod method = findMatchingAccessibleMethod(
             objectClass,
             methodName,
             parameterTypes);
-        if (method == null) {
+        if (method.method == null) {
             throw new NoSuchMethodException("No such accessible method: " +
                 methodName + "() on class: " + objectClass.getName());
         }
@@ -696,22 +697,34 @@ public class MethodUtils {
         String methodName,
         Class[] parameterTypes) {
 
-        try {
-            MethodDescriptor md = new MethodDescriptor(clazz, methodName, parameterTypes, true);
-            // Check the cache first
-            Method method = getCachedMethod(md);
-            if (method != null) {
-                return method;
-            }
+        return findAccessibleMethod(clazz, methodName, parameterTypes).method;
 
+    }
+
+    private static CachedMethod findAccessibleMethod(
+        Class clazz,
+        String methodName,
+        Class[] parameterTypes) {
+
+        if (parameterTypes == null) {
+            parameterTypes = EMPTY_CLASS_PARAMETERS;
+        }
+
+        // Check the cache first
+        int generation = cacheGeneration;
+        CachedMethod cached = getCachedMethod(clazz, methodName, parameterTypes, true);
+        if (cached != null) {
+            return cached;
+        }
+
+        Method method;
+        try {
             method = getAccessibleMethod
                 (clazz, clazz.getMethod(methodName, parameterTypes));
-            cacheMethod(md, method);
-            return method;
         } catch (NoSuchMethodException e) {
-            return (null);
+            method = null;
         }
-
+        return cacheMethod(clazz, methodName, parameterTypes, true, method, generation);
     }
 
 
@@ -913,23 +926,34 @@ public class MethodUtils {
         Class clazz,
         String methodName,
         Class[] parameterTypes) {
-        MethodDescriptor md = new MethodDescriptor(clazz, methodName, parameterTypes, false);
+
+        return findMatchingAccessibleMethod(clazz, methodName, parameterTypes).method;
+    }
+
+    private static CachedMethod findMatchingAccessibleMethod(
+        Class clazz,
+        String methodName,
+        Class[] parameterTypes) {
+
+        if (parameterTypes == null) {
+            parameterTypes = EMPTY_CLASS_PARAMETERS;
+        }
+
+        // Check the cache first
+        int generation = cacheGeneration;
+        CachedMethod cached = getCachedMethod(clazz, methodName, parameterTypes, false);
+        if (cached != null) {
+            return cached;
+        }
 
         // see if we can find the method directly
         // most of the time this works and it's much faster
         try {
-            // Check the cache first
-            Method method = getCachedMethod(md);
-            if (method != null) {
-                return method;
-            }
-
-            method = clazz.getMethod(methodName, parameterTypes);
+            Method method = clazz.getMethod(methodName, parameterTypes);
 
             setMethodAccessible(method); // Default access superclass workaround
 
-            cacheMethod(md, method);
-            return method;
+            return cacheMethod(clazz, methodName, parameterTypes, false, method, generation);
 
         } catch (NoSuchMethodException e) { /* SWALLOW */ }
 
@@ -968,10 +992,7 @@ public class MethodUtils {
                 }
             }
         }
-        if (bestMatch != null) { //find a match
-            cacheMethod(md, bestMatch);
-        }
-        return bestMatch;
+        return cacheMethod(clazz, methodName, parameterTypes, false, bestMatch, generation);
     }
 
     /**
@@ -1184,14 +1205,17 @@ public class MethodUtils {
     /**
      * Return the method from the cache, if present.
      *
-     * @param md The method descriptor
-     * @return The cached method
+     * @param clazz          The class that owns the method
+     * @param methodName     The method name
+     * @param parameterTypes The parameter types
+     * @param exact          Whether the parameter types must match exactly
+     * @return The cached method, may describe a failed lookup
      */
-    private static Method getCachedMethod(MethodDescriptor md) {
+    private static CachedMethod getCachedMethod(Class clazz, String methodName, Class[] parameterTypes, boolean exact) {
         if (CACHE_METHODS) {
-            Reference methodRef = (Reference) cache.get(md);
-            if (methodRef != null) {
-                return (Method) methodRef.get();
+            NamedMethods methods = METHOD_CACHE.get(clazz).get(methodName);
+            if (methods != null) {
+                return methods.find(parameterTypes, exact);
             }
         }
         return null;
@@ -1200,15 +1224,53 @@ public class MethodUtils {
     /**
      * Add a method to the cache.
      *
-     * @param md     The method descriptor
-     * @param method The method to cache
+     * @param clazz          The class that owns the method
+     * @param methodName     The method name
+     * @param parameterTypes The parameter types
+     * @param exact          Whether the parameter types must match exactly
+     * @param method         The method to cache, null if none was found
+     * @param generation     The cache generation observed before the lookup started
+     * @return the cache entry for the given method
      */
-    private static void cacheMethod(MethodDescriptor md, Method method) {
-        if (CACHE_METHODS) {
-            if (method != null) {
-                cache.put(md, new WeakReference(method));
+    private static CachedMethod cacheMethod(Class clazz, String methodName, Class[] parameterTypes, boolean exact, Method method, int generation) {
+        CachedMethod cached = new CachedMethod(parameterTypes.clone(), exact, method);
+        if (CACHE_METHODS && isCacheable(clazz, parameterTypes)) {
+            // lookups that raced with clearCache() are not published
+            NamedMethods methods = METHOD_CACHE.get(clazz).getOrCreate(methodName, generation);
+            if (methods != null) {
+                methods.add(cached);
             }
         }
+        return cached;
+    }
+
+    /**
+     * Whether all parameter types are visible from the class loader of the given class.
+     * Caching lookups with foreign types would keep them reachable for as long as
+     * the given class is alive.
+     */
+    private static boolean isCacheable(Class clazz, Class[] parameterTypes) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        for (Class parameterType : parameterTypes) {
+            if (parameterType == null) {
+                return false;
+            }
+            ClassLoader parameterClassLoader = parameterType.getClassLoader();
+            if (parameterClassLoader == null || parameterClassLoader == classLoader) {
+                continue;
+            }
+            boolean visible = false;
+            for (ClassLoader cl = classLoader; cl != null; cl = cl.getParent()) {
+                if (cl == parameterClassLoader) {
+                    visible = true;
+                    break;
+                }
+            }
+            if (!visible) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static Object invokeSafe(Method method, Object instance, Object[] args) {
@@ -1223,72 +1285,194 @@ public class MethodUtils {
     }
 
     /**
-     * Represents the key to looking up a Method by reflection.
+     * Methods resolved on a single class, grouped by name.
      */
-    private static class MethodDescriptor {
-        private Class cls;
-        private String methodName;
-        private Class[] paramTypes;
-        private boolean exact;
-        private int hashCode;
-
-        /**
-         * The sole constructor.
-         *
-         * @param cls        the class to reflect, must not be null
-         * @param methodName the method name to obtain
-         * @param paramTypes the array of classes representing the paramater types
-         * @param exact      whether the match has to be exact.
-         */
-        public MethodDescriptor(Class cls, String methodName, Class[] paramTypes, boolean exact) {
-            if (cls == null) {
-                throw new IllegalArgumentException("Class must not be null");
+    private static final class ClassMethods {
+        private volatile Generation current = new Generation(cacheGeneration);
+
+        private NamedMethods get(String methodName) {
+            Generation g = current;
+            int generation = cacheGeneration;
+            if (g.generation != generation) {
+                // entries published to the discarded map by late lookups are never seen
+                current = new Generation(generation);
+                return null;
             }
-            if (methodName == null) {
-                throw new IllegalArgumentException("Method Name must not be null");
+            return g.methods.get(methodName);
+        }
+
+        private NamedMethods getOrCreate(String methodName, int generation) {
+            Generation g = current;
+            if (g.generation != generation) {
+                return null;
             }
-            if (paramTypes == null) {
-                paramTypes = EMPTY_CLASS_PARAMETERS;
+            NamedMethods named = g.methods.get(methodName);
+            if (named == null) {
+                named = new NamedMethods();
+                NamedMethods existing = g.methods.putIfAbsent(methodName, named);
+                if (existing != null) {
+                    named = existing;
+                }
             }
+            return named;
+        }
+    }
 
-            this.cls = cls;
-            this.methodName = methodName;
-            this.paramTypes = paramTypes;
-            this.exact = exact;
+    /**
+     * The methods cached on a class during a single cache generation.
+     */
+    private static final class Generation {
+        private final int generation;
+        private final ConcurrentMap<String, NamedMethods> methods = new ConcurrentHashMap<>();
 
-            this.hashCode = methodName.length();
+        private Generation(int generation) {
+            this.generation = generation;
         }
+    }
 
-        /**
-         * Checks for equality.
-         *
-         * @param obj object to be tested for equality
-         * @return true, if the object describes the same Method.
-         */
-        public boolean equals(Object obj) {
-            if (!(obj instanceof MethodDescriptor)) {
+    /**
+     * Resolutions for a single method name, indexed by arity. Readers see an immutable
+     * snapshot; writers copy on update.
+     */
+    private static final class NamedMethods {
+        private static final CachedMethod[][] EMPTY = new CachedMethod[0][];
+
+        private volatile CachedMethod[][] methodsByArity = EMPTY;
+
+        private CachedMethod find(Class[] parameterTypes, boolean exact) {
+            CachedMethod[][] table = methodsByArity;
+            if (parameterTypes.length >= table.length) {
+                return null;
+            }
+            CachedMethod[] candidates = table[parameterTypes.length];
+            if (candidates == null) {
+                return null;
+            }
+            for (CachedMethod candidate : candidates) {
+                if (candidate.matches(parameterTypes, exact)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        private synchronized void add(CachedMethod method) {
+            int arity = method.parameterTypes.length;
+            CachedMethod[][] table = methodsByArity;
+            if (arity >= table.length) {
+                CachedMethod[][] grown = new CachedMethod[arity + 1][];
+                System.arraycopy(table, 0, grown, 0, table.length);
+                table = grown;
+            } else {
+                table = table.clone();
+            }
+
+            CachedMethod[] candidates = table[arity];
+            if (candidates == null) {
+                candidates = new CachedMethod[]{method};
+            } else {
+                for (CachedMethod candidate : candidates) {
+                    if (candidate.matches(method.parameterTypes, method.exact)) {
+                        return;
+                    }
+                }
+                if (candidates.length >= MAX_CACHED_SIGNATURES) {
+                    return;
+                }
+                CachedMethod[] grown = new CachedMethod[candidates.length + 1];
+                System.arraycopy(candidates, 0, grown, 0, candidates.length);
+                grown[candidates.length] = method;
+                candidates = grown;
+            }
+            table[arity] = candidates;
+            methodsByArity = table;
+            cachedMethodCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * The outcome of a method lookup. The <code>method</code> is null when no method was found.
+     * Invocations go through a <code>MethodHandle</code> resolved on first use whenever the
+     * arguments do not require reflective conversions.
+     */
+    private static final class CachedMethod {
+        private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+        private static final MethodHandle NO_HANDLE = MethodHandles.constant(Object.class, null);
+
+        private final Class[] parameterTypes;
+        private final boolean exact;
+        private final Method method;
+        private final Class[] methodParameterTypes;
+        private volatile MethodHandle handle;
+
+        private CachedMethod(Class[] parameterTypes, boolean exact, Method method) {
+            this.parameterTypes = parameterTypes;
+            this.exact = exact;
+            this.method = method;
+            this.methodParameterTypes = method != null ? method.getParameterTypes() : EMPTY_CLASS_PARAMETERS;
+        }
+
+        private boolean matches(Class[] types, boolean exact) {
+            if (this.exact != exact || parameterTypes.length != types.length) {
                 return false;
             }
-            MethodDescriptor md = (MethodDescriptor) obj;
-
-            return (
-                exact == md.exact &&
-                    methodName.equals(md.methodName) &&
-                    cls.equals(md.cls) &&
-                    java.util.Arrays.equals(paramTypes, md.paramTypes)
-            );
+            for (int i = 0; i < types.length; i++) {
+                if (parameterTypes[i] != types[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        /**
-         * Returns the string length of method name. I.e. if the
-         * hashcodes are different, the objects are different. If the
-         * hashcodes are the same, need to use the equals method to
-         * determine equality.
-         *
-         * @return the string length of method name.
-         */
-        public int hashCode() {
-            return hashCode;
+        private Object invoke(Object object, Object[] args) throws IllegalAccessException, InvocationTargetException {
+            MethodHandle h = getHandle();
+            if (h == NO_HANDLE || !acceptsArguments(object, args)) {
+                // let reflection apply widening conversions and report errors
+                return method.invoke(object, args);
+            }
+            try {
+                return h.invokeExact(object, args);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private MethodHandle getHandle() {
+            MethodHandle h = handle;
+            if (h == null) {
+                try {
+                    h = MethodHandles.lookup().unreflect(method).asFixedArity();
+                    if (Modifier.isStatic(method.getModifiers())) {
+                        h = MethodHandles.dropArguments(h, 0, Object.class);
+                    }
+                    h = h.asSpreader(Object[].class, methodParameterTypes.length).asType(INVOKER_TYPE);
+                } catch (IllegalAccessException | IllegalArgumentException | SecurityException e) {
+                    h = NO_HANDLE;
+                }
+                handle = h;
+            }
+            return h;
+        }
+
+        private boolean acceptsArguments(Object object, Object[] args) {
+            if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(object)) {
+                return false;
+            }
+            Class[] types = methodParameterTypes;
+            if (types.length != args.length) {
+                return false;
+            }
+            for (int i = 0; i < types.length; i++) {
+                Object arg = args[i];
+                if (types[i].isPrimitive()) {
+                    if (arg == null || !isAssignmentCompatible(types[i], arg.getClass())) {
+                        return false;
+                    }
+                } else if (arg != null && !types[i].isInstance(arg)) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 }
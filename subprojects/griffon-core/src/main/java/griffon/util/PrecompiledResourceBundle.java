@@ -0,0 +1,97 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code ResourceBundle} whose entries were expanded at build time and stored in binary form.
+ * Reading it back requires a single read of the stored entries; no scripts are evaluated and no
+ * keys are expanded again.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class PrecompiledResourceBundle extends ExpandableResourceBundle {
+    private static final int FORMAT_VERSION = 1;
+
+    protected PrecompiledResourceBundle(@Nonnull Map<String, Object> expandedEntries) {
+        super(expandedEntries);
+    }
+
+    /**
+     * Expands the given bundle and writes its entries to the output stream.
+     * All values must be {@code Serializable}.
+     *
+     * @param resourceBundle the bundle to be written
+     * @param out            the target stream. Will not be closed.
+     * @throws IOException if an I/O error occurs or a value can not be serialized
+     */
+    public static void write(@Nonnull ResourceBundle resourceBundle, @Nonnull OutputStream out) throws IOException {
+        requireNonNull(resourceBundle, "Argument 'resourceBundle' must not be null");
+        requireNonNull(out, "Argument 'out' must not be null");
+
+        ExpandableResourceBundle expanded = (ExpandableResourceBundle) ExpandableResourceBundle.wrapResourceBundle(resourceBundle);
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeInt(FORMAT_VERSION);
+        oos.writeObject(new LinkedHashMap<>(expanded.getExpandedEntries()));
+        oos.flush();
+    }
+
+    /**
+     * Reads a bundle previously written with {@link #write(ResourceBundle, OutputStream)}.
+     *
+     * @param in          the source stream. Will not be closed.
+     * @param classLoader the classloader used to resolve the types of stored values
+     * @return the bundle
+     * @throws IOException            if an I/O error occurs or the format is not supported
+     * @throws ClassNotFoundException if the type of a stored value can not be resolved
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static PrecompiledResourceBundle read(@Nonnull InputStream in, @Nonnull final ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        requireNonNull(in, "Argument 'in' must not be null");
+        requireNonNull(classLoader, "Argument 'classLoader' must not be null");
+
+        ObjectInputStream ois = new ObjectInputStream(in) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    return super.resolveClass(desc);
+                }
+            }
+        };
+
+        int version = ois.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported precompiled bundle format " + version);
+        }
+        return new PrecompiledResourceBundle((Map<String, Object>) ois.readObject());
+    }
+}
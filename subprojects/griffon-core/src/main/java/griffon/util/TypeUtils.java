@@ -15,10 +15,11 @@
  */
 package griffon.util;
 
+import griffon.core.editors.Converter;
+import griffon.core.editors.ConverterRegistry;
 import griffon.core.editors.ExtendedPropertyEditor;
 import griffon.core.editors.PropertyEditorResolver;
 import griffon.exceptions.GriffonException;
-import griffon.exceptions.TypeConversionException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -27,6 +28,7 @@ import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -44,6 +46,46 @@ import static java.util.Objects.requireNonNull;
  * @since 2.0.0
  */
 public final class TypeUtils {
+    private static final Set<String> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+        "java.lang.String",
+        "java.lang.Boolean",
+        "java.lang.Character",
+        "java.lang.Byte",
+        "java.lang.Short",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.lang.Float",
+        "java.lang.Double",
+        "java.lang.Class",
+        "java.math.BigInteger",
+        "java.math.BigDecimal",
+        "java.io.File",
+        "java.net.URI",
+        "java.net.URL",
+        "java.util.Locale",
+        "java.util.UUID",
+        "java.util.Currency",
+        "java.util.regex.Pattern",
+        "java.awt.Color",
+        "java.awt.Font",
+        "java.awt.BasicStroke",
+        "java.awt.GradientPaint",
+        "java.awt.LinearGradientPaint",
+        "java.awt.RadialGradientPaint",
+        "javax.swing.KeyStroke",
+        "javafx.scene.paint.Color",
+        "javafx.scene.paint.LinearGradient",
+        "javafx.scene.paint.RadialGradient",
+        "javafx.scene.text.Font",
+        "javafx.scene.image.Image",
+        "javafx.geometry.Insets",
+        "javafx.geometry.Dimension2D",
+        "javafx.geometry.Point2D",
+        "javafx.geometry.Point3D",
+        "javafx.geometry.Rectangle2D",
+        "javafx.geometry.BoundingBox"
+    ));
+
 
     private static final String ERROR_VALUE_NULL = "Argument 'value' must not be null";
 
@@ -227,13 +269,83 @@ public final class TypeUtils {
             }
         }
 
-        PropertyEditor targetEditor = resolveTargetPropertyEditor(targetType, format);
-        if (targetEditor != null) {
-            targetEditor.setValue(value);
-            return (T) targetEditor.getValue();
+        return (T) convertWithConverterOrEditor(value, targetType, format);
+    }
+
+    /**
+     * Converts a value with a registered {@code Converter} or with the {@code PropertyEditor}
+     * of the target type. Converters that handle the value's type directly are tried first,
+     * followed by the editor, followed by chained converters. An editor is still applied if
+     * a direct converter rejects the value. Converters are skipped if a format is given.
+     *
+     * @param value      the value to be converted
+     * @param targetType the type of the converted value
+     * @param format     an optional format applied by editors
+     * @return the converted value. The value is returned as is when neither a converter nor
+     * an editor can handle its type.
+     * @since 2.8.0
+     */
+    @Nullable
+    public static Object convertWithConverterOrEditor(@Nonnull Object value, @Nonnull Class<?> targetType, @Nullable String format) {
+        requireNonNull(targetType, "Argument 'targetType' must not be null");
+        return convertWithConverterOrEditor(value, targetType, format, resolveTargetPropertyEditor(targetType, format));
+    }
+
+    /**
+     * Converts a value with a registered {@code Converter} or with the given
+     * {@code PropertyEditor}, following the rules of
+     * {@link #convertWithConverterOrEditor(Object, Class, String)}.
+     *
+     * @param value      the value to be converted
+     * @param targetType the type of the converted value
+     * @param format     an optional format, which disables converters if set
+     * @param editor     the editor for the target type, may be {@code null}
+     * @return the converted value. The value is returned as is when neither a converter nor
+     * an editor can handle its type.
+     * @since 2.8.0
+     */
+    @Nullable
+    public static Object convertWithConverterOrEditor(@Nonnull Object value, @Nonnull Class<?> targetType, @Nullable String format, @Nullable PropertyEditor editor) {
+        requireNonNull(value, ERROR_VALUE_NULL);
+        requireNonNull(targetType, "Argument 'targetType' must not be null");
+
+        Converter<Object, ?> converter = isBlank(format) ? ConverterRegistry.findConverter(value.getClass(), targetType) : null;
+        IllegalArgumentException failure = null;
+        if (converter != null && !ConverterRegistry.isChained(converter)) {
+            try {
+                return converter.convert(value);
+            } catch (IllegalArgumentException e) {
+                // give the editor a chance
+                failure = e;
+                converter = null;
+            }
+        }
+
+        boolean hasEditor = editor != null && !(editor instanceof PropertyEditorResolver.NoopPropertyEditor);
+        if (hasEditor) {
+            try {
+                if (value instanceof CharSequence) {
+                    editor.setAsText(String.valueOf(value));
+                } else {
+                    editor.setValue(value);
+                }
+                return editor.getValue();
+            } catch (IllegalArgumentException e) {
+                if (converter == null) {
+                    if (failure != null) {
+                        e.addSuppressed(failure);
+                    }
+                    throw e;
+                }
+            }
         }
 
-        throw new TypeConversionException(value, targetType);
+        if (converter != null) {
+            return converter.convert(value);
+        } else if (failure != null) {
+            throw failure;
+        }
+        return value;
     }
 
     @Nullable
@@ -302,6 +414,25 @@ public final class TypeUtils {
             isBigDecimal(type);
     }
 
+    /**
+     * Whether the given value is an instance of a type known to be immutable, such as {@code String},
+     * boxed primitives, enums, {@code Locale}, {@code URI}, {@code java.time} values, AWT/JavaFX colors
+     * and fonts, or read-only JavaFX images. Instances of such types may be safely shared between callers. Subclasses of the known
+     * types are not considered immutable, with the exception of enums.
+     *
+     * @param value the value to inspect
+     * @return {@code true} if the value is {@code null} or known to be immutable.
+     * @since 2.8.0
+     */
+    public static boolean isKnownImmutable(@Nullable Object value) {
+        if (value == null || value instanceof Enum) {
+            return true;
+        }
+        String typeName = value.getClass().getName();
+        return IMMUTABLE_TYPES.contains(typeName) ||
+            (typeName.startsWith("java.time.") && !typeName.startsWith("java.time.chrono.") && !typeName.startsWith("java.time.format."));
+    }
+
     // == The following methods taken from
     // org.codehaus.groovy.runtime.DefaultGroovyMethods
     // org.codehaus.groovy.runtime.typehandling.DefaultTypeTransformation
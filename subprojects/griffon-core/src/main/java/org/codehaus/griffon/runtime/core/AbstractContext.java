@@ -21,13 +21,19 @@ import griffon.inject.Contextual;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import java.beans.PropertyDescriptor;
-import java.beans.PropertyEditor;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
 import static griffon.util.AnnotationUtils.findAnnotation;
 import static griffon.util.AnnotationUtils.nameFor;
@@ -39,17 +45,61 @@ import static griffon.util.TypeUtils.castToDouble;
 import static griffon.util.TypeUtils.castToFloat;
 import static griffon.util.TypeUtils.castToInt;
 import static griffon.util.TypeUtils.castToLong;
+import static griffon.util.TypeUtils.convertWithConverterOrEditor;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Base implementation of the {@code Context} interface.<p>
+ * Subclasses that report every modification with {@link #invalidateLookups()} may enable lookup caching.
+ * Keys resolved through parent contexts are then cached per context, up to {@code LOOKUP_CACHE_SIZE} keys.
+ * Every modification draws a new version and hands it down to all descendants, which are tracked weakly;
+ * a cached lookup remains valid as long as it carries the version its context last received, thus a
+ * cache hit costs a single volatile read regardless of the depth of the hierarchy. Caching is enabled only
+ * if every ancestor also enables it.
+ *
  * @author Andres Almiray
  * @since 2.2.0
  */
 public abstract class AbstractContext implements Context {
     protected Context parentContext;
 
+    /**
+     * Maximum number of keys resolved through parent contexts that are cached by each context.
+     *
+     * @since 2.8.0
+     */
+    protected static final int LOOKUP_CACHE_SIZE = 256;
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final boolean lookupCacheEnabled;
+    private final boolean lookupCacheable;
+    private volatile long ancestorsVersion;
+    private final Map<String, Lookup> lookups = new ConcurrentHashMap<>();
+    @GuardedBy("children")
+    private final List<WeakReference<AbstractContext>> children = new ArrayList<>();
+
     public AbstractContext(@Nullable Context parentContext) {
+        this(parentContext, false);
+    }
+
+    /**
+     * @param parentContext      the parent context, may be {@code null}
+     * @param lookupCacheEnabled whether this context reports all of its modifications with {@link #invalidateLookups()}
+     * @since 2.8.0
+     */
+    protected AbstractContext(@Nullable Context parentContext, boolean lookupCacheEnabled) {
         this.parentContext = parentContext;
+        this.lookupCacheEnabled = lookupCacheEnabled;
+        this.lookupCacheable = lookupCacheEnabled && parentContext instanceof AbstractContext &&
+            ((AbstractContext) parentContext).lookupCacheEnabled &&
+            (((AbstractContext) parentContext).parentContext == null || ((AbstractContext) parentContext).lookupCacheable);
+        if (lookupCacheable) {
+            AbstractContext parent = (AbstractContext) parentContext;
+            synchronized (parent.children) {
+                parent.children.add(new WeakReference<AbstractContext>(this));
+            }
+        }
     }
 
     @Nullable
@@ -83,7 +133,7 @@ public abstract class AbstractContext implements Context {
         if (hasKey(key)) {
             return doGet(key);
         } else if (parentContext != null) {
-            return parentContext.get(key);
+            return lookupCacheable ? lookupInParent(key).value : parentContext.get(key);
         } else {
             return null;
         }
@@ -91,7 +141,20 @@ public abstract class AbstractContext implements Context {
 
     @Override
     public void destroy() {
+        if (parentContext instanceof AbstractContext) {
+            AbstractContext parent = (AbstractContext) parentContext;
+            synchronized (parent.children) {
+                for (Iterator<WeakReference<AbstractContext>> it = parent.children.iterator(); it.hasNext(); ) {
+                    AbstractContext child = it.next().get();
+                    if (child == null || child == this) {
+                        it.remove();
+                    }
+                }
+            }
+        }
         parentContext = null;
+        lookups.clear();
+        invalidateLookups();
     }
 
     @Override
@@ -99,11 +162,64 @@ public abstract class AbstractContext implements Context {
         if (hasKey(key)) {
             return true;
         } else if (parentContext != null) {
-            return parentContext.containsKey(key);
+            return lookupCacheable ? lookupInParent(key).found : parentContext.containsKey(key);
         }
         return false;
     }
 
+    /**
+     * Invalidates the lookups cached by descendants of this context. Entries are discarded lazily when read.
+     * Must be called after every modification when lookup caching is enabled.
+     *
+     * @since 2.8.0
+     */
+    protected void invalidateLookups() {
+        propagateVersion(VERSIONS.incrementAndGet());
+    }
+
+    private void propagateVersion(long version) {
+        List<AbstractContext> descendants = new ArrayList<>();
+        synchronized (children) {
+            for (Iterator<WeakReference<AbstractContext>> it = children.iterator(); it.hasNext(); ) {
+                AbstractContext child = it.next().get();
+                if (child == null) {
+                    it.remove();
+                } else {
+                    descendants.add(child);
+                }
+            }
+        }
+        for (AbstractContext child : descendants) {
+            child.ancestorsVersion = version;
+            child.propagateVersion(version);
+        }
+    }
+
+    @Nonnull
+    private Lookup lookupInParent(@Nonnull String key) {
+        // read the version before resolving the key so that a concurrent
+        // modification leaves a stale entry behind that no longer matches
+        long currentVersion = ancestorsVersion;
+        Lookup lookup = lookups.get(key);
+        if (lookup != null && lookup.version == currentVersion) {
+            return lookup;
+        }
+
+        Context parent = parentContext;
+        boolean found = parent != null && parent.containsKey(key);
+        lookup = new Lookup(found, found ? parent.get(key) : null, currentVersion);
+        if (lookups.size() >= LOOKUP_CACHE_SIZE && !lookups.containsKey(key)) {
+            // make room by discarding an arbitrary entry
+            Iterator<String> keys = lookups.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        lookups.put(key, lookup);
+        return lookup;
+    }
+
     @Nullable
     protected abstract Object doGet(@Nonnull String key);
 
@@ -205,9 +321,7 @@ public abstract class AbstractContext implements Context {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return (T) convertWithConverterOrEditor(value, type, null);
             }
         }
         return null;
@@ -261,4 +375,16 @@ public abstract class AbstractContext implements Context {
 
         return instance;
     }
+
+    private static final class Lookup {
+        private final boolean found;
+        private final Object value;
+        private final long version;
+
+        private Lookup(boolean found, @Nullable Object value, long version) {
+            this.found = found;
+            this.value = value;
+            this.version = version;
+        }
+    }
 }
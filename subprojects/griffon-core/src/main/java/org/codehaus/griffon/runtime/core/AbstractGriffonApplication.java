@@ -24,7 +24,6 @@ import griffon.core.Context;
 import griffon.core.ExecutorServiceManager;
 import griffon.core.GriffonApplication;
 import griffon.core.GriffonExceptionHandler;
-import griffon.core.RunnableWithArgs;
 import griffon.core.ShutdownHandler;
 import griffon.core.addon.AddonManager;
 import griffon.core.addon.GriffonAddon;
@@ -51,7 +50,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
 
 import static griffon.util.AnnotationUtils.named;
 import static griffon.util.GriffonApplicationUtils.parseLocale;
@@ -305,46 +303,7 @@ public abstract class AbstractGriffonApplication extends AbstractObservable impl
         // signal that shutdown is in process
         setPhase(ApplicationPhase.SHUTDOWN);
 
-        // stage 1 - alert all app event handlers
-        // wait for all handlers to complete before proceeding
-        // with stage #2 if and only if the current thread is
-        // the ui thread
-        log.debug("Shutdown stage 1: notify all event listeners");
-        if (getEventRouter().isEventPublishingEnabled()) {
-            final CountDownLatch latch = new CountDownLatch(getUIThreadManager().isUIThread() ? 1 : 0);
-            getEventRouter().addEventListener(ApplicationEvent.SHUTDOWN_START.getName(), new RunnableWithArgs() {
-                @Override
-                public void run(@Nullable Object... args) {
-                    latch.countDown();
-                }
-            });
-            event(ApplicationEvent.SHUTDOWN_START, asList(this));
-            try {
-                latch.await();
-            } catch (InterruptedException e) {
-                // ignore
-            }
-        }
-
-        // stage 2 - alert all shutdown handlers
-        log.debug("Shutdown stage 2: notify all shutdown handlers");
-        synchronized (shutdownLock) {
-            for (ShutdownHandler handler : shutdownHandlers) {
-                handler.onShutdown(this);
-            }
-        }
-
-        // stage 3 - destroy all mvc groups
-        log.debug("Shutdown stage 3: destroy all MVC groups");
-        List<String> mvcIds = new ArrayList<>();
-        mvcIds.addAll(getMvcGroupManager().getGroups().keySet());
-        for (String id : mvcIds) {
-            getMvcGroupManager().destroyMVCGroup(id);
-        }
-
-        // stage 4 - call shutdown script
-        log.debug("Shutdown stage 4: execute Shutdown script");
-        getApplicationConfigurer().runLifecycleHandler(Lifecycle.SHUTDOWN);
+        new ShutdownSequence(this, shutdownHandlers, shutdownLock).execute();
 
         injector.getInstance(ExecutorServiceManager.class).shutdownAll();
         injector.close();
@@ -19,18 +19,17 @@ import griffon.core.Configuration;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.CollectionUtils.toProperties;
 import static griffon.util.TypeUtils.castToBoolean;
 import static griffon.util.TypeUtils.castToDouble;
 import static griffon.util.TypeUtils.castToFloat;
 import static griffon.util.TypeUtils.castToInt;
 import static griffon.util.TypeUtils.castToLong;
+import static griffon.util.TypeUtils.convertWithConverterOrEditor;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -184,9 +183,7 @@ public class ConfigurationDecorator implements Configuration {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return (T) convertWithConverterOrEditor(value, type, null);
             }
         }
         return null;
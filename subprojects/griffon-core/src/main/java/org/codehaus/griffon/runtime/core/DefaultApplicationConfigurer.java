@@ -27,26 +27,37 @@ import griffon.core.artifact.ArtifactManager;
 import griffon.core.artifact.GriffonController;
 import griffon.core.controller.ActionHandler;
 import griffon.core.controller.ActionInterceptor;
+import griffon.core.editors.Converter;
+import griffon.core.editors.ConverterRegistry;
 import griffon.core.editors.PropertyEditorResolver;
 import griffon.core.env.Lifecycle;
 import griffon.core.event.EventHandler;
+import griffon.core.formatters.FormatterRegistry;
 import griffon.core.injection.Injector;
 import griffon.core.mvc.MVCGroupConfiguration;
+import griffon.core.resources.LocaleAwareResourceInjector;
 import griffon.core.resources.ResourceInjector;
 import griffon.util.ServiceLoaderUtils;
 import org.codehaus.griffon.runtime.core.controller.NoopActionManager;
+import org.codehaus.griffon.runtime.core.i18n.AbstractMessageSource;
+import org.codehaus.griffon.runtime.core.resources.AbstractResourceResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
 import javax.annotation.concurrent.GuardedBy;
 import javax.inject.Inject;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.beans.PropertyEditor;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
@@ -72,6 +83,8 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
     private final GriffonApplication application;
     @GuardedBy("lock")
     private boolean initialized;
+    @GuardedBy("lock")
+    private final List<Converter<?, ?>> converters = new ArrayList<>();
 
     @Inject
     public DefaultApplicationConfigurer(@Nonnull GriffonApplication application) {
@@ -88,6 +101,23 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
         }
     }
 
+    /**
+     * Unregisters the converters registered by this application and discards cached formatters,
+     * both registries outlive it.
+     *
+     * @since 2.8.0
+     */
+    @PreDestroy
+    public void destroy() {
+        synchronized (lock) {
+            for (Converter<?, ?> converter : converters) {
+                ConverterRegistry.unregisterConverter(converter);
+            }
+            converters.clear();
+        }
+        FormatterRegistry.clear();
+    }
+
     @Override
     public void runLifecycleHandler(@Nonnull Lifecycle lifecycle) {
         requireNonNull(lifecycle, "Argument 'lifecycle' must not be null");
@@ -116,6 +146,7 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
         event(ApplicationEvent.BOOTSTRAP_START, asList(application));
 
         initializePropertyEditors();
+        initializeConverters();
         initializeResourcesInjector();
         runLifecycleHandler(Lifecycle.INITIALIZE);
         applyPlatformTweaks();
@@ -179,6 +210,28 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
         }
     }
 
+    protected void initializeConverters() {
+        ServiceLoaderUtils.load(applicationClassLoader().get(), "META-INF/converters/", Converter.class, new ServiceLoaderUtils.LineProcessor() {
+            @Override
+            public void process(@Nonnull ClassLoader classLoader, @Nonnull Class<?> type, @Nonnull String line) {
+                try {
+                    Class<?> converterClass = loadClass(line.trim(), classLoader);
+                    Converter<?, ?> converter = (Converter<?, ?>) converterClass.newInstance();
+                    ConverterRegistry.registerConverter(converter);
+                    synchronized (lock) {
+                        converters.add(converter);
+                    }
+                    LOG.debug("Registering {} as converter from {} to {}", converterClass.getName(),
+                        converter.getSourceType().getName(), converter.getTargetType().getName());
+                } catch (Exception e) {
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("Could not load " + type.getName() + " with " + line, sanitize(e));
+                    }
+                }
+            }
+        });
+    }
+
     protected void initializeResourcesInjector() {
         final ResourceInjector injector = application.getResourceInjector();
         application.getEventRouter().addEventListener(ApplicationEvent.NEW_INSTANCE.getName(), new RunnableWithArgs() {
@@ -186,6 +239,22 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
                 injector.injectResources(args[1]);
             }
         });
+        application.addPropertyChangeListener(GriffonApplication.PROPERTY_LOCALE, new PropertyChangeListener() {
+            @Override
+            public void propertyChange(final PropertyChangeEvent evt) {
+                AbstractMessageSource.clearCaches(application.getMessageSource());
+                AbstractResourceResolver.clearCaches(application.getResourceResolver());
+                if (!(injector instanceof LocaleAwareResourceInjector)) {
+                    return;
+                }
+                application.getUIThreadManager().runInsideUIAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        ((LocaleAwareResourceInjector) injector).reinjectResources((Locale) evt.getOldValue(), (Locale) evt.getNewValue());
+                    }
+                });
+            }
+        });
     }
 
     protected void initializeArtifactManager() {
@@ -39,7 +39,7 @@ public class DefaultContext extends AbstractContext {
     }
 
     public DefaultContext(@Nullable Context parentContext) {
-        super(parentContext);
+        super(parentContext, true);
     }
 
     @Nullable
@@ -59,7 +59,9 @@ public class DefaultContext extends AbstractContext {
     @Override
     public Object remove(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        return attributes.remove(key);
+        Object value = attributes.remove(key);
+        invalidateLookups();
+        return value;
     }
 
     @Nullable
@@ -80,6 +82,7 @@ public class DefaultContext extends AbstractContext {
     public void put(@Nonnull String key, @Nullable Object value) {
         requireNonBlank(key, ERROR_KEY_BLANK);
         attributes.put(key, value);
+        invalidateLookups();
     }
 
     @Override
@@ -21,25 +21,42 @@ import griffon.util.TypeUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Default implementation of the {@code ObservableContext} interface.<p>
+ * Changes made to a parent context are only forwarded to a child context if the child has listeners
+ * interested in the affected key, thus the cost of a change is proportional to the number of interested
+ * listeners rather than the size of the context tree. Listeners may also be registered for a single key or
+ * for a key prefix; such registrations are only forwarded as such to parents that are instances of this class,
+ * other parents are observed in full.
+ *
  * @author Andres Almiray
  * @since 2.5.0
  */
 public class DefaultObservableContext extends DefaultContext implements ObservableContext {
     private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
+    private static final String ERROR_PREFIX_BLANK = "Argument 'prefix' must not be blank";
     private final List<ContextEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<String, List<ContextEventListener>> keyListeners = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<ContextEventListener>> prefixListeners = new ConcurrentHashMap<>();
+    private final Object lock = new Object[0];
+    private boolean subscribedToParent;
 
     private final ContextEventListener parentListener = new ContextEventListener() {
         @Override
         public void contextChanged(@Nonnull ContextEvent event) {
-            String key = event.getKey();
-            if (!hasKey(key)) {
-                fireContextEvent(event.getType(), key, event.getOldValue(), event.getNewValue());
+            if (!hasKey(event.getKey())) {
+                fireContextEvent(event);
             }
         }
     };
@@ -50,22 +67,26 @@ public class DefaultObservableContext extends DefaultContext implements Observab
 
     public DefaultObservableContext(@Nonnull Context parentContext) {
         super(parentContext);
-        if (parentContext instanceof ObservableContext) {
-            ObservableContext observableParent = (ObservableContext) parentContext;
-            observableParent.addContextEventListener(parentListener);
-        }
     }
 
     @Override
     public void addContextEventListener(@Nonnull ContextEventListener listener) {
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        if (!listeners.contains(listener)) listeners.add(listener);
+        synchronized (lock) {
+            if (listeners.contains(listener)) return;
+            listeners.add(listener);
+            updateParentSubscription();
+        }
     }
 
     @Override
     public void removeContextEventListener(@Nonnull ContextEventListener listener) {
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        listeners.remove(listener);
+        synchronized (lock) {
+            if (listeners.remove(listener)) {
+                updateParentSubscription();
+            }
+        }
     }
 
     @Nonnull
@@ -74,6 +95,91 @@ public class DefaultObservableContext extends DefaultContext implements Observab
         return listeners.toArray(new ContextEventListener[listeners.size()]);
     }
 
+    /**
+     * Registers a listener that will be notified of changes to the given key only.
+     * Changes made to parent contexts are delivered as long as the key is not shadowed by this context.
+     *
+     * @param key      the key to observe
+     * @param listener the listener to be notified
+     * @since 2.8.0
+     */
+    public void addContextEventListener(@Nonnull String key, @Nonnull ContextEventListener listener) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        synchronized (lock) {
+            if (addListener(keyListeners, key, listener)) {
+                DefaultObservableContext parent = getDefaultObservableParent();
+                if (parent != null) {
+                    parent.addContextEventListener(key, parentListener);
+                }
+            }
+            updateParentSubscription();
+        }
+    }
+
+    /**
+     * Removes a listener registered with {@link #addContextEventListener(String, ContextEventListener)}.
+     *
+     * @param key      the observed key
+     * @param listener the listener to be removed
+     * @since 2.8.0
+     */
+    public void removeContextEventListener(@Nonnull String key, @Nonnull ContextEventListener listener) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        synchronized (lock) {
+            if (removeListener(keyListeners, key, listener)) {
+                DefaultObservableContext parent = getDefaultObservableParent();
+                if (parent != null) {
+                    parent.removeContextEventListener(key, parentListener);
+                }
+            }
+            updateParentSubscription();
+        }
+    }
+
+    /**
+     * Registers a listener that will be notified of changes to keys that start with the given prefix.
+     *
+     * @param prefix   the prefix of the keys to observe
+     * @param listener the listener to be notified
+     * @since 2.8.0
+     */
+    public void addContextEventListenerForPrefix(@Nonnull String prefix, @Nonnull ContextEventListener listener) {
+        requireNonBlank(prefix, ERROR_PREFIX_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        synchronized (lock) {
+            if (addListener(prefixListeners, prefix, listener)) {
+                DefaultObservableContext parent = getDefaultObservableParent();
+                if (parent != null) {
+                    parent.addContextEventListenerForPrefix(prefix, parentListener);
+                }
+            }
+            updateParentSubscription();
+        }
+    }
+
+    /**
+     * Removes a listener registered with {@link #addContextEventListenerForPrefix(String, ContextEventListener)}.
+     *
+     * @param prefix   the prefix of the observed keys
+     * @param listener the listener to be removed
+     * @since 2.8.0
+     */
+    public void removeContextEventListenerForPrefix(@Nonnull String prefix, @Nonnull ContextEventListener listener) {
+        requireNonBlank(prefix, ERROR_PREFIX_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        synchronized (lock) {
+            if (removeListener(prefixListeners, prefix, listener)) {
+                DefaultObservableContext parent = getDefaultObservableParent();
+                if (parent != null) {
+                    parent.removeContextEventListenerForPrefix(prefix, parentListener);
+                }
+            }
+            updateParentSubscription();
+        }
+    }
+
     @Override
     public void put(@Nonnull String key, @Nullable Object value) {
         boolean localKey = hasKey(key);
@@ -164,21 +270,106 @@ public class DefaultObservableContext extends DefaultContext implements Observab
 
     @Override
     public void destroy() {
-        if (getParentContext() instanceof ObservableContext) {
-            ObservableContext observableParent = (ObservableContext) getParentContext();
-            observableParent.removeContextEventListener(parentListener);
+        synchronized (lock) {
+            DefaultObservableContext parent = getDefaultObservableParent();
+            if (parent != null) {
+                for (String key : keyListeners.keySet()) {
+                    parent.removeContextEventListener(key, parentListener);
+                }
+                for (String prefix : prefixListeners.keySet()) {
+                    parent.removeContextEventListenerForPrefix(prefix, parentListener);
+                }
+            }
+            listeners.clear();
+            keyListeners.clear();
+            prefixListeners.clear();
+            updateParentSubscription();
         }
-        listeners.clear();
         super.destroy();
     }
 
     protected void fireContextEvent(@Nonnull ContextEvent.Type type, @Nonnull String key, @Nullable Object oldValue, @Nullable Object newValue) {
+        if (listeners.isEmpty() && keyListeners.isEmpty() && prefixListeners.isEmpty()) {
+            return;
+        }
         fireContextEvent(new ContextEvent(type, key, oldValue, newValue));
     }
 
     protected void fireContextEvent(@Nonnull ContextEvent event) {
-        for (ContextEventListener listener : listeners) {
+        List<ContextEventListener> keyed = keyListeners.get(event.getKey());
+        if (keyed == null && prefixListeners.isEmpty()) {
+            for (ContextEventListener listener : listeners) {
+                listener.contextChanged(event);
+            }
+            return;
+        }
+
+        // a listener may be registered more than once, notify it a single time
+        Set<ContextEventListener> targets = new LinkedHashSet<>(listeners);
+        if (keyed != null) {
+            targets.addAll(keyed);
+        }
+        for (Map.Entry<String, List<ContextEventListener>> entry : prefixListeners.entrySet()) {
+            if (event.getKey().startsWith(entry.getKey())) {
+                targets.addAll(entry.getValue());
+            }
+        }
+        for (ContextEventListener listener : targets) {
             listener.contextChanged(event);
         }
     }
+
+    @Nullable
+    private ObservableContext getObservableParent() {
+        Context parent = getParentContext();
+        return parent instanceof ObservableContext ? (ObservableContext) parent : null;
+    }
+
+    @Nullable
+    private DefaultObservableContext getDefaultObservableParent() {
+        Context parent = getParentContext();
+        return parent instanceof DefaultObservableContext ? (DefaultObservableContext) parent : null;
+    }
+
+    /**
+     * Subscribes to all changes of the parent while there are plain listeners, or keyed and prefixed
+     * listeners that the parent cannot filter for. Must be called while holding the lock.
+     */
+    private void updateParentSubscription() {
+        ObservableContext observableParent = getObservableParent();
+        boolean subscribe = observableParent != null && (!listeners.isEmpty() ||
+            (!(observableParent instanceof DefaultObservableContext) && (!keyListeners.isEmpty() || !prefixListeners.isEmpty())));
+        if (subscribe == subscribedToParent) {
+            return;
+        }
+        if (subscribe) {
+            observableParent.addContextEventListener(parentListener);
+        } else if (observableParent != null) {
+            observableParent.removeContextEventListener(parentListener);
+        }
+        subscribedToParent = subscribe;
+    }
+
+    private static boolean addListener(@Nonnull ConcurrentMap<String, List<ContextEventListener>> registry, @Nonnull String key, @Nonnull ContextEventListener listener) {
+        List<ContextEventListener> list = registry.get(key);
+        if (list == null) {
+            list = new CopyOnWriteArrayList<>();
+            list.add(listener);
+            registry.put(key, list);
+            return true;
+        }
+        if (!list.contains(listener)) {
+            list.add(listener);
+        }
+        return false;
+    }
+
+    private static boolean removeListener(@Nonnull ConcurrentMap<String, List<ContextEventListener>> registry, @Nonnull String key, @Nonnull ContextEventListener listener) {
+        List<ContextEventListener> list = registry.get(key);
+        if (list != null && list.remove(listener) && list.isEmpty()) {
+            registry.remove(key);
+            return true;
+        }
+        return false;
+    }
 }
@@ -18,18 +18,35 @@ package org.codehaus.griffon.runtime.core;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static griffon.util.ConfigUtils.getConfigValue;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static griffon.util.TypeUtils.castToBoolean;
+import static griffon.util.TypeUtils.castToDouble;
+import static griffon.util.TypeUtils.castToFloat;
+import static griffon.util.TypeUtils.castToInt;
+import static griffon.util.TypeUtils.castToLong;
+import static griffon.util.TypeUtils.isKnownImmutable;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Configuration backed by a {@code ResourceBundle}.<p>
+ * All keys, including nested keys such as {@code mvcGroups.sample.view}, are indexed once when the
+ * configuration is created. Lookups are plain hash lookups that do not throw exceptions on misses.
+ * Typed values of immutable types are converted once per key and type and cached afterwards.
+ *
  * @author Andres Almiray
  * @since 2.0.0
  */
@@ -37,6 +54,9 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
     protected static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     private final ResourceBundle resourceBundle;
     private final Map<String, Object> flatMap = new LinkedHashMap<>();
+    private final Map<String, Object> index = new HashMap<>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> castValues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> convertedValues = new ConcurrentHashMap<>();
 
     @Inject
     public ResourceBundleConfiguration(@Nonnull ResourceBundle resourceBundle) {
@@ -44,7 +64,19 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
         Enumeration<String> keys = resourceBundle.getKeys();
         while (keys.hasMoreElements()) {
             String key = keys.nextElement();
-            flatMap.put(key, getConfigValue(resourceBundle, key));
+            Object value = resolve(key);
+            flatMap.put(key, value);
+            if (value != null) {
+                index.put(key, value);
+            }
+        }
+
+        // nested keys are resolved by walking maps starting at a single segment key
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for (Map.Entry<String, Object> entry : flatMap.entrySet()) {
+            if (entry.getKey().indexOf('.') < 0) {
+                indexNestedKeys(entry.getKey(), entry.getValue(), visited);
+            }
         }
     }
 
@@ -67,10 +99,127 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
     @Nullable
     @Override
     public Object get(@Nonnull String key) {
+        return index.get(requireNonBlank(key, ERROR_KEY_BLANK));
+    }
+
+    @Override
+    public boolean getAsBoolean(@Nonnull String key, boolean defaultValue) {
+        Object value = typedValue(key, Boolean.class, true);
+        return value != null ? (Boolean) value : defaultValue;
+    }
+
+    @Override
+    public int getAsInt(@Nonnull String key, int defaultValue) {
+        Object value = typedValue(key, Integer.class, true);
+        return value != null ? (Integer) value : defaultValue;
+    }
+
+    @Override
+    public long getAsLong(@Nonnull String key, long defaultValue) {
+        Object value = typedValue(key, Long.class, true);
+        return value != null ? (Long) value : defaultValue;
+    }
+
+    @Override
+    public float getAsFloat(@Nonnull String key, float defaultValue) {
+        Object value = typedValue(key, Float.class, true);
+        return value != null ? (Float) value : defaultValue;
+    }
+
+    @Override
+    public double getAsDouble(@Nonnull String key, double defaultValue) {
+        Object value = typedValue(key, Double.class, true);
+        return value != null ? (Double) value : defaultValue;
+    }
+
+    @Nullable
+    @Override
+    public String getAsString(@Nonnull String key, @Nullable String defaultValue) {
+        Object value = typedValue(key, String.class, true);
+        return value != null ? (String) value : defaultValue;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getConverted(@Nonnull String key, @Nonnull Class<T> type) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        return (T) typedValue(key, type, false);
+    }
+
+    @Nullable
+    private Object typedValue(@Nonnull String key, @Nonnull Class<?> type, boolean cast) {
+        Object value = get(key);
+        if (value == null) {
+            return null;
+        }
+
+        ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> typedValues = cast ? castValues : convertedValues;
+        ConcurrentMap<String, Object> values = typedValues.get(type);
+        if (values == null) {
+            values = new ConcurrentHashMap<>();
+            ConcurrentMap<String, Object> existing = typedValues.putIfAbsent(type, values);
+            if (existing != null) {
+                values = existing;
+            }
+        }
+
+        Object typed = values.get(key);
+        if (typed == null) {
+            typed = cast ? castTo(value, type) : convertValue(value, type);
+            // callers may modify the values they receive, share immutable values only
+            if (typed != null && isKnownImmutable(typed)) {
+                values.put(key, typed);
+            }
+        }
+        return typed;
+    }
+
+    @Nullable
+    private Object castTo(@Nonnull Object value, @Nonnull Class<?> type) {
+        if (type == Boolean.class) {
+            return castToBoolean(value);
+        } else if (type == Integer.class) {
+            return castToInt(value);
+        } else if (type == Long.class) {
+            return castToLong(value);
+        } else if (type == Float.class) {
+            return castToFloat(value);
+        } else if (type == Double.class) {
+            return castToDouble(value);
+        }
+        return String.valueOf(value);
+    }
+
+    @Nullable
+    private Object resolve(@Nonnull String key) {
         try {
             return getConfigValue(resourceBundle, key);
         } catch (MissingResourceException mre) {
             return null;
         }
     }
+
+    private void indexNestedKeys(@Nonnull String prefix, @Nullable Object node, @Nonnull Set<Object> visited) {
+        if (!(node instanceof Map) || !visited.add(node)) {
+            return;
+        }
+
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) node).entrySet()) {
+            if (!(entry.getKey() instanceof String) || entry.getValue() == null) {
+                continue;
+            }
+            String segment = (String) entry.getKey();
+            if (segment.isEmpty() || segment.indexOf('.') > -1) {
+                // unreachable by splitting keys on '.'
+                continue;
+            }
+            String key = prefix + "." + segment;
+            if (!index.containsKey(key)) {
+                index.put(key, entry.getValue());
+            }
+            indexNestedKeys(key, entry.getValue(), visited);
+        }
+        visited.remove(node);
+    }
 }
@@ -0,0 +1,480 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import griffon.core.ApplicationConfigurer;
+import griffon.core.ApplicationEvent;
+import griffon.core.GriffonApplication;
+import griffon.core.RunnableWithArgs;
+import griffon.core.ShutdownHandler;
+import griffon.core.addon.GriffonAddon;
+import griffon.core.env.Lifecycle;
+import griffon.core.mvc.MVCGroup;
+import griffon.core.mvc.MVCGroupManager;
+import org.codehaus.griffon.runtime.core.mvc.AbstractMVCGroupManager;
+import org.codehaus.griffon.runtime.core.mvc.MVCGroupLeakDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static griffon.core.GriffonExceptionHandler.sanitize;
+import static griffon.util.AnnotationUtils.getDependsOn;
+import static griffon.util.AnnotationUtils.nameFor;
+import static griffon.util.ConfigUtils.getConfigValueAsBoolean;
+import static griffon.util.GriffonNameUtils.getLogicalPropertyName;
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes the shutdown stages of an application:
+ * <ol>
+ * <li>notify all event listeners</li>
+ * <li>notify all shutdown handlers</li>
+ * <li>destroy all MVC groups</li>
+ * <li>execute the Shutdown script</li>
+ * </ol>
+ * The first three stages may be bounded by a deadline (in milliseconds) set with {@code griffon.shutdown.timeout.<stage>},
+ * where stage is one of {@code events}, {@code handlers} or {@code groups}. The sequence moves on to the next
+ * stage once the deadline expires. The Shutdown script is always executed to completion.<p>
+ * Setting {@code griffon.shutdown.parallel = true} runs independent shutdown handlers concurrently, as long as
+ * the sequence was not started inside the UI thread. Handlers are notified after every handler that declares
+ * a dependency on them (see {@code griffon.inject.DependsOn}). MVC group trees are destroyed concurrently only
+ * if the root group's configuration sets {@code destruction.parallel = true} as well; such groups must not rely
+ * on being destroyed by the thread that started the sequence. Views are always destroyed inside the UI thread.
+ * Every other group is destroyed by the thread that started the sequence.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class ShutdownSequence {
+    private static final Logger LOG = LoggerFactory.getLogger(ShutdownSequence.class);
+    private static final String KEY_PARALLEL = "griffon.shutdown.parallel";
+    private static final String KEY_TIMEOUT_PREFIX = "griffon.shutdown.timeout.";
+    private static final String STAGE_EVENTS = "events";
+    private static final String STAGE_HANDLERS = "handlers";
+    private static final String STAGE_GROUPS = "groups";
+    private static final String STAGE_LIFECYCLE = "lifecycle";
+    private static final String CONFIG_KEY_DESTRUCTION_PARALLEL = "destruction.parallel";
+
+    private final GriffonApplication application;
+    private final Collection<ShutdownHandler> handlers;
+    private final Object handlersLock;
+    private final List<ShutdownHandler> shutdownHandlers = new ArrayList<>();
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+    private ExecutorService executorService;
+
+    /**
+     * Creates a new sequence.
+     *
+     * @param application  the application to be shutdown
+     * @param handlers     the application's shutdown handlers, read right before stage 2 starts
+     * @param handlersLock the lock that guards access to {@code handlers}
+     */
+    public ShutdownSequence(@Nonnull GriffonApplication application, @Nonnull Collection<ShutdownHandler> handlers, @Nonnull Object handlersLock) {
+        this.application = requireNonNull(application, "Argument 'application' must not be null");
+        this.handlers = requireNonNull(handlers, "Argument 'handlers' must not be null");
+        this.handlersLock = requireNonNull(handlersLock, "Argument 'handlersLock' must not be null");
+    }
+
+    public void execute() {
+        try {
+            doExecute();
+        } finally {
+            if (executorService != null) {
+                executorService.shutdown();
+            }
+        }
+    }
+
+    private void doExecute() {
+        boolean parallel = application.getConfiguration().getAsBoolean(KEY_PARALLEL, false);
+        if (parallel && application.getUIThreadManager().isUIThread()) {
+            LOG.debug("Shutdown was requested inside the UI thread. Stages will be executed sequentially");
+            parallel = false;
+        }
+
+        // stage 1 - alert all app event handlers
+        // wait for all handlers to complete before proceeding
+        // with stage #2 if and only if the current thread is
+        // the ui thread
+        LOG.debug("Shutdown stage 1: notify all event listeners");
+        long start = System.nanoTime();
+        notifyEventListeners(deadlineFor(STAGE_EVENTS));
+        record(STAGE_EVENTS, start);
+
+        // stage 2 - alert all shutdown handlers
+        LOG.debug("Shutdown stage 2: notify all shutdown handlers");
+        start = System.nanoTime();
+        synchronized (handlersLock) {
+            shutdownHandlers.clear();
+            shutdownHandlers.addAll(handlers);
+        }
+        if (parallel) {
+            notifyShutdownHandlersInParallel(deadlineFor(STAGE_HANDLERS));
+        } else {
+            notifyShutdownHandlers(deadlineFor(STAGE_HANDLERS));
+        }
+        record(STAGE_HANDLERS, start);
+
+        // stage 3 - destroy all mvc groups
+        LOG.debug("Shutdown stage 3: destroy all MVC groups");
+        start = System.nanoTime();
+        if (parallel) {
+            destroyMVCGroupsInParallel(deadlineFor(STAGE_GROUPS));
+        } else {
+            destroyMVCGroups(deadlineFor(STAGE_GROUPS));
+        }
+        stopLeakDetector();
+        record(STAGE_GROUPS, start);
+
+        // stage 4 - call shutdown script
+        LOG.debug("Shutdown stage 4: execute Shutdown script");
+        start = System.nanoTime();
+        application.getInjector().getInstance(ApplicationConfigurer.class).runLifecycleHandler(Lifecycle.SHUTDOWN);
+        record(STAGE_LIFECYCLE, start);
+
+        LOG.info("Shutdown stage timings (ms): {}", timings);
+    }
+
+    @Nonnull
+    public Map<String, Long> getTimings() {
+        return new LinkedHashMap<>(timings);
+    }
+
+    protected void notifyEventListeners(long deadline) {
+        if (!application.getEventRouter().isEventPublishingEnabled()) {
+            return;
+        }
+
+        final CountDownLatch latch = new CountDownLatch(application.getUIThreadManager().isUIThread() ? 1 : 0);
+        application.getEventRouter().addEventListener(ApplicationEvent.SHUTDOWN_START.getName(), new RunnableWithArgs() {
+            @Override
+            public void run(@Nullable Object... args) {
+                latch.countDown();
+            }
+        });
+        application.getEventRouter().publishEvent(ApplicationEvent.SHUTDOWN_START.getName(), asList(application));
+        try {
+            if (deadline == 0) {
+                latch.await();
+            } else if (!latch.await(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                LOG.warn("Shutdown stage 1 did not complete in time");
+            }
+        } catch (InterruptedException e) {
+            // ignore
+        }
+    }
+
+    protected void notifyShutdownHandlers(long deadline) {
+        for (ShutdownHandler handler : shutdownHandlers) {
+            if (expired(deadline)) {
+                LOG.warn("Shutdown stage 2 did not complete in time. Skipping {}", handler);
+                continue;
+            }
+            handler.onShutdown(application);
+        }
+    }
+
+    protected void notifyShutdownHandlersInParallel(long deadline) {
+        ExecutorService executorService = executorService();
+        for (List<ShutdownHandler> wave : computeHandlerWaves()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (final ShutdownHandler handler : wave) {
+                futures.add(executorService.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        handler.onShutdown(application);
+                    }
+                }));
+            }
+            if (!await(futures, deadline, "Shutdown stage 2")) {
+                for (Future<?> future : futures) {
+                    // skip handlers that have not been notified yet
+                    future.cancel(false);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Groups handlers into waves. A handler is placed in a later wave than every
+     * handler that depends on it, preserving the original order within each wave.
+     */
+    @Nonnull
+    protected List<List<ShutdownHandler>> computeHandlerWaves() {
+        Map<String, ShutdownHandler> handlersByName = new LinkedHashMap<>();
+        for (ShutdownHandler handler : shutdownHandlers) {
+            handlersByName.put(getLogicalPropertyName(nameFor(handler), GriffonAddon.SUFFIX), handler);
+        }
+
+        Map<ShutdownHandler, Integer> levels = new HashMap<>();
+        for (ShutdownHandler handler : shutdownHandlers) {
+            levels.put(handler, 0);
+        }
+
+        // dependents must be notified before their dependencies
+        boolean changed = true;
+        for (int pass = 0; changed && pass <= shutdownHandlers.size(); pass++) {
+            changed = false;
+            for (ShutdownHandler dependent : shutdownHandlers) {
+                for (String dependency : getDependsOn(dependent)) {
+                    ShutdownHandler handler = handlersByName.get(dependency);
+                    if (handler != null && handler != dependent && levels.get(handler) <= levels.get(dependent)) {
+                        levels.put(handler, levels.get(dependent) + 1);
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        List<List<ShutdownHandler>> waves = new ArrayList<>();
+        if (changed) {
+            LOG.warn("Cyclic dependencies detected between shutdown handlers. Notifying them sequentially");
+            for (ShutdownHandler handler : shutdownHandlers) {
+                waves.add(asList(handler));
+            }
+            return waves;
+        }
+
+        for (ShutdownHandler handler : shutdownHandlers) {
+            int level = levels.get(handler);
+            while (waves.size() <= level) {
+                waves.add(new ArrayList<ShutdownHandler>());
+            }
+            waves.get(level).add(handler);
+        }
+        return waves;
+    }
+
+    /**
+     * Destroys the trees of groups that opted in with {@code destruction.parallel} on a dedicated executor while
+     * the remaining groups are destroyed on the calling thread. Once the deadline expires, trees whose destruction
+     * did not start yet are skipped and those being destroyed are waited for, thus no group is ever destroyed twice.
+     */
+    protected void destroyMVCGroupsInParallel(long deadline) {
+        final MVCGroupManager mvcGroupManager = application.getMvcGroupManager();
+        Map<String, MVCGroup> groups = mvcGroupManager.getGroups();
+
+        List<GroupDestruction> destructions = new ArrayList<>();
+        List<String> mvcIds = new ArrayList<>();
+        for (final MVCGroup group : groups.values()) {
+            MVCGroup parentGroup = group.getParentGroup();
+            if (parentGroup != null && groups.containsKey(parentGroup.getMvcId())) {
+                // destroyed together with its parent
+                continue;
+            }
+            if (getConfigValueAsBoolean(group.getConfiguration().getConfig(), CONFIG_KEY_DESTRUCTION_PARALLEL, false)) {
+                GroupDestruction destruction = new GroupDestruction(mvcGroupManager, group.getMvcId());
+                destructions.add(destruction);
+                executorService().execute(destruction);
+            } else {
+                mvcIds.add(group.getMvcId());
+            }
+        }
+
+        destroyMVCGroups(mvcIds, deadline);
+
+        boolean completed = true;
+        try {
+            for (GroupDestruction destruction : destructions) {
+                if (!destruction.await(deadline)) {
+                    completed = false;
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completed = false;
+        }
+
+        if (!completed) {
+            LOG.warn("Shutdown stage 3 did not complete in time");
+            boolean interrupted = false;
+            for (GroupDestruction destruction : destructions) {
+                if (destruction.cancel()) {
+                    LOG.warn("Skipping group {}", destruction.mvcId);
+                    continue;
+                }
+                while (true) {
+                    try {
+                        destruction.await(0L);
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    protected void stopLeakDetector() {
+        MVCGroupManager mvcGroupManager = application.getMvcGroupManager();
+        if (mvcGroupManager instanceof AbstractMVCGroupManager) {
+            MVCGroupLeakDetector detector = ((AbstractMVCGroupManager) mvcGroupManager).getLeakDetector();
+            if (detector != null) {
+                detector.clear();
+            }
+        }
+    }
+
+    protected void destroyMVCGroups(long deadline) {
+        destroyMVCGroups(new ArrayList<>(application.getMvcGroupManager().getGroups().keySet()), deadline);
+    }
+
+    private void destroyMVCGroups(@Nonnull List<String> mvcIds, long deadline) {
+        for (String id : mvcIds) {
+            if (expired(deadline)) {
+                LOG.warn("Shutdown stage 3 did not complete in time. Skipping group {}", id);
+                continue;
+            }
+            application.getMvcGroupManager().destroyMVCGroup(id);
+        }
+    }
+
+    private boolean await(@Nonnull List<Future<?>> futures, long deadline, @Nonnull String stage) {
+        for (Future<?> future : futures) {
+            try {
+                if (deadline == 0) {
+                    future.get();
+                } else {
+                    future.get(Math.max(0L, remaining(deadline)), TimeUnit.NANOSECONDS);
+                }
+            } catch (TimeoutException e) {
+                LOG.warn("{} did not complete in time", stage);
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                LOG.error("An error occurred during {}", stage, sanitize(e.getCause()));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tasks of the shutdown sequence do not compete with tasks that may still be running
+     * on the application's executors. Threads are released once the sequence finishes.
+     */
+    @Nonnull
+    private ExecutorService executorService() {
+        if (executorService == null) {
+            // handlers usually block on I/O, a single processor must not serialize a wave
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                1L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "griffon-shutdown-" + threadNumber.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            executor.allowCoreThreadTimeOut(true);
+            executorService = executor;
+        }
+        return executorService;
+    }
+
+    private long deadlineFor(@Nonnull String stage) {
+        long timeout = application.getConfiguration().getAsLong(KEY_TIMEOUT_PREFIX + stage, 0L);
+        return timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0L;
+    }
+
+    private static boolean expired(long deadline) {
+        return deadline != 0 && remaining(deadline) <= 0;
+    }
+
+    private static long remaining(long deadline) {
+        return deadline - System.nanoTime();
+    }
+
+    private void record(@Nonnull String stage, long start) {
+        timings.put(stage, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Destroys a group tree at most once; the task is either run or cancelled, never both.
+     */
+    private static final class GroupDestruction implements Runnable {
+        private final MVCGroupManager mvcGroupManager;
+        private final String mvcId;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private GroupDestruction(@Nonnull MVCGroupManager mvcGroupManager, @Nonnull String mvcId) {
+            this.mvcGroupManager = mvcGroupManager;
+            this.mvcId = mvcId;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                mvcGroupManager.destroyMVCGroup(mvcId);
+            } catch (RuntimeException e) {
+                LOG.error("An error occurred while destroying group {}", mvcId, sanitize(e));
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private boolean cancel() {
+            if (claimed.compareAndSet(false, true)) {
+                done.countDown();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean await(long deadline) throws InterruptedException {
+            if (deadline == 0) {
+                done.await();
+                return true;
+            }
+            return done.await(Math.max(0L, remaining(deadline)), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -27,7 +27,6 @@ import griffon.core.controller.ActionHandler;
 import griffon.core.controller.ActionInterceptor;
 import griffon.core.controller.ActionManager;
 import griffon.core.i18n.MessageSource;
-import griffon.core.i18n.NoSuchMessageException;
 import griffon.core.mvc.MVCGroup;
 import griffon.core.threading.UIThreadManager;
 import griffon.exceptions.GriffonException;
@@ -84,6 +83,8 @@ public abstract class AbstractActionManager implements ActionManager {
     private static final String ERROR_ACTION_NAME_BLANK = "Argument 'actionName' must not be blank";
     private static final String ERROR_ACTION_HANDLER_NULL = "Argument 'actionHandler' must not be null";
     private static final String ERROR_ACTION_NULL = "Argument 'action' must not be null";
+    // returned by the message source when a key is missing, compared by identity
+    private static final String NO_MESSAGE = new String("");
     private final ActionCache actionCache = new ActionCache();
     private final Map<String, Threading.Policy> threadingPolicies = new ConcurrentHashMap<>();
     private final List<ActionHandler> handlers = new CopyOnWriteArrayList<>();
@@ -493,11 +494,11 @@ public abstract class AbstractActionManager implements ActionManager {
 
     @Nullable
     protected String msg(@Nonnull String key, @Nonnull String actionName, @Nonnull String subkey, @Nullable String defaultValue) {
-        try {
-            return getMessageSource().getMessage(key + actionName + "." + subkey);
-        } catch (NoSuchMessageException nsme) {
-            return getMessageSource().getMessage("application.action." + actionName + "." + subkey, defaultValue);
+        String message = getMessageSource().getMessage(key + actionName + "." + subkey, NO_MESSAGE);
+        if (message != NO_MESSAGE) {
+            return message;
         }
+        return getMessageSource().getMessage("application.action." + actionName + "." + subkey, defaultValue);
     }
 
     private static class ActionWrapper extends ActionDecorator {
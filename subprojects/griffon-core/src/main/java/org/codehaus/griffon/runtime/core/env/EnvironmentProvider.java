@@ -18,6 +18,7 @@ package org.codehaus.griffon.runtime.core.env;
 import griffon.core.env.Environment;
 import griffon.core.env.Metadata;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
@@ -29,6 +30,19 @@ public class EnvironmentProvider implements Provider<Environment> {
     @Inject
     private Metadata metadata;
 
+    public EnvironmentProvider() {
+    }
+
+    /**
+     * Creates a provider that does not rely on injection.
+     *
+     * @param metadata the application's metadata
+     * @since 2.8.0
+     */
+    public EnvironmentProvider(@Nullable Metadata metadata) {
+        this.metadata = metadata;
+    }
+
     private static boolean isBlank(String value) {
         return value == null || value.trim().length() == 0;
     }
@@ -22,10 +22,15 @@ import griffon.core.i18n.NoSuchMessageException;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
@@ -43,6 +48,23 @@ public abstract class AbstractMessageSource implements MessageSource {
 
     protected static final Object[] EMPTY_OBJECT_ARGS = new Object[0];
 
+    /**
+     * Maximum number of missing keys remembered by each instance, per locale.
+     *
+     * @since 2.8.0
+     */
+    protected static final int MISSING_KEYS_CACHE_SIZE = 1024;
+
+    /**
+     * Maximum number of parsed patterns kept by each instance, per locale.
+     *
+     * @since 2.8.0
+     */
+    protected static final int MESSAGE_FORMAT_CACHE_SIZE = 256;
+
+    private final ConcurrentHashMap<Locale, Set<String>> missingKeys = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Locale, ConcurrentMap<String, Object>> messageFormats = new ConcurrentHashMap<>();
+
     @Nonnull
     @Override
     public String getMessage(@Nonnull String key) throws NoSuchMessageException {
@@ -106,11 +128,13 @@ public abstract class AbstractMessageSource implements MessageSource {
     @Nullable
     @Override
     public String getMessage(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale, @Nullable String defaultMessage) {
-        try {
-            return getMessage(key, args, locale);
-        } catch (NoSuchMessageException nsme) {
-            return null == defaultMessage ? key : defaultMessage;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = findMessageValue(key, locale);
+        Object result = message != null ? evalMessageWithArguments(message, args) : null;
+        if (result != null) return result.toString();
+        return null == defaultMessage ? key : defaultMessage;
     }
 
     @Nullable
@@ -152,11 +176,13 @@ public abstract class AbstractMessageSource implements MessageSource {
     @Nullable
     @Override
     public String getMessage(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Locale locale, @Nullable String defaultMessage) {
-        try {
-            return getMessage(key, args, locale);
-        } catch (NoSuchMessageException nsme) {
-            return null == defaultMessage ? key : defaultMessage;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = findMessageValue(key, locale);
+        Object result = message != null ? evalMessageWithArguments(message, args) : null;
+        if (result != null) return result.toString();
+        return null == defaultMessage ? key : defaultMessage;
     }
 
     @Nonnull
@@ -164,18 +190,112 @@ public abstract class AbstractMessageSource implements MessageSource {
     public Object resolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = findMessageValue(key, locale);
+        if (message != null) return message;
+        throw new NoSuchMessageException(key, locale);
+    }
+
+    /**
+     * Resolves the value of a message without throwing an exception when the key is missing.
+     * Misses are remembered per locale, up to {@code MISSING_KEYS_CACHE_SIZE} keys per locale,
+     * thus looking up the same missing key again costs a single hash lookup.
+     *
+     * @param key    the key to resolve
+     * @param locale the locale to use
+     *
+     * @return the resolved value (with references followed) or {@code null} if the key could not be resolved.
+     *
+     * @since 2.8.0
+     */
+    @Nullable
+    protected Object findMessageValue(@Nonnull String key, @Nonnull Locale locale) {
+        Set<String> missing = missingKeys.get(locale);
+        if (missing != null && missing.contains(key)) {
+            return null;
+        }
+
+        Object message;
         try {
-            Object message = doResolveMessageValue(key, locale);
-            if (message instanceof CharSequence) {
-                String msg = message.toString();
-                if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
-                    String refKey = msg.substring(2, msg.length() - 1);
-                    message = resolveMessageValue(refKey, locale);
+            message = doFindMessageValue(key, locale);
+        } catch (MissingResourceException mre) {
+            message = null;
+        }
+
+        if (message instanceof CharSequence) {
+            String msg = message.toString();
+            if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
+                String refKey = msg.substring(2, msg.length() - 1);
+                message = findMessageValue(refKey, locale);
+            }
+        }
+
+        if (message == null) {
+            if (missing == null) {
+                missing = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                Set<String> existing = missingKeys.putIfAbsent(locale, missing);
+                if (existing != null) {
+                    missing = existing;
                 }
             }
-            return message;
-        } catch (MissingResourceException mre) {
-            throw new NoSuchMessageException(key, locale);
+            if (missing.size() >= MISSING_KEYS_CACHE_SIZE) {
+                Iterator<String> it = missing.iterator();
+                if (it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+            missing.add(key);
+        }
+        return message;
+    }
+
+    /**
+     * Resolves the raw value of a message. Subclasses should override this method if they
+     * can detect a missing key without relying on exceptions. The default implementation
+     * delegates to {@code doResolveMessageValue()}.
+     *
+     * @param key    the key to resolve
+     * @param locale the locale to use
+     *
+     * @return the value or {@code null} if the key could not be resolved.
+     *
+     * @since 2.8.0
+     */
+    @Nullable
+    protected Object doFindMessageValue(@Nonnull String key, @Nonnull Locale locale) {
+        try {
+            return doResolveMessageValue(key, locale);
+        } catch (NoSuchMessageException nsme) {
+            return null;
+        }
+    }
+
+    /**
+     * Forgets all keys previously found to be missing as well as parsed patterns. Subclasses whose
+     * messages may change after being resolved must call this method once they do. The caches of
+     * the application's message source are cleared whenever the application's locale changes.
+     *
+     * @since 2.8.0
+     */
+    public void clearCaches() {
+        missingKeys.clear();
+        messageFormats.clear();
+    }
+
+    /**
+     * Clears the caches of the given message source, looking through decorators.
+     *
+     * @param messageSource the message source whose caches should be cleared
+     *
+     * @since 2.8.0
+     */
+    public static void clearCaches(@Nonnull MessageSource messageSource) {
+        requireNonNull(messageSource, "Argument 'messageSource' must not be null");
+        while (messageSource instanceof MessageSourceDecorator) {
+            messageSource = ((MessageSourceDecorator) messageSource).getDelegate();
+        }
+        if (messageSource instanceof AbstractMessageSource) {
+            ((AbstractMessageSource) messageSource).clearCaches();
         }
     }
 
@@ -193,7 +313,54 @@ public abstract class AbstractMessageSource implements MessageSource {
         requireNonNull(message, ERROR_MESSAGE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
         if (args.length == 0) return message;
-        return MessageFormat.format(message, args);
+        if (message.indexOf('{') < 0 && message.indexOf('\'') < 0) return message;
+
+        Object format = resolveMessageFormat(message, Locale.getDefault(Locale.Category.FORMAT));
+        if (format instanceof MessageFormat) {
+            // MessageFormat is not thread safe, format with a private copy
+            return ((MessageFormat) ((MessageFormat) format).clone()).format(args);
+        }
+        return String.valueOf(format);
+    }
+
+    /**
+     * Returns the parsed form of the given pattern. Parsed patterns are cached per locale and
+     * pattern, up to {@code MESSAGE_FORMAT_CACHE_SIZE} entries per locale; an arbitrary entry
+     * is discarded to make room for a new one. Patterns that do not define any arguments are
+     * resolved to their formatted {@code String}.
+     *
+     * @param message the pattern to parse
+     * @param locale  the locale used for formatting arguments
+     *
+     * @return a shared {@code MessageFormat} instance or a {@code String} constant.
+     *
+     * @since 2.8.0
+     */
+    @Nonnull
+    protected Object resolveMessageFormat(@Nonnull String message, @Nonnull Locale locale) {
+        ConcurrentMap<String, Object> formats = messageFormats.get(locale);
+        if (formats == null) {
+            formats = new ConcurrentHashMap<>();
+            ConcurrentMap<String, Object> existing = messageFormats.putIfAbsent(locale, formats);
+            if (existing != null) {
+                formats = existing;
+            }
+        }
+
+        Object format = formats.get(message);
+        if (format == null) {
+            MessageFormat messageFormat = new MessageFormat(message, locale);
+            format = messageFormat.getFormats().length == 0 ? messageFormat.format(EMPTY_OBJECT_ARGS) : messageFormat;
+            if (formats.size() >= MESSAGE_FORMAT_CACHE_SIZE) {
+                Iterator<String> it = formats.keySet().iterator();
+                if (it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+            formats.put(message, format);
+        }
+        return format;
     }
 
     @Nonnull
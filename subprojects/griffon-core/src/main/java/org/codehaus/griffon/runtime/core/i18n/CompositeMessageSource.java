@@ -20,9 +20,8 @@ import griffon.core.i18n.NoSuchMessageException;
 import griffon.util.CompositeResourceBundle;
 
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
+import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -35,7 +34,13 @@ import static java.util.Objects.requireNonNull;
  * @since 2.0.0
  */
 public class CompositeMessageSource extends AbstractMessageSource {
+    // returned by delegates when a key is missing, compared by identity
+    private static final String NO_MESSAGE = new String("");
+
     private final MessageSource[] messageSources;
+    private final Object lock = new Object[0];
+    private ResourceBundle[] resourceBundles;
+    private ResourceBundle resourceBundle;
 
     public CompositeMessageSource(@Nonnull Collection<MessageSource> messageSources) {
         this(toMessageSourceArray(messageSources));
@@ -51,6 +56,14 @@ public class CompositeMessageSource extends AbstractMessageSource {
         return messageSources.toArray(new MessageSource[messageSources.size()]);
     }
 
+    @Override
+    public void clearCaches() {
+        super.clearCaches();
+        for (MessageSource messageSource : messageSources) {
+            clearCaches(messageSource);
+        }
+    }
+
     @Nonnull
     @Override
     protected Object doResolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
@@ -66,13 +79,44 @@ public class CompositeMessageSource extends AbstractMessageSource {
         throw new NoSuchMessageException(key, locale);
     }
 
+    @Nullable
+    @Override
+    protected Object doFindMessageValue(@Nonnull String key, @Nonnull Locale locale) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        for (MessageSource messageSource : messageSources) {
+            String message = messageSource.getMessage(key, locale, NO_MESSAGE);
+            if (message != NO_MESSAGE) {
+                return message;
+            }
+        }
+        return null;
+    }
+
     @Nonnull
     @Override
     public ResourceBundle asResourceBundle() {
-        List<ResourceBundle> bundles = new ArrayList<>();
-        for (MessageSource messageSource : messageSources) {
-            bundles.add(messageSource.asResourceBundle());
+        ResourceBundle[] bundles = new ResourceBundle[messageSources.length];
+        for (int i = 0; i < messageSources.length; i++) {
+            bundles[i] = messageSources[i].asResourceBundle();
+        }
+
+        synchronized (lock) {
+            // reuse the merged bundle for as long as every delegate returns the same bundle
+            if (resourceBundle == null || !identical(bundles, resourceBundles)) {
+                resourceBundles = bundles;
+                resourceBundle = new CompositeResourceBundle(bundles);
+            }
+            return resourceBundle;
+        }
+    }
+
+    private static boolean identical(@Nonnull ResourceBundle[] bundles, @Nonnull ResourceBundle[] others) {
+        for (int i = 0; i < bundles.length; i++) {
+            if (bundles[i] != others[i]) {
+                return false;
+            }
         }
-        return new CompositeResourceBundle(bundles);
+        return true;
     }
 }
@@ -20,6 +20,7 @@ import griffon.util.CompositeResourceBundle;
 import griffon.util.CompositeResourceBundleBuilder;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -36,6 +37,8 @@ public class DefaultMessageSource extends AbstractMessageSource {
     private final String basename;
     private final Map<Locale, ResourceBundle> bundles = new ConcurrentHashMap<>();
     private final CompositeResourceBundleBuilder compositeResourceBundleBuilder;
+    private final Object lock = new Object[0];
+    private ResourceBundle resourceBundle;
 
     public DefaultMessageSource(@Nonnull CompositeResourceBundleBuilder builder, @Nonnull String basename) {
         this.compositeResourceBundleBuilder = requireNonNull(builder, "Argument 'builder' must not be null");
@@ -54,13 +57,25 @@ public class DefaultMessageSource extends AbstractMessageSource {
         return getBundle(locale).getObject(key);
     }
 
+    @Nullable
+    @Override
+    protected Object doFindMessageValue(@Nonnull String key, @Nonnull Locale locale) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        ResourceBundle bundle = getBundle(locale);
+        return bundle.containsKey(key) ? bundle.getObject(key) : null;
+    }
+
     @Nonnull
     protected ResourceBundle getBundle(@Nonnull Locale locale) {
         requireNonNull(locale, ERROR_LOCALE_NULL);
         ResourceBundle rb = bundles.get(locale);
         if (null == rb) {
             rb = compositeResourceBundleBuilder.create(basename, locale);
-            bundles.put(locale, rb);
+            synchronized (lock) {
+                bundles.put(locale, rb);
+                resourceBundle = null;
+            }
         }
         return rb;
     }
@@ -72,6 +87,11 @@ public class DefaultMessageSource extends AbstractMessageSource {
         if (bundles.isEmpty()) {
             getBundle(Locale.getDefault());
         }
-        return new CompositeResourceBundle(bundles.values());
+        synchronized (lock) {
+            if (resourceBundle == null) {
+                resourceBundle = new CompositeResourceBundle(bundles.values());
+            }
+            return resourceBundle;
+        }
     }
 }
@@ -61,6 +61,8 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
     protected MVCGroup parentGroup;
     private boolean alive;
     private final List<Object> injectedInstances = new ArrayList<>();
+    private Runnable viewInitializer;
+    private boolean viewInitializing;
 
     public AbstractMVCGroup(@Nonnull MVCGroupManager mvcGroupManager, @Nonnull MVCGroupConfiguration configuration, @Nullable String mvcId, @Nonnull Map<String, Object> members, @Nullable MVCGroup parentGroup) {
         super(mvcGroupManager);
@@ -122,7 +124,68 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
     @Nullable
     @Override
     public GriffonView getView() {
-        return (GriffonView) getMember(GriffonViewClass.TYPE);
+        GriffonView view = (GriffonView) getMember(GriffonViewClass.TYPE);
+        initializeView();
+        return view;
+    }
+
+    /**
+     * Defers initialization of the view until {@link #initializeView()} is called.
+     *
+     * @param viewInitializer the code that initializes the view
+     * @since 2.8.0
+     */
+    public void setViewInitializer(@Nullable Runnable viewInitializer) {
+        synchronized (lock) {
+            this.viewInitializer = viewInitializer;
+        }
+    }
+
+    /**
+     * Initializes the View portion of this group if its initialization was deferred by
+     * setting {@code config.view.lazy = true}. Calling {@link #getView()} has the same effect.
+     * Does nothing if the view has been initialized already or is being initialized. If
+     * initialization fails the view remains uninitialized and initialization may be attempted again.
+     *
+     * @throws IllegalStateException if the group has been destroyed already
+     * @since 2.8.0
+     */
+    public void initializeView() {
+        checkIfAlive();
+        Runnable initializer;
+        synchronized (lock) {
+            initializer = viewInitializer;
+            if (initializer == null) {
+                return;
+            }
+            viewInitializer = null;
+            viewInitializing = true;
+        }
+
+        boolean initialized = false;
+        try {
+            initializer.run();
+            initialized = true;
+        } finally {
+            synchronized (lock) {
+                viewInitializing = false;
+                if (!initialized) {
+                    viewInitializer = initializer;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the View portion of this group has been initialized or not.
+     *
+     * @return false if initialization of the view is still pending, in progress or has failed, true otherwise
+     * @since 2.8.0
+     */
+    public boolean isViewInitialized() {
+        synchronized (lock) {
+            return viewInitializer == null && !viewInitializing;
+        }
     }
 
     @Nullable
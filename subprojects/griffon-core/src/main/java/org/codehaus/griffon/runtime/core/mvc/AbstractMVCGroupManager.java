@@ -15,6 +15,7 @@
  */
 package org.codehaus.griffon.runtime.core.mvc;
 
+import griffon.core.Configuration;
 import griffon.core.Context;
 import griffon.core.ContextFactory;
 import griffon.core.GriffonApplication;
@@ -65,12 +66,19 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
     protected static final String ERROR_NAME_BLANK = "Argument 'name' cannot be blank";
     protected static final String ERROR_TYPE_NULL = "Argument 'type' cannot be null";
     private static final Logger LOG = LoggerFactory.getLogger(AbstractMVCGroupManager.class);
+    private static final String CONFIG_KEY_LEAK_DETECTION_ENABLED = "griffon.mvcgroups.leakDetection.enabled";
+    private static final String CONFIG_KEY_LEAK_DETECTION_GC_CYCLES = "griffon.mvcgroups.leakDetection.gcCycles";
+    private static final String CONFIG_KEY_LEAK_DETECTION_INTERVAL = "griffon.mvcgroups.leakDetection.interval";
+    private static final int DEFAULT_LEAK_DETECTION_GC_CYCLES = 3;
+    private static final long DEFAULT_LEAK_DETECTION_INTERVAL = 5000L;
     private final GriffonApplication application;
 
-    private final Map<String, MVCGroupConfiguration> configurations = new LinkedHashMap<>();
-    private final Map<String, MVCGroup> groups = new LinkedHashMap<>();
+    private final MVCGroupRegistry groups = new MVCGroupRegistry();
+    private volatile Map<String, MVCGroupConfiguration> configurations = Collections.emptyMap();
     private final Object lock = new Object[0];
-    private boolean initialized;
+    private volatile boolean initialized;
+    private volatile MVCGroupLeakDetector leakDetector;
+    private volatile boolean leakDetectorResolved;
 
     @Inject
     private MVCGroupConfigurationFactory mvcGroupConfigurationFactory;
@@ -110,28 +118,48 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
 
     @Nonnull
     public Map<String, MVCGroupConfiguration> getConfigurations() {
-        synchronized (lock) {
-            return unmodifiableMap(configurations);
-        }
+        return configurations;
     }
 
     @Nonnull
     public Map<String, MVCGroup> getGroups() {
-        synchronized (lock) {
-            return unmodifiableMap(groups);
-        }
+        return groups.getGroups();
+    }
+
+    /**
+     * Returns all currently available groups of the given type, keyed by mvcId.
+     *
+     * @param mvcType the type of the groups to find
+     * @return an immutable snapshot of matching groups. Never returns null.
+     * @since 2.8.0
+     */
+    @Nonnull
+    public Map<String, MVCGroup> findGroupsByType(@Nonnull String mvcType) {
+        requireNonBlank(mvcType, ERROR_MVCTYPE_BLANK);
+        return groups.getGroupsByType(mvcType);
+    }
+
+    /**
+     * Returns all currently available groups whose parent group is identified by the given id, keyed by mvcId.
+     *
+     * @param mvcId the id of the parent group
+     * @return an immutable snapshot of matching groups. Never returns null.
+     * @since 2.8.0
+     */
+    @Nonnull
+    public Map<String, MVCGroup> findGroupsByParent(@Nonnull String mvcId) {
+        requireNonBlank(mvcId, ERROR_MVCID_BLANK);
+        return groups.getGroupsByParent(mvcId);
     }
 
     @Nonnull
     public MVCGroupConfiguration findConfiguration(@Nonnull String mvcType) {
         requireNonBlank(mvcType, ERROR_MVCTYPE_BLANK);
-        MVCGroupConfiguration configuration;
-        synchronized (lock) {
-            configuration = configurations.get(mvcType);
-        }
+        Map<String, MVCGroupConfiguration> snapshot = configurations;
+        MVCGroupConfiguration configuration = snapshot.get(mvcType);
 
         if (configuration == null) {
-            throw new MVCGroupConfigurationException("Unknown MVC type '" + mvcType + "'. Known types are " + configurations.keySet(), mvcType);
+            throw new MVCGroupConfigurationException("Unknown MVC type '" + mvcType + "'. Known types are " + snapshot.keySet(), mvcType);
         }
         return configuration;
     }
@@ -139,10 +167,7 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
     @Nullable
     public MVCGroup findGroup(@Nonnull String mvcId) {
         requireNonBlank(mvcId, ERROR_MVCID_BLANK);
-        synchronized (lock) {
-            LOG.debug("Searching group {}", mvcId);
-            return groups.get(mvcId);
-        }
+        return groups.get(mvcId);
     }
 
     @Nullable
@@ -167,7 +192,9 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
             if (initialized && configurations.get(configuration.getMvcType()) != null) {
                 return;
             }
-            configurations.put(configuration.getMvcType(), configuration);
+            Map<String, MVCGroupConfiguration> copy = new LinkedHashMap<>(configurations);
+            copy.put(configuration.getMvcType(), configuration);
+            configurations = unmodifiableMap(copy);
         }
     }
 
@@ -180,67 +207,85 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
         requireNonBlank(name, "Argument 'name' must not be blank");
         if (!isBlank(name)) {
             synchronized (lock) {
-                configurations.remove(name);
+                if (configurations.containsKey(name)) {
+                    Map<String, MVCGroupConfiguration> copy = new LinkedHashMap<>(configurations);
+                    copy.remove(name);
+                    configurations = unmodifiableMap(copy);
+                }
             }
         }
     }
 
     protected void addGroup(@Nonnull MVCGroup group) {
         requireNonNull(group, ERROR_GROUP_NULL);
-        synchronized (lock) {
-            LOG.debug("Adding group {}:{}", group.getMvcId(), group);
-            groups.put(group.getMvcId(), group);
-        }
+        LOG.debug("Adding group {}:{}", group.getMvcId(), group);
+        groups.add(group);
     }
 
     protected void removeGroup(@Nonnull MVCGroup group) {
         requireNonNull(group, ERROR_GROUP_NULL);
-        synchronized (lock) {
-            LOG.debug("Removing group {}:{}", group.getMvcId(), group);
-            groups.remove(group.getMvcId());
+        LOG.debug("Removing group {}:{}", group.getMvcId(), group);
+        groups.remove(group);
+
+        MVCGroupLeakDetector detector = getLeakDetector();
+        if (detector != null && isLeakTrackable(group)) {
+            detector.track(group);
         }
     }
 
-    @Nonnull
-    public final Map<String, ? extends GriffonModel> getModels() {
-        Map<String, GriffonModel> models = new LinkedHashMap<>();
+    /**
+     * Returns the detector that reports destroyed groups that are still reachable.
+     * Leak detection is disabled by default, set {@code griffon.mvcgroups.leakDetection.enabled = true} to enable it.
+     *
+     * @return the leak detector or {@code null} if leak detection is disabled.
+     * @since 2.8.0
+     */
+    @Nullable
+    public MVCGroupLeakDetector getLeakDetector() {
+        if (leakDetectorResolved) {
+            return leakDetector;
+        }
         synchronized (lock) {
-            for (MVCGroup group : groups.values()) {
-                GriffonModel model = group.getModel();
-                if (model != null) {
-                    models.put(group.getMvcId(), model);
+            if (!leakDetectorResolved) {
+                Configuration configuration = getApplication().getConfiguration();
+                if (configuration.getAsBoolean(CONFIG_KEY_LEAK_DETECTION_ENABLED, false)) {
+                    MVCGroupLeakDetector detector = new MVCGroupLeakDetector(getApplication(),
+                        configuration.getAsInt(CONFIG_KEY_LEAK_DETECTION_GC_CYCLES, DEFAULT_LEAK_DETECTION_GC_CYCLES),
+                        configuration.getAsLong(CONFIG_KEY_LEAK_DETECTION_INTERVAL, DEFAULT_LEAK_DETECTION_INTERVAL));
+                    detector.start();
+                    leakDetector = detector;
                 }
+                leakDetectorResolved = true;
             }
+            return leakDetector;
         }
-        return unmodifiableMap(models);
+    }
+
+    /**
+     * Whether a removed group should be tracked by the leak detector. Groups whose members
+     * are kept alive on purpose should not be tracked.
+     *
+     * @param group the removed group
+     * @return {@code true} if the group is expected to become unreachable.
+     * @since 2.8.0
+     */
+    protected boolean isLeakTrackable(@Nonnull MVCGroup group) {
+        return true;
+    }
+
+    @Nonnull
+    public final Map<String, ? extends GriffonModel> getModels() {
+        return groups.getModels();
     }
 
     @Nonnull
     public final Map<String, ? extends GriffonView> getViews() {
-        Map<String, GriffonView> views = new LinkedHashMap<>();
-        synchronized (lock) {
-            for (MVCGroup group : groups.values()) {
-                GriffonView view = group.getView();
-                if (view != null) {
-                    views.put(group.getMvcId(), view);
-                }
-            }
-        }
-        return unmodifiableMap(views);
+        return groups.getViews();
     }
 
     @Nonnull
     public final Map<String, ? extends GriffonController> getControllers() {
-        Map<String, GriffonController> controllers = new LinkedHashMap<>();
-        synchronized (lock) {
-            for (MVCGroup group : groups.values()) {
-                GriffonController controller = group.getController();
-                if (controller != null) {
-                    controllers.put(group.getMvcId(), controller);
-                }
-            }
-        }
-        return unmodifiableMap(controllers);
+        return groups.getControllers();
     }
 
     @Nonnull
@@ -18,6 +18,7 @@ package org.codehaus.griffon.runtime.core.mvc;
 import griffon.core.ApplicationClassLoader;
 import griffon.core.ApplicationEvent;
 import griffon.core.GriffonApplication;
+import griffon.core.env.ApplicationPhase;
 import griffon.core.artifact.ArtifactManager;
 import griffon.core.artifact.GriffonArtifact;
 import griffon.core.artifact.GriffonClass;
@@ -26,6 +27,7 @@ import griffon.core.artifact.GriffonMvcArtifact;
 import griffon.core.artifact.GriffonView;
 import griffon.core.mvc.MVCGroup;
 import griffon.core.mvc.MVCGroupConfiguration;
+import griffon.core.mvc.RecyclableMVCMember;
 import griffon.exceptions.FieldException;
 import griffon.exceptions.GriffonException;
 import griffon.exceptions.MVCGroupInstantiationException;
@@ -51,6 +53,19 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
 import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
@@ -58,6 +73,8 @@ import static griffon.util.AnnotationUtils.findAnnotation;
 import static griffon.util.AnnotationUtils.nameFor;
 import static griffon.util.AnnotationUtils.namesFor;
 import static griffon.util.ConfigUtils.getConfigValueAsBoolean;
+import static griffon.util.ConfigUtils.getConfigValueAsInt;
+import static griffon.util.ConfigUtils.getConfigValueAsLong;
 import static griffon.util.GriffonClassUtils.getAllDeclaredFields;
 import static griffon.util.GriffonClassUtils.getPropertyDescriptors;
 import static griffon.util.GriffonClassUtils.setFieldValue;
@@ -65,6 +82,7 @@ import static griffon.util.GriffonClassUtils.setPropertyOrFieldValueNoException;
 import static griffon.util.GriffonClassUtils.setPropertyValue;
 import static griffon.util.GriffonNameUtils.capitalize;
 import static griffon.util.GriffonNameUtils.isBlank;
+import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 
@@ -81,9 +99,16 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     private static final String CONFIG_KEY_EVENTS_INSTANTIATION = "events.instantiation";
     private static final String CONFIG_KEY_EVENTS_DESTRUCTION = "events.destruction";
     private static final String CONFIG_KEY_EVENTS_LISTENER = "events.listener";
+    private static final String CONFIG_KEY_VIEW_LAZY = "view.lazy";
+    private static final String CONFIG_KEY_INSTANTIATION_PARALLEL = "instantiation.parallel";
+    private static final String CONFIG_KEY_POOL_ENABLED = "pool.enabled";
+    private static final String CONFIG_KEY_POOL_MAX_SIZE = "pool.maxSize";
+    private static final String CONFIG_KEY_POOL_MAX_IDLE_TIME = "pool.maxIdleTime";
+    private static final int DEFAULT_POOL_MAX_SIZE = 8;
     private static final String KEY_PARENT_GROUP = "parentGroup";
 
     private final ApplicationClassLoader applicationClassLoader;
+    private final ConcurrentMap<String, MVCGroupPool> pools = new ConcurrentHashMap<>();
 
     @Inject
     public DefaultMVCGroupManager(@Nonnull GriffonApplication application, @Nonnull ApplicationClassLoader applicationClassLoader) {
@@ -109,6 +134,14 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         LOG.debug("Building MVC group '{}' with name '{}'", configuration.getMvcType(), mvcId);
         Map<String, Object> argsCopy = copyAndConfigureArguments(args, configuration, mvcId);
 
+        MVCGroupPool.Entry pooledEntry = acquirePooledEntry(configuration, args);
+        if (pooledEntry != null) {
+            LOG.debug("Reusing pooled members for MVC group '{}' with name '{}'", configuration.getMvcType(), mvcId);
+            Map<String, Object> instances = pooledEntry.getMembers();
+            argsCopy.putAll(instances);
+            return assembleMVCGroup(configuration, mvcId, args, argsCopy, instances, pooledEntry.getInjectedInstances(), true);
+        }
+
         // figure out what the classes are
         Map<String, ClassHolder> classMap = new LinkedHashMap<>();
         for (Map.Entry<String, String> memberEntry : configuration.getMembers().entrySet()) {
@@ -129,7 +162,11 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
 
         try {
-            instances.putAll(instantiateMembers(classMap, argsCopy));
+            if (isConfigFlagEnabled(configuration, CONFIG_KEY_INSTANTIATION_PARALLEL, false)) {
+                instances.putAll(instantiateMembersInParallel(configuration, mvcId, classMap, argsCopy, injectedInstances));
+            } else {
+                instances.putAll(instantiateMembers(classMap, argsCopy));
+            }
         } finally {
             getApplication().getEventRouter().setEventPublishingEnabled(isEventPublishingEnabled);
             try {
@@ -139,6 +176,11 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             }
         }
 
+        return assembleMVCGroup(configuration, mvcId, args, argsCopy, instances, injectedInstances, false);
+    }
+
+    @Nonnull
+    private MVCGroup assembleMVCGroup(@Nonnull MVCGroupConfiguration configuration, @Nonnull String mvcId, @Nonnull Map<String, Object> args, @Nonnull Map<String, Object> argsCopy, @Nonnull Map<String, Object> instances, @Nonnull List<Object> injectedInstances, boolean reused) {
         MVCGroup group = newMVCGroup(configuration, mvcId, instances, (MVCGroup) args.get(KEY_PARENT_GROUP));
         adjustMvcArguments(group, argsCopy);
 
@@ -160,7 +202,11 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
         doAddGroup(group);
 
-        initializeMembers(group, argsCopy);
+        if (reused) {
+            reuseMembers(group, argsCopy);
+        } else {
+            initializeMembers(group, argsCopy);
+        }
         if (group instanceof AbstractMVCGroup) {
             ((AbstractMVCGroup) group).getInjectedInstances().addAll(injectedInstances);
         }
@@ -250,37 +296,169 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
                 instanceMap.put(memberType, args.get(memberType));
             } else {
                 // otherwise create a new value
-                ClassHolder classHolder = classEntry.getValue();
-                if (classHolder.artifactClass != null) {
-                    Class<? extends GriffonArtifact> memberClass = classHolder.artifactClass;
-                    ArtifactManager artifactManager = getApplication().getArtifactManager();
-                    GriffonClass griffonClass = artifactManager.findGriffonClass(memberClass);
-                    GriffonArtifact instance = artifactManager.newInstance(griffonClass);
-                    instanceMap.put(memberType, instance);
-                    args.put(memberType, instance);
+                Object instance = instantiateMember(memberType, classEntry.getValue());
+                instanceMap.put(memberType, instance);
+                args.put(memberType, instance);
+            }
+        }
+        return instanceMap;
+    }
+
+    /**
+     * Instantiates members concurrently. Views are instantiated on the calling thread while every other
+     * member (and the services injected into it) is built on a dedicated executor that never queues tasks;
+     * members for which there is no idle thread are instantiated on the calling thread, thus no task ever
+     * waits behind a blocked caller, even when the caller is a pool thread itself. Each background task runs inside its
+     * own {@code InjectionUnitOfWork}; tracked instances are merged into {@code injectedInstances} once all
+     * tasks have been joined. If any member fails, the instances tracked by the tasks that did complete are
+     * released. Members are returned in the same order as they appear in {@code classMap}.
+     */
+    @Nonnull
+    protected Map<String, Object> instantiateMembersInParallel(@Nonnull MVCGroupConfiguration configuration, @Nonnull String mvcId, @Nonnull Map<String, ClassHolder> classMap, @Nonnull Map<String, Object> args, @Nonnull List<Object> injectedInstances) {
+        Map<String, Future<InstantiatedMember>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, ClassHolder> classEntry : classMap.entrySet()) {
+            final String memberType = classEntry.getKey();
+            final ClassHolder classHolder = classEntry.getValue();
+            if (args.containsKey(memberType) || classHolder.isView()) { continue; }
+            try {
+                futures.put(memberType, InstantiatorHolder.INSTANTIATOR.submit(new Callable<InstantiatedMember>() {
+                    @Override
+                    public InstantiatedMember call() throws Exception {
+                        InjectionUnitOfWork.start();
+                        Object instance = null;
+                        boolean instantiated = false;
+                        List<Object> tracked;
+                        try {
+                            instance = instantiateMember(memberType, classHolder);
+                            instantiated = true;
+                        } finally {
+                            // always unbind the unit of work, errors included, pooled threads are reused
+                            tracked = InjectionUnitOfWork.finish();
+                            if (!instantiated) {
+                                for (Object trackedInstance : tracked) {
+                                    getApplication().getInjector().release(trackedInstance);
+                                }
+                            }
+                        }
+                        return new InstantiatedMember(instance, tracked);
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                // all threads are busy, the member is instantiated on the calling thread
+            }
+        }
+
+        Map<String, Object> instanceMap = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, ClassHolder> classEntry : classMap.entrySet()) {
+                String memberType = classEntry.getKey();
+                if (args.containsKey(memberType)) {
+                    // use provided value, even if null
+                    instanceMap.put(memberType, args.get(memberType));
+                } else if (!futures.containsKey(memberType)) {
+                    instanceMap.put(memberType, instantiateMember(memberType, classEntry.getValue()));
                 } else {
-                    Class<?> memberClass = classHolder.regularClass;
+                    // placeholder, keeps member ordering intact
+                    instanceMap.put(memberType, null);
+                }
+            }
+
+            for (Map.Entry<String, Future<InstantiatedMember>> future : futures.entrySet()) {
+                InstantiatedMember member = join(configuration, mvcId, future.getValue());
+                instanceMap.put(future.getKey(), member.instance);
+                injectedInstances.addAll(member.injectedInstances);
+            }
+        } catch (RuntimeException e) {
+            releaseInstantiatedMembers(futures.values());
+            throw e;
+        }
+
+        for (Map.Entry<String, Object> entry : instanceMap.entrySet()) {
+            if (!args.containsKey(entry.getKey())) {
+                args.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return instanceMap;
+    }
+
+    /**
+     * Waits for every task to finish and releases the instances tracked by those that completed
+     * successfully, as no group will own them.
+     */
+    private void releaseInstantiatedMembers(@Nonnull Collection<Future<InstantiatedMember>> futures) {
+        boolean interrupted = false;
+        for (Future<InstantiatedMember> future : futures) {
+            InstantiatedMember member;
+            try {
+                while (true) {
                     try {
-                        Object instance = memberClass.newInstance();
-                        getApplication().getInjector().injectMembers(instance);
-                        instanceMap.put(memberType, instance);
-                        args.put(memberType, instance);
-                    } catch (InstantiationException | IllegalAccessException e) {
-                        LOG.error("Can't create member {} with {}", memberType, memberClass);
-                        throw new NewInstanceException(memberClass, e);
+                        member = future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
                     }
                 }
+            } catch (ExecutionException | CancellationException e) {
+                // the task tracked nothing or already released its instances
+                continue;
+            }
+            for (Object instance : member.injectedInstances) {
+                try {
+                    getApplication().getInjector().release(instance);
+                } catch (RuntimeException e) {
+                    LOG.warn("Could not release {}", instance, sanitize(e));
+                }
             }
         }
-        return instanceMap;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nonnull
+    private InstantiatedMember join(@Nonnull MVCGroupConfiguration configuration, @Nonnull String mvcId, @Nonnull Future<InstantiatedMember> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MVCGroupInstantiationException("Interrupted while instantiating MVC group '" + configuration.getMvcType() + "' with id '" + mvcId + "'", configuration.getMvcType(), mvcId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MVCGroupInstantiationException(configuration.getMvcType(), mvcId, e.getCause());
+        }
+    }
+
+    @Nonnull
+    protected Object instantiateMember(@Nonnull String memberType, @Nonnull ClassHolder classHolder) {
+        if (classHolder.artifactClass != null) {
+            Class<? extends GriffonArtifact> memberClass = classHolder.artifactClass;
+            ArtifactManager artifactManager = getApplication().getArtifactManager();
+            GriffonClass griffonClass = artifactManager.findGriffonClass(memberClass);
+            return artifactManager.newInstance(griffonClass);
+        }
+
+        Class<?> memberClass = classHolder.regularClass;
+        try {
+            Object instance = memberClass.newInstance();
+            getApplication().getInjector().injectMembers(instance);
+            return instance;
+        } catch (InstantiationException | IllegalAccessException e) {
+            LOG.error("Can't create member {} with {}", memberType, memberClass);
+            throw new NewInstanceException(memberClass, e);
+        }
     }
 
     protected void initializeMembers(@Nonnull MVCGroup group, @Nonnull Map<String, Object> args) {
         LOG.debug("Initializing each MVC member of group '{}'", group.getMvcId());
+        boolean lazyView = group instanceof AbstractMVCGroup && isConfigFlagEnabled(group.getConfiguration(), CONFIG_KEY_VIEW_LAZY, false);
         for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
             String memberType = memberEntry.getKey();
             Object member = memberEntry.getValue();
-            if (member instanceof GriffonArtifact) {
+            if (lazyView && member instanceof GriffonView) {
+                deferViewInitialization((AbstractMVCGroup) group, memberType, (GriffonView) member, args);
+            } else if (member instanceof GriffonArtifact) {
                 initializeArtifactMember(group, memberType, (GriffonArtifact) member, args);
             } else {
                 initializeNonArtifactMember(group, memberType, member, args);
@@ -307,6 +485,41 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    protected void deferViewInitialization(@Nonnull final AbstractMVCGroup group, @Nonnull final String type, @Nonnull final GriffonView view, @Nonnull final Map<String, Object> args) {
+        LOG.debug("Deferring initialization of view '{}' of group '{}'", type, group.getMvcId());
+        group.setViewInitializer(new Runnable() {
+            @Override
+            public void run() {
+                LOG.debug("Initializing deferred view '{}' of group '{}'", type, group.getMvcId());
+                initializeArtifactMember(group, type, view, args);
+            }
+        });
+    }
+
+    protected void reuseMembers(@Nonnull MVCGroup group, @Nonnull final Map<String, Object> args) {
+        LOG.debug("Reusing each MVC member of group '{}'", group.getMvcId());
+        for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
+            Object member = memberEntry.getValue();
+            if (member instanceof RecyclableMVCMember) {
+                final RecyclableMVCMember recyclable = (RecyclableMVCMember) member;
+                if (member instanceof GriffonView) {
+                    getApplication().getUIThreadManager().runInsideUISync(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                recyclable.mvcGroupReuse(args);
+                            } catch (RuntimeException e) {
+                                throw (RuntimeException) sanitize(e);
+                            }
+                        }
+                    });
+                } else {
+                    recyclable.mvcGroupReuse(args);
+                }
+            }
+        }
+    }
+
     protected void initializeNonArtifactMember(@Nonnull MVCGroup group, @Nonnull String type, @Nonnull Object member, @Nonnull Map<String, Object> args) {
         // empty
     }
@@ -456,7 +669,9 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
         boolean fireDestructionEvents = isConfigFlagEnabled(group.getConfiguration(), CONFIG_KEY_EVENTS_DESTRUCTION);
 
-        destroyMembers(group, fireDestructionEvents);
+        if (!recycleMembers(group)) {
+            destroyMembers(group, fireDestructionEvents);
+        }
 
         doRemoveGroup(group);
         group.destroy();
@@ -467,9 +682,18 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     }
 
     protected void destroyMembers(@Nonnull MVCGroup group, boolean fireDestructionEvents) {
+        boolean viewInitialized = isViewInitialized(group);
+        if (!viewInitialized) {
+            // the view was never initialized, there is nothing to destroy
+            ((AbstractMVCGroup) group).setViewInitializer(null);
+        }
+
         for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
             Object member = memberEntry.getValue();
-            if (member instanceof GriffonArtifact) {
+            if (!viewInitialized && member instanceof GriffonView) {
+                clearParentMemberProperties(member);
+                destroyContextualMemberProperties(memberEntry.getKey(), (GriffonArtifact) member);
+            } else if (member instanceof GriffonArtifact) {
                 destroyArtifactMember(memberEntry.getKey(), (GriffonArtifact) member, fireDestructionEvents);
             } else {
                 destroyNonArtifactMember(memberEntry.getKey(), member, fireDestructionEvents);
@@ -486,6 +710,171 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    private static boolean isViewInitialized(@Nonnull MVCGroup group) {
+        return !(group instanceof AbstractMVCGroup) || ((AbstractMVCGroup) group).isViewInitialized();
+    }
+
+    protected boolean recycleMembers(@Nonnull MVCGroup group) {
+        MVCGroupPool pool = resolvePool(group.getConfiguration());
+        if (pool == null || !isViewInitialized(group)) { return false; }
+
+        if (getApplication().getPhase() == ApplicationPhase.SHUTDOWN) {
+            clearPools();
+            return false;
+        }
+
+        disposePooledEntries(group.getConfiguration(), pool.evictIdle());
+        if (pool.isFull()) { return false; }
+
+        // members must opt in, otherwise they could be handed out with stale state
+        for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
+            if (memberEntry.getValue() != null && !(memberEntry.getValue() instanceof RecyclableMVCMember)) {
+                LOG.debug("Member '{}' of group '{}' is not recyclable. Group will not be pooled", memberEntry.getKey(), group.getMvcId());
+                return false;
+            }
+        }
+
+        LOG.debug("Recycling each MVC member of group '{}'", group.getMvcId());
+        try {
+            resetMembers(group);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not reset members of group [{}]. Group will not be pooled", group.getMvcId(), sanitize(e));
+            return false;
+        }
+
+        for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
+            Object member = memberEntry.getValue();
+            if (member instanceof GriffonArtifact) {
+                clearParentMemberProperties(member);
+                destroyContextualMemberProperties(memberEntry.getKey(), (GriffonArtifact) member);
+            }
+        }
+
+        List<Object> injectedInstances = new ArrayList<>();
+        if (group instanceof AbstractMVCGroup) {
+            injectedInstances.addAll(((AbstractMVCGroup) group).getInjectedInstances());
+            ((AbstractMVCGroup) group).getInjectedInstances().clear();
+        }
+
+        MVCGroupPool.Entry entry = new MVCGroupPool.Entry(group.getMembers(), injectedInstances);
+        if (!pool.offer(entry)) {
+            // another group of the same type filled the pool in the meantime
+            disposePooledEntries(group.getConfiguration(), asList(entry));
+        }
+        return true;
+    }
+
+    /**
+     * Invokes {@code RecyclableMVCMember.mvcGroupRecycle()} on every member of the group, views
+     * are reset inside the UI thread. Members are reset before they are parked in the pool thus
+     * they never reach a new group with state from the previous one.
+     *
+     * @param group the group whose members will be pooled
+     */
+    protected void resetMembers(@Nonnull MVCGroup group) {
+        for (Object member : group.getMembers().values()) {
+            if (member instanceof RecyclableMVCMember) {
+                final RecyclableMVCMember recyclable = (RecyclableMVCMember) member;
+                if (member instanceof GriffonView) {
+                    getApplication().getUIThreadManager().runInsideUISync(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                recyclable.mvcGroupRecycle();
+                            } catch (RuntimeException e) {
+                                throw (RuntimeException) sanitize(e);
+                            }
+                        }
+                    });
+                } else {
+                    recyclable.mvcGroupRecycle();
+                }
+            }
+        }
+    }
+
+    /**
+     * Destroys all members held by MVC group pools.
+     */
+    public void clearPools() {
+        for (MVCGroupPool pool : pools.values()) {
+            MVCGroupConfiguration configuration = getConfigurations().get(pool.getMvcType());
+            List<MVCGroupPool.Entry> entries = pool.drain();
+            if (configuration != null) {
+                disposePooledEntries(configuration, entries);
+            }
+        }
+    }
+
+    /**
+     * Returns the pool associated with the given MVC type.
+     *
+     * @param mvcType the type of the MVC group
+     * @return the pool for the given type or {@code null} if pooling is not enabled for it.
+     */
+    @Nullable
+    public MVCGroupPool getPool(@Nonnull String mvcType) {
+        return pools.get(requireNonBlank(mvcType, ERROR_MVCTYPE_BLANK));
+    }
+
+    @Nullable
+    protected MVCGroupPool resolvePool(@Nonnull MVCGroupConfiguration configuration) {
+        if (!isConfigFlagEnabled(configuration, CONFIG_KEY_POOL_ENABLED, false)) {
+            return null;
+        }
+
+        String mvcType = configuration.getMvcType();
+        MVCGroupPool pool = pools.get(mvcType);
+        if (pool == null) {
+            int maxSize = getConfigValueAsInt(configuration.getConfig(), CONFIG_KEY_POOL_MAX_SIZE, DEFAULT_POOL_MAX_SIZE);
+            long maxIdleTime = getConfigValueAsLong(configuration.getConfig(), CONFIG_KEY_POOL_MAX_IDLE_TIME, 0L);
+            MVCGroupPool newPool = new MVCGroupPool(mvcType, maxSize, maxIdleTime);
+            pool = pools.putIfAbsent(mvcType, newPool);
+            if (pool == null) {
+                pool = newPool;
+            }
+        }
+        return pool;
+    }
+
+    @Nullable
+    private MVCGroupPool.Entry acquirePooledEntry(@Nonnull MVCGroupConfiguration configuration, @Nonnull Map<String, Object> args) {
+        MVCGroupPool pool = resolvePool(configuration);
+        if (pool == null) { return null; }
+
+        // explicit member instances cannot be honored by a pooled entry
+        for (String memberType : configuration.getMembers().keySet()) {
+            if (args.containsKey(memberType)) { return null; }
+        }
+
+        disposePooledEntries(configuration, pool.evictIdle());
+        MVCGroupPool.Entry entry = pool.acquire();
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{} hit rate is {}", pool, pool.getHitRate());
+        }
+        return entry;
+    }
+
+    protected void disposePooledEntries(@Nonnull MVCGroupConfiguration configuration, @Nonnull List<MVCGroupPool.Entry> entries) {
+        if (entries.isEmpty()) { return; }
+
+        LOG.debug("Disposing {} pooled member set(s) of MVC group '{}'", entries.size(), configuration.getMvcType());
+        boolean fireDestructionEvents = isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_DESTRUCTION);
+        for (MVCGroupPool.Entry entry : entries) {
+            for (Map.Entry<String, Object> memberEntry : entry.getMembers().entrySet()) {
+                Object member = memberEntry.getValue();
+                if (member instanceof GriffonArtifact) {
+                    destroyArtifactMember(memberEntry.getKey(), (GriffonArtifact) member, fireDestructionEvents);
+                } else if (member != null) {
+                    destroyNonArtifactMember(memberEntry.getKey(), member, fireDestructionEvents);
+                }
+            }
+            for (Object instance : entry.getInjectedInstances()) {
+                getApplication().getInjector().release(instance);
+            }
+        }
+    }
+
     protected void destroyArtifactMember(@Nonnull String type, @Nonnull GriffonArtifact member, boolean fireDestructionEvents) {
         if (member instanceof GriffonMvcArtifact) {
             final GriffonMvcArtifact artifact = (GriffonMvcArtifact) member;
@@ -508,15 +897,19 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
                 artifact.mvcGroupDestroy();
             }
 
-            // clear all parent* references
-            for (String parentMemberName : new String[]{"parentModel", "parentView", "parentController", "parentGroup"}) {
-                setPropertyOrFieldValueNoException(member, parentMemberName, null);
-            }
+            clearParentMemberProperties(member);
         }
 
         destroyContextualMemberProperties(type, member);
     }
 
+    private static void clearParentMemberProperties(@Nonnull Object member) {
+        // clear all parent* references
+        for (String parentMemberName : new String[]{"parentModel", "parentView", "parentController", "parentGroup"}) {
+            setPropertyOrFieldValueNoException(member, parentMemberName, null);
+        }
+    }
+
     protected void destroyContextualMemberProperties(@Nonnull String type, @Nonnull GriffonArtifact member) {
         for (Field field : getAllDeclaredFields(member.getClass())) {
             if (field.getAnnotation(Contextual.class) != null) {
@@ -538,8 +931,26 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         removeGroup(group);
     }
 
+    @Override
+    protected boolean isLeakTrackable(@Nonnull MVCGroup group) {
+        // recycled members are retained by their pool
+        MVCGroupPool pool = pools.get(group.getMvcType());
+        if (pool != null) {
+            for (Object member : group.getMembers().values()) {
+                if (member != null && pool.contains(member)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     protected boolean isConfigFlagEnabled(@Nonnull MVCGroupConfiguration configuration, @Nonnull String key) {
-        return getConfigValueAsBoolean(configuration.getConfig(), key, true);
+        return isConfigFlagEnabled(configuration, key, true);
+    }
+
+    protected boolean isConfigFlagEnabled(@Nonnull MVCGroupConfiguration configuration, @Nonnull String key, boolean defaultValue) {
+        return getConfigValueAsBoolean(configuration.getConfig(), key, defaultValue);
     }
 
     @Nullable
@@ -555,5 +966,39 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     protected static final class ClassHolder {
         protected Class<?> regularClass;
         protected Class<? extends GriffonArtifact> artifactClass;
+
+        protected boolean isView() {
+            return artifactClass != null && GriffonView.class.isAssignableFrom(artifactClass);
+        }
+    }
+
+    private static final class InstantiatorHolder {
+        // threads are only kept around while groups are being instantiated; tasks are handed
+        // off directly to an idle thread and rejected otherwise, they never wait in a queue
+        private static final ExecutorService INSTANTIATOR = new ThreadPoolExecutor(0,
+            Runtime.getRuntime().availableProcessors(),
+            1L, TimeUnit.SECONDS,
+            new SynchronousQueue<Runnable>(),
+            new ThreadFactory() {
+                private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "griffon-mvc-instantiator-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static final class InstantiatedMember {
+        private final Object instance;
+        private final List<Object> injectedInstances;
+
+        private InstantiatedMember(@Nonnull Object instance, @Nonnull List<Object> injectedInstances) {
+            this.instance = instance;
+            this.injectedInstances = injectedInstances;
+        }
     }
 }
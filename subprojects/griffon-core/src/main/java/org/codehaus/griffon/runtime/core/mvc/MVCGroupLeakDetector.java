@@ -0,0 +1,357 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.mvc;
+
+import griffon.core.mvc.MVCGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reports MVC groups (and their members) that remain reachable after being destroyed.<p>
+ * Every tracked instance is registered with a {@code PhantomReference}. Instances that have not been
+ * collected after {@code gcCycles} garbage collections are reported as leaks. When a root object is
+ * available the detector walks the object graph starting from it and names the chain of fields that
+ * retains the leaked instance. Checks are performed periodically once {@link #start()} has been called,
+ * or on demand with {@link #check()}.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class MVCGroupLeakDetector {
+    private static final Logger LOG = LoggerFactory.getLogger(MVCGroupLeakDetector.class);
+    private static final int MAX_VISITED_NODES = 100000;
+
+    private final int gcCycles;
+    private final long checkInterval;
+    private final WeakReference<Object> root;
+    private final ReferenceQueue<Object> queue;
+    private final Set<TrackedReference> references = newSetFromMap(new ConcurrentHashMap<TrackedReference, Boolean>());
+    private final Object lock = new Object[0];
+    private Thread worker;
+
+    /**
+     * @param root          the object from which retention paths are computed, usually the application. May be {@code null}.
+     * @param gcCycles      number of garbage collections a destroyed instance may survive before being reported.
+     * @param checkInterval time in milliseconds between checks.
+     */
+    public MVCGroupLeakDetector(@Nullable Object root, int gcCycles, long checkInterval) {
+        this(root, gcCycles, checkInterval, new ReferenceQueue<>());
+    }
+
+    /**
+     * @param root          the object from which retention paths are computed, usually the application. May be {@code null}.
+     * @param gcCycles      number of garbage collections a destroyed instance may survive before being reported.
+     * @param checkInterval time in milliseconds between checks.
+     * @param queue         the queue collected instances are enqueued to.
+     */
+    protected MVCGroupLeakDetector(@Nullable Object root, int gcCycles, long checkInterval, @Nonnull ReferenceQueue<Object> queue) {
+        this.queue = requireNonNull(queue, "Argument 'queue' must not be null");
+        this.root = new WeakReference<>(root);
+        this.gcCycles = Math.max(1, gcCycles);
+        this.checkInterval = Math.max(1L, checkInterval);
+    }
+
+    public int getGcCycles() {
+        return gcCycles;
+    }
+
+    public long getCheckInterval() {
+        return checkInterval;
+    }
+
+    /**
+     * Returns the number of instances that are still being tracked.
+     */
+    public int size() {
+        return references.size();
+    }
+
+    /**
+     * Starts tracking the given group and all of its members.
+     *
+     * @param group the group that has been destroyed
+     */
+    public void track(@Nonnull MVCGroup group) {
+        requireNonNull(group, "Argument 'group' must not be null");
+        long collections = collectionCount();
+        String mvcType = group.getMvcType();
+        String mvcId = group.getMvcId();
+
+        references.add(new TrackedReference(group, queue, mvcType, mvcId, "group", collections));
+        for (Map.Entry<String, Object> member : group.getMembers().entrySet()) {
+            if (member.getValue() != null) {
+                references.add(new TrackedReference(member.getValue(), queue, mvcType, mvcId, member.getKey(), collections));
+            }
+        }
+    }
+
+    /**
+     * Discards collected instances and reports those that survived too many garbage collections.
+     *
+     * @return the descriptions of all leaks reported by this check.
+     */
+    @Nonnull
+    public List<String> check() {
+        expunge();
+
+        List<String> leaks = new ArrayList<>();
+        long collections = collectionCount();
+        for (TrackedReference reference : references) {
+            if (collections - reference.collections < gcCycles) {
+                continue;
+            }
+
+            Object instance = reference.instance.get();
+            references.remove(reference);
+            reference.clear();
+            if (instance == null) {
+                // weakly reachable only, the phantom reference will be enqueued shortly
+                continue;
+            }
+
+            String retainer = findRetentionPath(instance);
+            String leak = "MVC " + reference.name + " " + instance.getClass().getName() +
+                " of group '" + reference.mvcId + "' (type '" + reference.mvcType + "') survived " +
+                (collections - reference.collections) + " garbage collections after being destroyed" +
+                (retainer != null ? ". Retained by " + retainer : "");
+            LOG.warn(leak);
+            leaks.add(leak);
+        }
+        return leaks;
+    }
+
+    /**
+     * Stops the periodic check and tracking of all instances.
+     */
+    public void clear() {
+        stop();
+        for (TrackedReference reference : references) {
+            reference.clear();
+        }
+        references.clear();
+    }
+
+    private void expunge() {
+        for (Reference<?> reference = queue.poll(); reference != null; reference = queue.poll()) {
+            references.remove(reference);
+            reference.clear();
+        }
+    }
+
+    /**
+     * Starts checking for leaks every {@code checkInterval} milliseconds on a daemon thread.
+     */
+    public void start() {
+        synchronized (lock) {
+            if (worker != null) {
+                return;
+            }
+            worker = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        try {
+                            Reference<?> reference = queue.remove(checkInterval);
+                            if (reference != null) {
+                                references.remove(reference);
+                                reference.clear();
+                            }
+                            check();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } catch (RuntimeException e) {
+                            LOG.debug("Unexpected error while checking for leaked MVC groups", e);
+                        }
+                    }
+                }
+            }, "griffon-mvc-leak-detector");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * Stops the periodic check. Tracked instances may still be checked with {@link #check()}.
+     */
+    public void stop() {
+        synchronized (lock) {
+            if (worker != null) {
+                worker.interrupt();
+                worker = null;
+            }
+        }
+    }
+
+    @Nonnull
+    Collection<? extends Reference<Object>> getTrackedReferences() {
+        return references;
+    }
+
+    @Nullable
+    protected String findRetentionPath(@Nonnull Object target) {
+        Object start = root.get();
+        if (start == null) {
+            return null;
+        }
+
+        Map<Object, Object> parents = new IdentityHashMap<>();
+        Map<Object, String> edges = new IdentityHashMap<>();
+        Deque<Object> pending = new ArrayDeque<>();
+        parents.put(start, start);
+        pending.add(start);
+
+        while (!pending.isEmpty() && parents.size() < MAX_VISITED_NODES) {
+            Object current = pending.poll();
+            for (Map.Entry<String, Object> reference : referencesOf(current)) {
+                Object value = reference.getValue();
+                if (value == null || parents.containsKey(value) || value instanceof Reference || isValueType(value)) {
+                    continue;
+                }
+                parents.put(value, current);
+                edges.put(value, reference.getKey());
+                if (value == target) {
+                    return describePath(start, target, parents, edges);
+                }
+                pending.add(value);
+            }
+        }
+        return null;
+    }
+
+    @Nonnull
+    private static String describePath(@Nonnull Object start, @Nonnull Object target, @Nonnull Map<Object, Object> parents, @Nonnull Map<Object, String> edges) {
+        StringBuilder path = new StringBuilder();
+        Object retainer = null;
+        for (Object current = target; current != start; current = parents.get(current)) {
+            String edge = edges.get(current);
+            path.insert(0, edge.startsWith("[") ? edge : "." + edge);
+            Object parent = parents.get(current);
+            if (retainer == null && !isJdkType(parent.getClass())) {
+                retainer = parent;
+            }
+        }
+        return (retainer != null ? retainer : start).getClass().getName() + " via " + start.getClass().getSimpleName() + path;
+    }
+
+    @Nonnull
+    private static List<Map.Entry<String, Object>> referencesOf(@Nonnull Object instance) {
+        List<Map.Entry<String, Object>> references = new ArrayList<>();
+        try {
+            if (instance.getClass().isArray()) {
+                if (!instance.getClass().getComponentType().isPrimitive()) {
+                    for (int i = 0; i < Array.getLength(instance); i++) {
+                        references.add(reference("[" + i + "]", Array.get(instance, i)));
+                    }
+                }
+            } else if (instance instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) instance).entrySet()) {
+                    references.add(reference("[key]", entry.getKey()));
+                    references.add(reference("[" + entry.getKey() + "]", entry.getValue()));
+                }
+            } else if (instance instanceof Collection) {
+                int i = 0;
+                for (Object element : (Collection<?>) instance) {
+                    references.add(reference("[" + i++ + "]", element));
+                }
+            } else if (!isJdkType(instance.getClass())) {
+                for (Class<?> c = instance.getClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                            continue;
+                        }
+                        try {
+                            field.setAccessible(true);
+                            references.add(reference(field.getName(), field.get(instance)));
+                        } catch (IllegalAccessException | RuntimeException e) {
+                            // inaccessible, skip it
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // concurrent modification or an inaccessible type, use whatever was collected so far
+        }
+        return references;
+    }
+
+    @Nonnull
+    private static Map.Entry<String, Object> reference(@Nonnull String name, @Nullable Object value) {
+        return new AbstractMap.SimpleImmutableEntry<>(name, value);
+    }
+
+    private static boolean isJdkType(@Nonnull Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.") || name.startsWith("jdk.") || name.startsWith("com.sun.");
+    }
+
+    private static boolean isValueType(@Nonnull Object value) {
+        return value instanceof CharSequence || value instanceof Number || value instanceof Boolean ||
+            value instanceof Character || value instanceof Class || value instanceof Enum || value instanceof Thread;
+    }
+
+    /**
+     * Returns the number of garbage collections performed so far.
+     */
+    protected long collectionCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0L, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static final class TrackedReference extends PhantomReference<Object> {
+        private final WeakReference<Object> instance;
+        private final String mvcType;
+        private final String mvcId;
+        private final String name;
+        private final long collections;
+
+        private TrackedReference(@Nonnull Object referent, @Nonnull ReferenceQueue<Object> queue, @Nonnull String mvcType, @Nonnull String mvcId, @Nonnull String name, long collections) {
+            super(referent, queue);
+            this.instance = new WeakReference<>(referent);
+            this.mvcType = mvcType;
+            this.mvcId = mvcId;
+            this.name = name;
+            this.collections = collections;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.mvc;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Holds recycled members of MVC groups of a single type.
+ * Entries are handed out in LIFO order; entries that stay idle for longer
+ * than {@code maxIdleTime} milliseconds are evicted the next time the pool is accessed.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class MVCGroupPool {
+    private final String mvcType;
+    private final int maxSize;
+    private final long maxIdleTime;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final Object lock = new Object[0];
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public MVCGroupPool(@Nonnull String mvcType, int maxSize, long maxIdleTime) {
+        this.mvcType = requireNonBlank(mvcType, "Argument 'mvcType' must not be blank");
+        this.maxSize = maxSize;
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    @Nonnull
+    public String getMvcType() {
+        return mvcType;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public double getHitRate() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0d : (double) h / total;
+    }
+
+    /**
+     * Takes the most recently recycled entry from the pool.
+     *
+     * @return a pooled entry or {@code null} if the pool is empty.
+     */
+    @Nullable
+    public Entry acquire() {
+        Entry entry;
+        synchronized (lock) {
+            entry = entries.pollFirst();
+        }
+        if (entry != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * Returns an entry to the pool.
+     *
+     * @param entry the entry to be pooled
+     * @return {@code true} if the entry was accepted, {@code false} if the pool is full.
+     */
+    public boolean offer(@Nonnull Entry entry) {
+        requireNonNull(entry, "Argument 'entry' must not be null");
+        synchronized (lock) {
+            if (entries.size() >= maxSize) {
+                return false;
+            }
+            entry.timestamp = System.currentTimeMillis();
+            entries.addFirst(entry);
+            return true;
+        }
+    }
+
+    /**
+     * Whether the given instance is held by any entry of this pool.
+     *
+     * @param member the instance to search for
+     * @return {@code true} if the instance is currently pooled.
+     */
+    public boolean contains(@Nonnull Object member) {
+        requireNonNull(member, "Argument 'member' must not be null");
+        synchronized (lock) {
+            for (Entry entry : entries) {
+                for (Object instance : entry.members.values()) {
+                    if (instance == member) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    public boolean isFull() {
+        synchronized (lock) {
+            return entries.size() >= maxSize;
+        }
+    }
+
+    /**
+     * Removes all entries that have been idle for longer than {@code maxIdleTime}.
+     *
+     * @return the evicted entries, which should be disposed by the caller.
+     */
+    @Nonnull
+    public List<Entry> evictIdle() {
+        List<Entry> evicted = new ArrayList<>();
+        if (maxIdleTime <= 0) {
+            return evicted;
+        }
+
+        long deadline = System.currentTimeMillis() - maxIdleTime;
+        synchronized (lock) {
+            for (Iterator<Entry> it = entries.descendingIterator(); it.hasNext(); ) {
+                Entry entry = it.next();
+                if (entry.timestamp > deadline) {
+                    break;
+                }
+                it.remove();
+                evicted.add(entry);
+            }
+        }
+        evictions.addAndGet(evicted.size());
+        return evicted;
+    }
+
+    /**
+     * Removes all entries from this pool.
+     *
+     * @return the removed entries, which should be disposed by the caller.
+     */
+    @Nonnull
+    public List<Entry> drain() {
+        List<Entry> drained;
+        synchronized (lock) {
+            drained = new ArrayList<>(entries);
+            entries.clear();
+        }
+        evictions.addAndGet(drained.size());
+        return drained;
+    }
+
+    @Override
+    public String toString() {
+        return "MVCGroupPool[" + mvcType +
+            ", size=" + size() +
+            ", maxSize=" + maxSize +
+            ", hits=" + hits.get() +
+            ", misses=" + misses.get() +
+            ", evictions=" + evictions.get() +
+            "]";
+    }
+
+    public static final class Entry {
+        private final Map<String, Object> members;
+        private final List<Object> injectedInstances;
+        private long timestamp;
+
+        public Entry(@Nonnull Map<String, Object> members, @Nonnull List<Object> injectedInstances) {
+            this.members = unmodifiableMap(new LinkedHashMap<>(requireNonNull(members, "Argument 'members' must not be null")));
+            this.injectedInstances = unmodifiableList(new ArrayList<>(requireNonNull(injectedInstances, "Argument 'injectedInstances' must not be null")));
+        }
+
+        @Nonnull
+        public Map<String, Object> getMembers() {
+            return members;
+        }
+
+        @Nonnull
+        public List<Object> getInjectedInstances() {
+            return injectedInstances;
+        }
+    }
+}
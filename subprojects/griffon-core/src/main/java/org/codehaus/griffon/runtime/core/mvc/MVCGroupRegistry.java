@@ -0,0 +1,256 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.mvc;
+
+import griffon.core.artifact.GriffonController;
+import griffon.core.artifact.GriffonControllerClass;
+import griffon.core.artifact.GriffonModel;
+import griffon.core.artifact.GriffonModelClass;
+import griffon.core.artifact.GriffonView;
+import griffon.core.artifact.GriffonViewClass;
+import griffon.core.mvc.MVCGroup;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Registry of MVC groups with secondary indexes by MVC type and by parent group.
+ * Groups are kept in concurrent maps thus adding and removing a group costs the same regardless
+ * of how many groups are alive. Readers that need the whole registry get an immutable snapshot,
+ * ordered by registration, that is built on first request after a change and shared afterwards.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+final class MVCGroupRegistry {
+    private static final Comparator<Registration> BY_SEQUENCE = new Comparator<Registration>() {
+        @Override
+        public int compare(Registration r1, Registration r2) {
+            return r1.sequence < r2.sequence ? -1 : (r1.sequence == r2.sequence ? 0 : 1);
+        }
+    };
+
+    private final Object lock = new Object[0];
+    private final ConcurrentMap<String, Registration> groups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Registration>> byType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Registration>> byParent = new ConcurrentHashMap<>();
+    private long sequence;
+    private volatile long version;
+    private volatile Snapshot snapshot = new Snapshot(Collections.<String, MVCGroup>emptyMap());
+
+    @Nullable
+    MVCGroup get(@Nonnull String mvcId) {
+        Registration registration = groups.get(mvcId);
+        return registration != null ? registration.group : null;
+    }
+
+    @Nonnull
+    Map<String, MVCGroup> getGroups() {
+        return snapshot().groups;
+    }
+
+    @Nonnull
+    Map<String, MVCGroup> getGroupsByType(@Nonnull String mvcType) {
+        return toMap(byType.get(mvcType));
+    }
+
+    @Nonnull
+    Map<String, MVCGroup> getGroupsByParent(@Nonnull String parentMvcId) {
+        return toMap(byParent.get(parentMvcId));
+    }
+
+    @Nonnull
+    Map<String, GriffonModel> getModels() {
+        return snapshot().models();
+    }
+
+    @Nonnull
+    Map<String, GriffonView> getViews() {
+        return snapshot().views();
+    }
+
+    @Nonnull
+    Map<String, GriffonController> getControllers() {
+        return snapshot().controllers();
+    }
+
+    void add(@Nonnull MVCGroup group) {
+        requireNonNull(group, "Argument 'group' must not be null");
+        String mvcId = group.getMvcId();
+        synchronized (lock) {
+            Registration registration = new Registration(group, sequence++);
+            Registration replaced = groups.put(mvcId, registration);
+            if (replaced != null) {
+                unindex(byType, replaced.group.getMvcType(), mvcId);
+                unindex(byParent, parentIdOf(replaced.group), mvcId);
+            }
+            index(byType, group.getMvcType(), registration);
+            index(byParent, parentIdOf(group), registration);
+            version++;
+        }
+    }
+
+    void remove(@Nonnull MVCGroup group) {
+        requireNonNull(group, "Argument 'group' must not be null");
+        String mvcId = group.getMvcId();
+        synchronized (lock) {
+            Registration removed = groups.remove(mvcId);
+            if (removed == null) { return; }
+            unindex(byType, removed.group.getMvcType(), mvcId);
+            unindex(byParent, parentIdOf(removed.group), mvcId);
+            version++;
+        }
+    }
+
+    @Nonnull
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        long currentVersion = version;
+        if (current.version == currentVersion) {
+            return current;
+        }
+
+        Snapshot fresh = new Snapshot(toMap(groups), currentVersion);
+        synchronized (lock) {
+            // do not publish a snapshot that is already outdated
+            if (version == currentVersion) {
+                snapshot = fresh;
+            }
+        }
+        return fresh;
+    }
+
+    @Nonnull
+    private static Map<String, MVCGroup> toMap(@Nullable ConcurrentMap<String, Registration> registrations) {
+        if (registrations == null || registrations.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Registration> sorted = new ArrayList<>(registrations.values());
+        Collections.sort(sorted, BY_SEQUENCE);
+        Map<String, MVCGroup> map = new LinkedHashMap<>();
+        for (Registration registration : sorted) {
+            map.put(registration.group.getMvcId(), registration.group);
+        }
+        return unmodifiableMap(map);
+    }
+
+    @Nullable
+    private static String parentIdOf(@Nonnull MVCGroup group) {
+        MVCGroup parentGroup = group.getParentGroup();
+        return parentGroup != null ? parentGroup.getMvcId() : null;
+    }
+
+    private static void index(@Nonnull ConcurrentMap<String, ConcurrentMap<String, Registration>> index, @Nullable String key, @Nonnull Registration registration) {
+        if (key == null) { return; }
+        ConcurrentMap<String, Registration> registrations = index.get(key);
+        if (registrations == null) {
+            registrations = new ConcurrentHashMap<>();
+            index.put(key, registrations);
+        }
+        registrations.put(registration.group.getMvcId(), registration);
+    }
+
+    private static void unindex(@Nonnull ConcurrentMap<String, ConcurrentMap<String, Registration>> index, @Nullable String key, @Nonnull String mvcId) {
+        if (key == null) { return; }
+        ConcurrentMap<String, Registration> registrations = index.get(key);
+        if (registrations == null) { return; }
+        registrations.remove(mvcId);
+        if (registrations.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static final class Registration {
+        private final MVCGroup group;
+        private final long sequence;
+
+        private Registration(@Nonnull MVCGroup group, long sequence) {
+            this.group = group;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<String, MVCGroup> groups;
+        private final long version;
+        // computed on demand; racing threads compute identical values
+        private volatile Map<String, GriffonModel> models;
+        private volatile Map<String, GriffonView> views;
+        private volatile Map<String, GriffonController> controllers;
+
+        private Snapshot(@Nonnull Map<String, MVCGroup> groups) {
+            this(groups, 0L);
+        }
+
+        private Snapshot(@Nonnull Map<String, MVCGroup> groups, long version) {
+            this.groups = groups;
+            this.version = version;
+        }
+
+        @Nonnull
+        private Map<String, GriffonModel> models() {
+            Map<String, GriffonModel> m = models;
+            if (m == null) {
+                models = m = collect(GriffonModelClass.TYPE, GriffonModel.class);
+            }
+            return m;
+        }
+
+        @Nonnull
+        private Map<String, GriffonView> views() {
+            Map<String, GriffonView> v = views;
+            if (v == null) {
+                views = v = collect(GriffonViewClass.TYPE, GriffonView.class);
+            }
+            return v;
+        }
+
+        @Nonnull
+        private Map<String, GriffonController> controllers() {
+            Map<String, GriffonController> c = controllers;
+            if (c == null) {
+                controllers = c = collect(GriffonControllerClass.TYPE, GriffonController.class);
+            }
+            return c;
+        }
+
+        @Nonnull
+        private <T> Map<String, T> collect(@Nonnull String memberType, @Nonnull Class<T> type) {
+            Map<String, T> members = new LinkedHashMap<>();
+            for (MVCGroup group : groups.values()) {
+                if (!group.isAlive()) { continue; }
+                // avoid triggering deferred view initialization
+                Object member = group.getMember(memberType);
+                if (type.isInstance(member)) {
+                    members.put(group.getMvcId(), type.cast(member));
+                }
+            }
+            return unmodifiableMap(members);
+        }
+    }
+}
@@ -17,21 +17,36 @@ package org.codehaus.griffon.runtime.core.resources;
 
 import griffon.core.editors.ExtendedPropertyEditor;
 import griffon.core.resources.InjectedResource;
-import griffon.core.resources.ResourceInjector;
+import griffon.core.resources.LocaleAwareResourceInjector;
 import griffon.exceptions.InstanceMethodInvocationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import java.beans.PropertyDescriptor;
 import java.beans.PropertyEditor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
 import static griffon.core.editors.PropertyEditorResolver.findEditor;
@@ -40,6 +55,8 @@ import static griffon.util.GriffonClassUtils.invokeExactInstanceMethod;
 import static griffon.util.GriffonNameUtils.getSetterName;
 import static griffon.util.GriffonNameUtils.isBlank;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static griffon.util.TypeUtils.convertWithConverterOrEditor;
+import static griffon.util.TypeUtils.isKnownImmutable;
 import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Objects.requireNonNull;
 
@@ -47,7 +64,7 @@ import static java.util.Objects.requireNonNull;
  * @author Andres Almiray
  * @since 2.0.0
  */
-public abstract class AbstractResourceInjector implements ResourceInjector {
+public abstract class AbstractResourceInjector implements LocaleAwareResourceInjector {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractResourceInjector.class);
 
     protected static final String ERROR_INSTANCE_NULL = "Argument 'instance' must not be null";
@@ -58,22 +75,109 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     protected static final String ERROR_VALUE_NULL = "Argument 'value' must not be null";
     protected static final String ERROR_FULLY_QUALIFIED_NAME_BLANK = "Argument 'fqName' must not be blank";
     protected static final String ERROR_FULLY_QUALIFIED_FIELD_NAME_BLANK = "Argument 'fqFieldName' must not be blank";
+    protected static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
+
+    private static final Object UNCHANGED = new Object();
+
+    private final ConvertedResourceCache convertedResources = new ConvertedResourceCache();
+    // a ClassValue does not keep the classes it holds plans for, nor their classloaders, reachable
+    private final ClassValue<InjectionPlan> injectionPlans = new ClassValue<InjectionPlan>() {
+        @Override
+        protected InjectionPlan computeValue(Class<?> klass) {
+            List<InjectionPoint> points = new ArrayList<>();
+            Set<Method> setters = new HashSet<>();
+            for (Class<?> k = klass; k != null; k = k.getSuperclass()) {
+                points.addAll(createInjectionPlan(k, setters).points);
+            }
+            return points.isEmpty() ? InjectionPlan.EMPTY : new InjectionPlan(points);
+        }
+    };
+    private final Object lock = new Object[0];
+    @GuardedBy("lock")
+    private final Set<InstanceReference> injectedInstances = new LinkedHashSet<>();
+    private final ReferenceQueue<Object> collectedInstances = new ReferenceQueue<>();
 
     @Override
     public void injectResources(@Nonnull Object instance) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
-        Class<?> klass = instance.getClass();
-        do {
-            doResourceInjection(klass, instance);
-            klass = klass.getSuperclass();
-        } while (null != klass);
+        if (getInjectionPlan(instance.getClass()).inject(this, instance)) {
+            synchronized (lock) {
+                expungeCollectedInstances();
+                injectedInstances.add(new InstanceReference(instance, collectedInstances));
+            }
+        }
+    }
+
+    @Override
+    public void reinjectResources(@Nonnull Locale oldLocale, @Nonnull Locale newLocale) {
+        requireNonNull(oldLocale, ERROR_LOCALE_NULL);
+        requireNonNull(newLocale, ERROR_LOCALE_NULL);
+        if (oldLocale.equals(newLocale)) {
+            return;
+        }
+
+        List<Object> instances = new ArrayList<>();
+        synchronized (lock) {
+            expungeCollectedInstances();
+            for (InstanceReference reference : injectedInstances) {
+                Object instance = reference.get();
+                if (instance != null) {
+                    instances.add(instance);
+                }
+            }
+        }
+
+        // members shared by several instances are resolved only once, unless every
+        // instance needs its own copy of a mutable value
+        Map<InjectionPoint, Object> updates = new IdentityHashMap<>();
+        int count = 0;
+        for (Object instance : instances) {
+            for (InjectionPoint point : getInjectionPlan(instance.getClass()).points) {
+                Object value = updates.get(point);
+                if (value == null) {
+                    value = point.resolveUpdate(this, oldLocale, newLocale);
+                    if (value == UNCHANGED || isKnownImmutable(value)) {
+                        updates.put(point, value);
+                    }
+                }
+                if (value != UNCHANGED) {
+                    point.setValue(this, instance, value);
+                    count++;
+                }
+            }
+        }
+        LOG.debug("Reinjected {} members of {} instances for locale {}", count, instances.size(), newLocale);
+    }
+
+    private void expungeCollectedInstances() {
+        for (Reference<?> reference; (reference = collectedInstances.poll()) != null; ) {
+            injectedInstances.remove(reference);
+        }
     }
 
     protected boolean doResourceInjection(@Nonnull Class<?> klass, @Nonnull Object instance) {
         requireNonNull(klass, ERROR_CLASS_NULL);
         requireNonNull(instance, ERROR_INSTANCE_NULL);
+        return createInjectionPlan(klass, new HashSet<Method>()).inject(this, instance);
+    }
+
+    /**
+     * Returns the injection plan of the given class, covering its whole hierarchy. Plans are
+     * computed once per class; classes without injectable members share an empty plan.
+     *
+     * @param klass the class to inspect
+     * @return the injection plan of the class.
+     * @since 2.8.0
+     */
+    @Nonnull
+    protected InjectionPlan getInjectionPlan(@Nonnull Class<?> klass) {
+        requireNonNull(klass, ERROR_CLASS_NULL);
+        return injectionPlans.get(klass);
+    }
 
-        boolean injected = false;
+    @Nonnull
+    private InjectionPlan createInjectionPlan(@Nonnull Class<?> klass, @Nonnull Set<Method> setters) {
+        List<InjectionPoint> points = new ArrayList<>();
         List<String> names = new ArrayList<>();
 
         PropertyDescriptor[] propertyDescriptors = getPropertyDescriptors(klass);
@@ -86,40 +190,12 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
             final InjectedResource annotation = method.getAnnotation(InjectedResource.class);
             if (null == annotation) continue;
 
-            String propertyName = pd.getName();
-            String fqName = method.getDeclaringClass().getName().replace('$', '.') + "." + propertyName;
-            String key = annotation.key();
-            String[] args = annotation.args();
-            String defaultValue = annotation.defaultValue();
-            String format = annotation.format();
-            if (isBlank(key)) key = fqName;
+            names.add(pd.getName());
+            // inherited setters are reported again by subclasses
+            if (!setters.add(method)) continue;
 
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Property " + propertyName +
-                    " of instance " + instance +
-                    " [key='" + key +
-                    "', args='" + Arrays.toString(args) +
-                    "', defaultValue='" + defaultValue +
-                    "', format='" + format +
-                    "'] is marked for resource injection.");
-            }
-
-            Object value;
-            if (isBlank(defaultValue)) {
-                value = resolveResource(key, args);
-            } else {
-                value = resolveResource(key, args, defaultValue);
-            }
-
-            if (null != value) {
-                Class<?> propertyType = method.getParameterTypes()[0];
-                if (!propertyType.isAssignableFrom(value.getClass())) {
-                    value = convertValue(propertyType, value, format);
-                }
-                setPropertyValue(instance, method, value, fqName);
-            }
-            names.add(propertyName);
-            injected = true;
+            String fqName = method.getDeclaringClass().getName().replace('$', '.') + "." + pd.getName();
+            points.add(new PropertyInjectionPoint(fqName, annotation, method));
         }
 
         for (Field field : klass.getDeclaredFields()) {
@@ -130,38 +206,9 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
             if (null == annotation) continue;
 
             String fqName = field.getDeclaringClass().getName().replace('$', '.') + "." + field.getName();
-            String key = annotation.key();
-            String[] args = annotation.args();
-            String defaultValue = annotation.defaultValue();
-            String format = annotation.format();
-            if (isBlank(key)) key = fqName;
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Field " + fqName +
-                    " of instance " + instance +
-                    " [key='" + key +
-                    "', args='" + Arrays.toString(args) +
-                    "', defaultValue='" + defaultValue +
-                    "', format='" + format +
-                    "'] is marked for resource injection.");
-            }
-
-            Object value;
-            if (isBlank(defaultValue)) {
-                value = resolveResource(key, args);
-            } else {
-                value = resolveResource(key, args, defaultValue);
-            }
-
-            if (null != value) {
-                if (!field.getType().isAssignableFrom(value.getClass())) {
-                    value = convertValue(field.getType(), value, format);
-                }
-                setFieldValue(instance, field, value, fqName);
-            }
-            injected = true;
+            points.add(new FieldInjectionPoint(fqName, annotation, field));
         }
-        return injected;
+        return points.isEmpty() ? InjectionPlan.EMPTY : new InjectionPlan(points);
     }
 
     @Nullable
@@ -170,18 +217,58 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     @Nullable
     protected abstract Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull String defaultValue);
 
+    /**
+     * Resolves a resource for an explicit locale. Subclasses should override this method as
+     * the default implementation relies on the default locale.
+     *
+     * @since 2.8.0
+     */
+    @Nullable
+    protected Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull Locale locale) {
+        return resolveResource(key, args);
+    }
+
+    /**
+     * Resolves a resource for an explicit locale. Subclasses should override this method as
+     * the default implementation relies on the default locale.
+     *
+     * @since 2.8.0
+     */
+    @Nullable
+    protected Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull Locale locale, @Nonnull String defaultValue) {
+        return resolveResource(key, args, defaultValue);
+    }
+
+    /**
+     * Converts the resource resolved for {@code key}. Conversions to immutable types are cached for
+     * as long as the resource resolves to the same value, thus injecting the same colors, fonts or
+     * gradients into several instances performs the conversion only once.
+     *
+     * @since 2.8.0
+     */
     @Nonnull
-    protected Object convertValue(@Nonnull Class<?> type, @Nonnull Object value, @Nullable String format) {
+    protected Object convertValue(@Nonnull String key, @Nonnull Class<?> type, @Nonnull Object value, @Nullable String format) {
+        return convertValue(key, Locale.getDefault(), type, value, format);
+    }
+
+    @Nonnull
+    protected Object convertValue(@Nonnull String key, @Nonnull Locale locale, @Nonnull Class<?> type, @Nonnull Object value, @Nullable String format) {
+        requireNonNull(locale, ERROR_LOCALE_NULL);
         requireNonNull(type, ERROR_TYPE_NULL);
         requireNonNull(value, ERROR_VALUE_NULL);
-        PropertyEditor propertyEditor = resolvePropertyEditor(type, format);
-        if (null == propertyEditor) return value;
-        if (value instanceof CharSequence) {
-            propertyEditor.setAsText(String.valueOf(value));
-        } else {
-            propertyEditor.setValue(value);
+        Object converted = convertedResources.get(key, locale, type, format, value);
+        if (converted == null) {
+            converted = convertValue(type, value, format);
+            convertedResources.put(key, locale, type, format, value, converted);
         }
-        return propertyEditor.getValue();
+        return converted;
+    }
+
+    @Nonnull
+    protected Object convertValue(@Nonnull Class<?> type, @Nonnull Object value, @Nullable String format) {
+        requireNonNull(type, ERROR_TYPE_NULL);
+        requireNonNull(value, ERROR_VALUE_NULL);
+        return convertWithConverterOrEditor(value, type, format, resolvePropertyEditor(type, format));
     }
 
     @Nullable
@@ -223,4 +310,231 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
             }
         }
     }
+
+    /**
+     * The members of a class that receive resources, computed once per class.
+     *
+     * @since 2.8.0
+     */
+    protected static final class InjectionPlan {
+        private static final InjectionPlan EMPTY = new InjectionPlan(Collections.<InjectionPoint>emptyList());
+
+        private final List<InjectionPoint> points;
+
+        private InjectionPlan(@Nonnull List<InjectionPoint> points) {
+            this.points = points;
+        }
+
+        public boolean isEmpty() {
+            return points.isEmpty();
+        }
+
+        private boolean inject(@Nonnull AbstractResourceInjector injector, @Nonnull Object instance) {
+            for (InjectionPoint point : points) {
+                point.inject(injector, instance);
+            }
+            return !points.isEmpty();
+        }
+    }
+
+    private abstract static class InjectionPoint {
+        protected final String fqName;
+        protected final String key;
+        protected final String[] args;
+        protected final String defaultValue;
+        protected final String format;
+        protected final Class<?> type;
+
+        private InjectionPoint(@Nonnull String fqName, @Nonnull InjectedResource annotation, @Nonnull Class<?> type) {
+            this.fqName = fqName;
+            this.key = isBlank(annotation.key()) ? fqName : annotation.key();
+            this.args = annotation.args();
+            this.defaultValue = annotation.defaultValue();
+            this.format = annotation.format();
+            this.type = type;
+        }
+
+        private void inject(@Nonnull AbstractResourceInjector injector, @Nonnull Object instance) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(describe() +
+                    " of instance " + instance +
+                    " [key='" + key +
+                    "', args='" + Arrays.toString(args) +
+                    "', defaultValue='" + defaultValue +
+                    "', format='" + format +
+                    "'] is marked for resource injection.");
+            }
+
+            Object value;
+            if (isBlank(defaultValue)) {
+                value = injector.resolveResource(key, args);
+            } else {
+                value = injector.resolveResource(key, args, defaultValue);
+            }
+
+            if (null != value) {
+                if (!type.isAssignableFrom(value.getClass())) {
+                    value = injector.convertValue(key, type, value, format);
+                }
+                setValue(injector, instance, value);
+            }
+        }
+
+        @Nonnull
+        private Object resolveUpdate(@Nonnull AbstractResourceInjector injector, @Nonnull Locale oldLocale, @Nonnull Locale newLocale) {
+            Object oldValue = resolve(injector, oldLocale);
+            Object newValue = resolve(injector, newLocale);
+            if (null == newValue || Objects.equals(oldValue, newValue)) {
+                return UNCHANGED;
+            }
+            if (!type.isAssignableFrom(newValue.getClass())) {
+                newValue = injector.convertValue(key, newLocale, type, newValue, format);
+            }
+            return newValue;
+        }
+
+        @Nullable
+        private Object resolve(@Nonnull AbstractResourceInjector injector, @Nonnull Locale locale) {
+            if (isBlank(defaultValue)) {
+                return injector.resolveResource(key, args, locale);
+            }
+            return injector.resolveResource(key, args, locale, defaultValue);
+        }
+
+        @Nonnull
+        protected abstract String describe();
+
+        protected abstract void setValue(@Nonnull AbstractResourceInjector injector, @Nonnull Object instance, @Nullable Object value);
+    }
+
+    private static final class PropertyInjectionPoint extends InjectionPoint {
+        private final Method method;
+        private final String propertyName;
+        private final MethodHandle setter;
+
+        private PropertyInjectionPoint(@Nonnull String fqName, @Nonnull InjectedResource annotation, @Nonnull Method method) {
+            super(fqName, annotation, method.getParameterTypes()[0]);
+            this.method = method;
+            this.propertyName = fqName.substring(fqName.lastIndexOf('.') + 1);
+            this.setter = unreflect(method);
+        }
+
+        @Nonnull
+        @Override
+        protected String describe() {
+            return "Property " + propertyName;
+        }
+
+        @Override
+        protected void setValue(@Nonnull AbstractResourceInjector injector, @Nonnull Object instance, @Nullable Object value) {
+            if (setter == null) {
+                injector.setPropertyValue(instance, method, value, fqName);
+                return;
+            }
+            try {
+                invokeSetter(setter, instance, value);
+            } catch (Exception e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Cannot set value on property " + fqName + " of instance " + instance, sanitize(e));
+                }
+            }
+        }
+    }
+
+    private static final class FieldInjectionPoint extends InjectionPoint {
+        private final Field field;
+        private final MethodHandle setter;
+
+        private FieldInjectionPoint(@Nonnull String fqName, @Nonnull InjectedResource annotation, @Nonnull Field field) {
+            super(fqName, annotation, field.getType());
+            this.field = field;
+            this.setter = resolveFieldSetter(field);
+        }
+
+        @Nonnull
+        @Override
+        protected String describe() {
+            return "Field " + fqName;
+        }
+
+        @Override
+        protected void setValue(@Nonnull AbstractResourceInjector injector, @Nonnull Object instance, @Nullable Object value) {
+            if (setter == null) {
+                injector.setFieldValue(instance, field, value, fqName);
+                return;
+            }
+            try {
+                invokeSetter(setter, instance, value);
+            } catch (Exception e) {
+                LOG.warn("Cannot set value on field {} of instance {}", fqName, instance, sanitize(e));
+            }
+        }
+
+        @Nullable
+        private static MethodHandle resolveFieldSetter(@Nonnull Field field) {
+            // prefer a public setter that matches the field's type, as setFieldValue() does
+            try {
+                Method method = field.getDeclaringClass().getMethod(getSetterName(field.getName()), field.getType());
+                if (!isStatic(method.getModifiers())) {
+                    return unreflect(method);
+                }
+            } catch (NoSuchMethodException e) {
+                // use the field instead
+            }
+
+            try {
+                field.setAccessible(true);
+                MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+                if (isStatic(field.getModifiers())) {
+                    // static setters take no receiver, accept and ignore the instance like instance setters do
+                    setter = MethodHandles.dropArguments(setter, 0, Object.class);
+                }
+                return setter;
+            } catch (IllegalAccessException | SecurityException e) {
+                return null;
+            }
+        }
+    }
+
+    private static void invokeSetter(@Nonnull MethodHandle setter, @Nonnull Object instance, @Nullable Object value) throws Exception {
+        try {
+            setter.invoke(instance, value);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    @Nullable
+    private static MethodHandle unreflect(@Nonnull Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // fall back to reflection
+            return null;
+        }
+    }
+
+    private static final class InstanceReference extends WeakReference<Object> {
+        private final int hash;
+
+        private InstanceReference(@Nonnull Object instance, @Nonnull ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.hash = System.identityHashCode(instance);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof InstanceReference)) return false;
+            Object instance = get();
+            return instance != null && instance == ((InstanceReference) o).get();
+        }
+    }
 }
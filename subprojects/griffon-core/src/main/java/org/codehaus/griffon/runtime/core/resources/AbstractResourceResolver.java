@@ -23,13 +23,17 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.beans.PropertyEditor;
 import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static griffon.util.TypeUtils.convertWithConverterOrEditor;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -44,6 +48,16 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
 
     protected static final Object[] EMPTY_OBJECT_ARGS = new Object[0];
 
+    /**
+     * Maximum number of missing keys remembered by each instance, per locale.
+     *
+     * @since 2.8.0
+     */
+    protected static final int MISSING_KEYS_CACHE_SIZE = 1024;
+
+    private final ConcurrentHashMap<Locale, Set<String>> missingKeys = new ConcurrentHashMap<>();
+    private final ConvertedResourceCache convertedResources = new ConvertedResourceCache();
+
     @Nonnull
     @Override
     public Object resolveResource(@Nonnull String key) throws NoSuchResourceException {
@@ -107,11 +121,13 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
     @Nullable
     @Override
     public Object resolveResource(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale, @Nullable Object defaultValue) {
-        try {
-            return resolveResource(key, args, locale);
-        } catch (NoSuchResourceException nsre) {
-            return null == defaultValue ? key : defaultValue;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object resource = findResourceValue(key, locale);
+        Object result = resource != null ? evalResourceWithArguments(resource, args) : null;
+        if (result != null) return result;
+        return null == defaultValue ? key : defaultValue;
     }
 
     @Nullable
@@ -153,107 +169,109 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
     @Nullable
     @Override
     public Object resolveResource(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Locale locale, @Nullable Object defaultValue) {
-        try {
-            return resolveResource(key, args, locale);
-        } catch (NoSuchResourceException nsre) {
-            return null == defaultValue ? key : defaultValue;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object resource = findResourceValue(key, locale);
+        Object result = resource != null ? evalResourceWithArguments(resource, args) : null;
+        if (result != null) return result;
+        return null == defaultValue ? key : defaultValue;
     }
 
     @Nullable
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull List<?> args, @Nullable T defaultValue, @Nonnull Class<T> type) {
-        return convertValue(resolveResource(key, args, defaultValue), type);
+        return convertValue(key, Locale.getDefault(), resolveResource(key, args, defaultValue), type);
     }
 
     @Nullable
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull List<?> args, @Nonnull Locale locale, @Nullable T defaultValue, @Nonnull Class<T> type) {
-        return convertValue(resolveResource(key, args, locale, defaultValue), type);
+        return convertValue(key, locale, resolveResource(key, args, locale, defaultValue), type);
     }
 
     @Nonnull
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull List<?> args, @Nonnull Locale locale, @Nonnull Class<T> type) throws NoSuchResourceException {
-        return convertValue(resolveResource(key, args, locale), type);
+        return convertValue(key, locale, resolveResource(key, args, locale), type);
     }
 
     @Nonnull
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull List<?> args, @Nonnull Class<T> type) throws NoSuchResourceException {
-        return convertValue(resolveResource(key, args), type);
+        return convertValue(key, Locale.getDefault(), resolveResource(key, args), type);
     }
 
     @Nullable
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Map<String, Object> args, @Nullable T defaultValue, @Nonnull Class<T> type) {
-        return convertValue(resolveResource(key, args, defaultValue), type);
+        return convertValue(key, Locale.getDefault(), resolveResource(key, args, defaultValue), type);
     }
 
     @Nullable
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Locale locale, @Nullable T defaultValue, @Nonnull Class<T> type) {
-        return convertValue(resolveResource(key, args, locale, defaultValue), type);
+        return convertValue(key, locale, resolveResource(key, args, locale, defaultValue), type);
     }
 
     @Nonnull
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Locale locale, @Nonnull Class<T> type) throws NoSuchResourceException {
-        return convertValue(resolveResource(key, args, locale), type);
+        return convertValue(key, locale, resolveResource(key, args, locale), type);
     }
 
     @Nonnull
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Class<T> type) throws NoSuchResourceException {
-        return convertValue(resolveResource(key, args), type);
+        return convertValue(key, Locale.getDefault(), resolveResource(key, args), type);
     }
 
     @Nullable
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Object[] args, @Nullable T defaultValue, @Nonnull Class<T> type) {
-        return convertValue(resolveResource(key, args, defaultValue), type);
+        return convertValue(key, Locale.getDefault(), resolveResource(key, args, defaultValue), type);
     }
 
     @Nullable
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale, @Nullable T defaultValue, @Nonnull Class<T> type) {
-        return convertValue(resolveResource(key, args, locale, defaultValue), type);
+        return convertValue(key, locale, resolveResource(key, args, locale, defaultValue), type);
     }
 
     @Nonnull
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale, @Nonnull Class<T> type) throws NoSuchResourceException {
-        return convertValue(resolveResource(key, args, locale), type);
+        return convertValue(key, locale, resolveResource(key, args, locale), type);
     }
 
     @Nonnull
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Object[] args, @Nonnull Class<T> type) throws NoSuchResourceException {
-        return convertValue(resolveResource(key, args), type);
+        return convertValue(key, Locale.getDefault(), resolveResource(key, args), type);
     }
 
     @Nullable
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nullable T defaultValue, @Nonnull Class<T> type) {
-        return convertValue(resolveResource(key, defaultValue), type);
+        return convertValue(key, Locale.getDefault(), resolveResource(key, defaultValue), type);
     }
 
     @Nullable
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Locale locale, @Nullable T defaultValue, @Nonnull Class<T> type) {
-        return convertValue(resolveResource(key, locale, defaultValue), type);
+        return convertValue(key, locale, resolveResource(key, locale, defaultValue), type);
     }
 
     @Nonnull
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Locale locale, @Nonnull Class<T> type) throws NoSuchResourceException {
-        return convertValue(resolveResource(key, locale), type);
+        return convertValue(key, locale, resolveResource(key, locale), type);
     }
 
     @Nonnull
     @Override
     public <T> T resolveResourceConverted(@Nonnull String key, @Nonnull Class<T> type) throws NoSuchResourceException {
-        return convertValue(resolveResource(key), type);
+        return convertValue(key, Locale.getDefault(), resolveResource(key), type);
     }
 
     @Nonnull
@@ -261,18 +279,112 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
     public Object resolveResourceValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchResourceException {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object resource = findResourceValue(key, locale);
+        if (resource != null) return resource;
+        throw new NoSuchResourceException(key, locale);
+    }
+
+    /**
+     * Resolves the value of a resource without throwing an exception when the key is missing.
+     * Misses are remembered per locale, up to {@code MISSING_KEYS_CACHE_SIZE} keys per locale,
+     * thus looking up the same missing key again costs a single hash lookup.
+     *
+     * @param key    the key to resolve
+     * @param locale the locale to use
+     *
+     * @return the resolved value (with references followed) or {@code null} if the key could not be resolved.
+     *
+     * @since 2.8.0
+     */
+    @Nullable
+    protected Object findResourceValue(@Nonnull String key, @Nonnull Locale locale) {
+        Set<String> missing = missingKeys.get(locale);
+        if (missing != null && missing.contains(key)) {
+            return null;
+        }
+
+        Object resource;
         try {
-            Object resource = doResolveResourceValue(key, locale);
-            if (resource instanceof CharSequence) {
-                String msg = resource.toString();
-                if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
-                    String refKey = msg.substring(2, msg.length() - 1);
-                    resource = resolveResourceValue(refKey, locale);
+            resource = doFindResourceValue(key, locale);
+        } catch (MissingResourceException mre) {
+            resource = null;
+        }
+
+        if (resource instanceof CharSequence) {
+            String msg = resource.toString();
+            if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
+                String refKey = msg.substring(2, msg.length() - 1);
+                resource = findResourceValue(refKey, locale);
+            }
+        }
+
+        if (resource == null) {
+            if (missing == null) {
+                missing = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                Set<String> existing = missingKeys.putIfAbsent(locale, missing);
+                if (existing != null) {
+                    missing = existing;
                 }
             }
-            return resource;
-        } catch (MissingResourceException mre) {
-            throw new NoSuchResourceException(key, locale);
+            if (missing.size() >= MISSING_KEYS_CACHE_SIZE) {
+                Iterator<String> it = missing.iterator();
+                if (it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+            missing.add(key);
+        }
+        return resource;
+    }
+
+    /**
+     * Resolves the raw value of a resource. Subclasses should override this method if they
+     * can detect a missing key without relying on exceptions. The default implementation
+     * delegates to {@code doResolveResourceValue()}.
+     *
+     * @param key    the key to resolve
+     * @param locale the locale to use
+     *
+     * @return the value or {@code null} if the key could not be resolved.
+     *
+     * @since 2.8.0
+     */
+    @Nullable
+    protected Object doFindResourceValue(@Nonnull String key, @Nonnull Locale locale) {
+        try {
+            return doResolveResourceValue(key, locale);
+        } catch (NoSuchResourceException nsre) {
+            return null;
+        }
+    }
+
+    /**
+     * Forgets all keys previously found to be missing as well as cached conversions. Subclasses
+     * whose resources may change after being resolved must call this method once they do. The caches
+     * of the application's resource resolver are cleared whenever the application's locale changes.
+     *
+     * @since 2.8.0
+     */
+    public void clearCaches() {
+        missingKeys.clear();
+        convertedResources.clear();
+    }
+
+    /**
+     * Clears the caches of the given resource resolver, looking through decorators.
+     *
+     * @param resourceResolver the resource resolver whose caches should be cleared
+     *
+     * @since 2.8.0
+     */
+    public static void clearCaches(@Nonnull ResourceResolver resourceResolver) {
+        requireNonNull(resourceResolver, "Argument 'resourceResolver' must not be null");
+        while (resourceResolver instanceof ResourceResolverDecorator) {
+            resourceResolver = ((ResourceResolverDecorator) resourceResolver).getDelegate();
+        }
+        if (resourceResolver instanceof AbstractResourceResolver) {
+            ((AbstractResourceResolver) resourceResolver).clearCaches();
         }
     }
 
@@ -341,15 +453,33 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
         return args.toArray(new Object[args.size()]);
     }
 
+    /**
+     * Converts a resolved resource to the given type. Conversions to immutable types performed by a
+     * {@code PropertyEditor} are cached for as long as the resource resolves to the same value.
+     *
+     * @since 2.8.0
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> T convertValue(@Nonnull String key, @Nonnull Locale locale, @Nullable Object value, @Nonnull Class<T> type) {
+        if (value == null || type.isAssignableFrom(value.getClass())) {
+            return convertValue(value, type);
+        }
+
+        Object converted = convertedResources.get(key, locale, type, null, value);
+        if (converted == null) {
+            converted = convertValue(value, type);
+            convertedResources.put(key, locale, type, null, value, converted);
+        }
+        return (T) converted;
+    }
+
     @SuppressWarnings("unchecked")
     protected <T> T convertValue(@Nullable Object value, @Nonnull Class<T> type) {
         if (value != null) {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return (T) convertWithConverterOrEditor(value, type, null);
             }
         }
         return null;
@@ -19,6 +19,7 @@ import griffon.core.resources.NoSuchResourceException;
 import griffon.core.resources.ResourceResolver;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Locale;
 
@@ -47,6 +48,14 @@ public class CompositeResourceResolver extends AbstractResourceResolver {
         return resourceResolvers.toArray(new ResourceResolver[resourceResolvers.size()]);
     }
 
+    @Override
+    public void clearCaches() {
+        super.clearCaches();
+        for (ResourceResolver resourceResolver : resourceResolvers) {
+            clearCaches(resourceResolver);
+        }
+    }
+
     @Nonnull
     @Override
     protected Object doResolveResourceValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchResourceException {
@@ -61,4 +70,26 @@ public class CompositeResourceResolver extends AbstractResourceResolver {
         }
         throw new NoSuchResourceException(key, locale);
     }
+
+    @Nullable
+    @Override
+    protected Object doFindResourceValue(@Nonnull String key, @Nonnull Locale locale) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        for (ResourceResolver resourceResolver : resourceResolvers) {
+            if (resourceResolver instanceof AbstractResourceResolver) {
+                Object resource = ((AbstractResourceResolver) resourceResolver).findResourceValue(key, locale);
+                if (resource != null) {
+                    return resource;
+                }
+            } else {
+                try {
+                    return resourceResolver.resolveResourceValue(key, locale);
+                } catch (NoSuchResourceException nsre) {
+                    // ignore
+                }
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.resources;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static griffon.util.TypeUtils.isKnownImmutable;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps the results of converting resources with a {@code PropertyEditor}, such as colors, fonts
+ * and gradients, keyed by locale, resource key, target type and format. An entry is only reused if
+ * the resource still resolves to the value it was converted from, thus changes made to bundles
+ * are picked up automatically. Only values of types known to be immutable are kept, as every caller
+ * receives the same instance.
+ * <p>
+ * Lookups do not block. Once the estimated size of all entries exceeds the configured budget the
+ * least recently used entries are evicted until three quarters of the budget remain in use. The budget (in bytes) may be set with the
+ * {@code griffon.resources.cache.size} System property. A value of 0 disables caching.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+final class ConvertedResourceCache {
+    private static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+    private static final long DEFAULT_ENTRY_SIZE = 256;
+
+    private final long maxSize;
+    private final ConcurrentMap<Locale, ConcurrentMap<CacheKey, Entry>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final Object lock = new Object[0];
+
+    ConvertedResourceCache() {
+        this(Long.getLong("griffon.resources.cache.size", DEFAULT_MAX_SIZE));
+    }
+
+    ConvertedResourceCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Nullable
+    Object get(@Nonnull String key, @Nonnull Locale locale, @Nonnull Class<?> type, @Nullable String format, @Nonnull Object source) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        Map<CacheKey, Entry> localized = entries.get(locale);
+        if (localized == null) {
+            return null;
+        }
+        Entry entry = localized.get(new CacheKey(key, type, format));
+        if (entry != null && entry.source.equals(source)) {
+            entry.lastAccess = System.nanoTime();
+            return entry.value;
+        }
+        return null;
+    }
+
+    void put(@Nonnull String key, @Nonnull Locale locale, @Nonnull Class<?> type, @Nullable String format, @Nonnull Object source, @Nullable Object value) {
+        requireNonNull(source, "Argument 'source' must not be null");
+        if (maxSize <= 0 || value == null || !isKnownImmutable(value)) {
+            return;
+        }
+
+        Entry entry = new Entry(source, value, estimateSize(value));
+        if (entry.size > maxSize) {
+            return;
+        }
+
+        ConcurrentMap<CacheKey, Entry> localized = entries.get(locale);
+        if (localized == null) {
+            localized = new ConcurrentHashMap<>();
+            ConcurrentMap<CacheKey, Entry> existing = entries.putIfAbsent(locale, localized);
+            if (existing != null) {
+                localized = existing;
+            }
+        }
+
+        Entry previous = localized.put(new CacheKey(key, type, format), entry);
+        long total = size.addAndGet(entry.size - (previous != null ? previous.size : 0));
+        if (total > maxSize) {
+            evict();
+        }
+    }
+
+    void clear() {
+        for (ConcurrentMap<CacheKey, Entry> localized : entries.values()) {
+            for (Map.Entry<CacheKey, Entry> entry : localized.entrySet()) {
+                remove(localized, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    int size() {
+        int count = 0;
+        for (Map<CacheKey, Entry> localized : entries.values()) {
+            count += localized.size();
+        }
+        return count;
+    }
+
+    private void evict() {
+        synchronized (lock) {
+            if (size.get() <= maxSize) {
+                return;
+            }
+
+            List<Candidate> candidates = new ArrayList<>();
+            for (ConcurrentMap<CacheKey, Entry> localized : entries.values()) {
+                for (Map.Entry<CacheKey, Entry> entry : localized.entrySet()) {
+                    candidates.add(new Candidate(localized, entry.getKey(), entry.getValue()));
+                }
+            }
+            Collections.sort(candidates, new Comparator<Candidate>() {
+                @Override
+                public int compare(Candidate c1, Candidate c2) {
+                    return Long.compare(c1.entry.lastAccess, c2.entry.lastAccess);
+                }
+            });
+
+            // leave some room so that the next few puts do not evict again
+            long target = maxSize - maxSize / 4;
+            for (Candidate candidate : candidates) {
+                if (size.get() <= target) {
+                    break;
+                }
+                remove(candidate.entries, candidate.key, candidate.entry);
+            }
+        }
+    }
+
+    private void remove(@Nonnull ConcurrentMap<CacheKey, Entry> localized, @Nonnull CacheKey key, @Nonnull Entry entry) {
+        // entries replaced in the meantime have been accounted for by put()
+        if (localized.remove(key, entry)) {
+            size.addAndGet(-entry.size);
+        }
+    }
+
+    private static long estimateSize(@Nonnull Object value) {
+        if (value instanceof CharSequence) {
+            return 2L * ((CharSequence) value).length();
+        }
+
+        // gradients
+        Object stops = invoke(value, "getStops");
+        if (stops == null) {
+            stops = invoke(value, "getFractions");
+        }
+        if (stops instanceof Collection) {
+            return DEFAULT_ENTRY_SIZE + 64L * ((Collection<?>) stops).size();
+        } else if (stops != null && stops.getClass().isArray()) {
+            return DEFAULT_ENTRY_SIZE + 64L * Array.getLength(stops);
+        }
+
+        return DEFAULT_ENTRY_SIZE;
+    }
+
+    @Nullable
+    private static Object invoke(@Nonnull Object value, @Nonnull String methodName) {
+        try {
+            Method method = value.getClass().getMethod(methodName);
+            return method.getParameterTypes().length == 0 ? method.invoke(value) : null;
+        } catch (Exception e) {
+            // not supported by this value
+            return null;
+        }
+    }
+
+    private static final class Entry {
+        private final Object source;
+        private final Object value;
+        private final long size;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(@Nonnull Object source, @Nonnull Object value, long size) {
+            this.source = source;
+            this.value = value;
+            this.size = size;
+        }
+    }
+
+    private static final class Candidate {
+        private final ConcurrentMap<CacheKey, Entry> entries;
+        private final CacheKey key;
+        private final Entry entry;
+
+        private Candidate(@Nonnull ConcurrentMap<CacheKey, Entry> entries, @Nonnull CacheKey key, @Nonnull Entry entry) {
+            this.entries = entries;
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    private static final class CacheKey {
+        private final String key;
+        private final Class<?> type;
+        private final String format;
+        private final int hashCode;
+
+        private CacheKey(@Nonnull String key, @Nonnull Class<?> type, @Nullable String format) {
+            this.key = key;
+            this.type = type;
+            this.format = format;
+            int h = key.hashCode();
+            h = 31 * h + type.hashCode();
+            h = 31 * h + (format != null ? format.hashCode() : 0);
+            this.hashCode = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+            CacheKey other = (CacheKey) o;
+            return key.equals(other.key) &&
+                type == other.type &&
+                (format != null ? format.equals(other.format) : other.format == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -39,15 +39,27 @@ public class DefaultResourceInjector extends AbstractResourceInjector {
 
     @Nullable
     protected Object resolveResource(@Nonnull String key, @Nonnull String[] args) {
+        return resolveResource(key, args, Locale.getDefault());
+    }
+
+    @Nullable
+    protected Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull String defaultValue) {
+        return resolveResource(key, args, Locale.getDefault(), defaultValue);
+    }
+
+    @Nullable
+    @Override
+    protected Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull Locale locale) {
         try {
-            return resourceResolver.resolveResource(key, args, Locale.getDefault());
+            return resourceResolver.resolveResource(key, args, locale);
         } catch (NoSuchResourceException nsre) {
             return null;
         }
     }
 
     @Nullable
-    protected Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull String defaultValue) {
-        return resourceResolver.resolveResource(key, args, Locale.getDefault(), defaultValue);
+    @Override
+    protected Object resolveResource(@Nonnull String key, @Nonnull String[] args, @Nonnull Locale locale, @Nonnull String defaultValue) {
+        return resourceResolver.resolveResource(key, args, locale, defaultValue);
     }
 }
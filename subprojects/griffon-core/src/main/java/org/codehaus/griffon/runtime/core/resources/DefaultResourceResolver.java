@@ -19,6 +19,7 @@ import griffon.core.resources.NoSuchResourceException;
 import griffon.util.CompositeResourceBundleBuilder;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -53,6 +54,15 @@ public class DefaultResourceResolver extends AbstractResourceResolver {
         return getBundle(locale).getObject(key);
     }
 
+    @Nullable
+    @Override
+    protected Object doFindResourceValue(@Nonnull String key, @Nonnull Locale locale) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        ResourceBundle bundle = getBundle(locale);
+        return bundle.containsKey(key) ? bundle.getObject(key) : null;
+    }
+
     @Nonnull
     protected ResourceBundle getBundle(@Nonnull Locale locale) {
         requireNonNull(locale, ERROR_LOCALE_NULL);
@@ -20,12 +20,11 @@ import griffon.core.resources.ResourceResolver;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
+import static griffon.util.TypeUtils.convertWithConverterOrEditor;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -266,9 +265,7 @@ public class ResourceResolverDecorator implements ResourceResolver {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
+                return (T) convertWithConverterOrEditor(value, type, null);
             }
         }
         return null;
@@ -15,19 +15,41 @@
  */
 package org.codehaus.griffon.runtime.util;
 
+import griffon.core.env.Environment;
 import griffon.core.resources.ResourceHandler;
 import griffon.util.CompositeResourceBundle;
 import griffon.util.CompositeResourceBundleBuilder;
+import griffon.util.PrecompiledResourceBundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
@@ -42,14 +64,44 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
     protected static final String ERROR_RESOURCE_HANDLER_NULL = "Argument 'resourceHandler' must not be null";
     protected static final String ERROR_BASENAME_BLANK = "Argument 'basename' must not be blank";
     protected static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
+    protected static final String PRECOMPILED_SUFFIX = ".precompiled";
+    protected static final String PRECOMPILED_INDEX = "META-INF/griffon-precompiled-resource-bundles.txt";
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractCompositeResourceBundleBuilder.class);
 
     protected final ResourceHandler resourceHandler;
+    private final ConcurrentMap<String, Collection<ResourceBundle>> loadedBundles = new ConcurrentHashMap<>();
+    private final Object lock = new Object[0];
+    private volatile Set<String> precompiledBundles;
+    private volatile Environment environment;
 
     @Inject
     public AbstractCompositeResourceBundleBuilder(@Nonnull ResourceHandler resourceHandler) {
         this.resourceHandler = requireNonNull(resourceHandler, ERROR_RESOURCE_HANDLER_NULL);
     }
 
+    /**
+     * Sets the environment used to locate precompiled bundles.
+     *
+     * @param environment the application's environment
+     * @since 2.8.0
+     */
+    @Inject
+    public void setEnvironment(@Nonnull Environment environment) {
+        this.environment = requireNonNull(environment, "Argument 'environment' must not be null");
+    }
+
+    /**
+     * Returns the environment used to locate precompiled bundles.
+     *
+     * @return the application's environment or {@code null} if none has been set, in which case
+     * precompiled bundles are not used.
+     * @since 2.8.0
+     */
+    @Nullable
+    protected Environment getEnvironment() {
+        return environment;
+    }
+
     @Override
     @Nonnull
     public ResourceBundle create(@Nonnull String basename) {
@@ -69,12 +121,28 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
         };
 
         basename = basename.replace('.', '/');
-        List<ResourceBundle> bundles = new ArrayList<>();
+        List<String> fileNames = new ArrayList<>();
         for (String suffix : combinations) {
             if (suffix.endsWith("_")) continue;
-            bundles.addAll(loadBundlesFor(basename + "_" + suffix));
+            fileNames.add(basename + "_" + suffix);
+        }
+        fileNames.add(basename);
+
+        // candidates are resolved independently of each other, and only once per builder
+        List<Callable<Collection<ResourceBundle>>> tasks = new ArrayList<>();
+        for (final String fileName : fileNames) {
+            tasks.add(new Callable<Collection<ResourceBundle>>() {
+                @Override
+                public Collection<ResourceBundle> call() {
+                    return loadCachedBundlesFor(fileName);
+                }
+            });
+        }
+
+        List<ResourceBundle> bundles = new ArrayList<>();
+        for (Collection<ResourceBundle> loaded : invokeAll(tasks)) {
+            bundles.addAll(loaded);
         }
-        bundles.addAll(loadBundlesFor(basename));
         if (bundles.size() == 0) {
             throw new IllegalArgumentException("There are no ResourceBundle resources matching " + basename);
         }
@@ -101,6 +169,175 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
         return resourceHandler.getResources(fileName + suffix);
     }
 
+    /**
+     * Executes the given tasks, concurrently if parallel loading is enabled, and returns their
+     * results in the same order. Parallel loading is enabled by default on multi-core machines
+     * and may be disabled by setting the {@code griffon.resourcebundles.parallel} System property
+     * to {@code false}.
+     *
+     * @param tasks the tasks to execute
+     * @param <T>   the type of the results
+     * @return the results of each task.
+     * @since 2.8.0
+     */
+    @Nonnull
+    protected <T> List<T> invokeAll(@Nonnull List<Callable<T>> tasks) {
+        requireNonNull(tasks, "Argument 'tasks' must not be null");
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            if (tasks.size() < 2 || !LoaderHolder.PARALLEL) {
+                for (Callable<T> task : tasks) {
+                    results.add(task.call());
+                }
+                return results;
+            }
+
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(LoaderHolder.LOADER.submit(task));
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Nonnull
+    private Collection<ResourceBundle> loadCachedBundlesFor(@Nonnull String fileName) {
+        Collection<ResourceBundle> bundles = loadedBundles.get(fileName);
+        if (bundles == null) {
+            bundles = loadPrecompiledOrBundlesFor(fileName);
+            Collection<ResourceBundle> existing = loadedBundles.putIfAbsent(fileName, bundles);
+            if (existing != null) {
+                bundles = existing;
+            }
+        }
+        return bundles;
+    }
+
+    @Nonnull
+    private Collection<ResourceBundle> loadPrecompiledOrBundlesFor(@Nonnull String fileName) {
+        ResourceBundle precompiled = loadPrecompiledBundle(fileName);
+        if (precompiled != null) {
+            return Collections.singletonList(precompiled);
+        }
+        return loadBundlesFor(fileName);
+    }
+
+    /**
+     * Loads a bundle generated at build time for the application's environment, if one exists.
+     * A precompiled bundle named {@code <fileName>-<environment>.precompiled} replaces all
+     * bundles that would otherwise be loaded for {@code fileName}.
+     *
+     * @param fileName the name of the bundle, without suffix
+     * @return the precompiled bundle or {@code null} if there is none.
+     * @since 2.8.0
+     */
+    @Nullable
+    protected ResourceBundle loadPrecompiledBundle(@Nonnull String fileName) {
+        requireNonBlank(fileName, ERROR_FILENAME_BLANK);
+        Environment environment = getEnvironment();
+        if (environment == null) {
+            return null;
+        }
+
+        String precompiledName = fileName + "-" + environment.getName();
+        if (!getPrecompiledBundles().contains(precompiledName)) {
+            return null;
+        }
+
+        URL resource = getResourceAsURL(precompiledName, PRECOMPILED_SUFFIX);
+        if (resource == null) {
+            return null;
+        }
+
+        try (InputStream in = resource.openStream()) {
+            return PrecompiledResourceBundle.read(in, resourceHandler.classloader());
+        } catch (IOException | ClassNotFoundException e) {
+            LOG.warn("Could not load precompiled resource bundle from " + resource, e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the names of all precompiled bundles, as listed by every {@code PRECOMPILED_INDEX}
+     * resource. The index is read once, bundles missing from it are never looked up.
+     */
+    @Nonnull
+    private Set<String> getPrecompiledBundles() {
+        Set<String> names = precompiledBundles;
+        if (names == null) {
+            synchronized (lock) {
+                names = precompiledBundles;
+                if (names == null) {
+                    names = readPrecompiledIndex();
+                    precompiledBundles = names;
+                }
+            }
+        }
+        return names;
+    }
+
+    @Nonnull
+    private Set<String> readPrecompiledIndex() {
+        List<URL> indexes = resourceHandler.getResources(PRECOMPILED_INDEX);
+        if (indexes == null || indexes.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> names = new HashSet<>();
+        for (URL index : indexes) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), "UTF-8"))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        names.add(line);
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("Could not read precompiled resource bundle index from " + index, e);
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
     @Nonnull
     protected abstract Collection<ResourceBundle> loadBundlesFor(@Nonnull String basename);
+
+    private static final class LoaderHolder {
+        private static final boolean PARALLEL = Runtime.getRuntime().availableProcessors() > 1 &&
+            !"false".equalsIgnoreCase(System.getProperty("griffon.resourcebundles.parallel"));
+
+        // threads are only kept around while bundles are being loaded, the caller
+        // runs the task itself when all threads are busy
+        private static final ExecutorService LOADER = new ThreadPoolExecutor(0,
+            Runtime.getRuntime().availableProcessors(),
+            1L, TimeUnit.SECONDS,
+            new SynchronousQueue<Runnable>(),
+            new ThreadFactory() {
+                private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "griffon-bundle-loader-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 }
@@ -20,14 +20,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
 
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 
@@ -60,18 +63,35 @@ public class DefaultCompositeResourceBundleBuilder extends AbstractCompositeReso
         List<ResourceBundle> bundles = new ArrayList<>();
         List<URL> resources = getResources(fileName, PROPERTIES_SUFFIX);
         if (resources != null) {
-            for (URL resource : resources) {
+            List<Callable<ResourceBundle>> tasks = new ArrayList<>();
+            for (final URL resource : resources) {
                 if (null == resource) continue;
-                try {
-                    bundles.add(new PropertyResourceBundle(resource.openStream()));
-                } catch (IOException e) {
-                    // ignore
+                tasks.add(new Callable<ResourceBundle>() {
+                    @Override
+                    public ResourceBundle call() {
+                        return loadPropertiesBundle(resource);
+                    }
+                });
+            }
+            for (ResourceBundle bundle : invokeAll(tasks)) {
+                if (bundle != null) {
+                    bundles.add(bundle);
                 }
             }
         }
         return bundles;
     }
 
+    @Nullable
+    private ResourceBundle loadPropertiesBundle(@Nonnull URL resource) {
+        try (InputStream in = resource.openStream()) {
+            return new PropertyResourceBundle(in);
+        } catch (IOException e) {
+            // ignore
+            return null;
+        }
+    }
+
     @Nonnull
     protected Collection<ResourceBundle> loadBundleFromClass(@Nonnull String fileName) {
         List<ResourceBundle> bundles = new ArrayList<>();
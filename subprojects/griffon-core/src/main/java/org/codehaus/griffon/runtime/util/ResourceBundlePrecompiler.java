@@ -0,0 +1,155 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.util;
+
+import griffon.core.env.Environment;
+import griffon.core.resources.ResourceHandler;
+import griffon.util.CompositeResourceBundle;
+import griffon.util.PrecompiledResourceBundle;
+import org.codehaus.griffon.runtime.core.DefaultApplicationClassLoader;
+import org.codehaus.griffon.runtime.core.resources.DefaultResourceHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ResourceBundle;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Evaluates resource bundles (such as the application's {@code Config}) at build time and stores
+ * the result as {@code <basename>-<environment>.precompiled} files that are picked up by
+ * {@code AbstractCompositeResourceBundleBuilder} at runtime. Every generated file is listed in
+ * {@code META-INF/griffon-precompiled-resource-bundles.txt}; bundles missing from that index are never
+ * looked up. Bundles whose values depend on the machine running the build are not precompiled,
+ * see {@link #isPrecompilable(String, Collection)}.<p>
+ * Usage: {@code ResourceBundlePrecompiler <outputDir> <environment> <basename> [<basename> ...]}
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class ResourceBundlePrecompiler {
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceBundlePrecompiler.class);
+
+    public static void main(String[] args) throws IOException {
+        new ResourceBundlePrecompiler().execute(args);
+    }
+
+    protected void execute(@Nonnull String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: " + getClass().getName() + " <outputDir> <environment> <basename> [<basename> ...]");
+        }
+
+        File outputDir = new File(args[0]);
+        String environment = resolveEnvironmentName(args[1]);
+        for (String basename : Arrays.copyOfRange(args, 2, args.length)) {
+            precompile(outputDir, environment, basename);
+        }
+    }
+
+    /**
+     * Evaluates the bundles matching the given basename and writes them to {@code outputDir}.
+     *
+     * @param outputDir   the target directory
+     * @param environment the name of the environment, as returned by {@code Environment.getName()}
+     * @param basename    the basename of the bundle, such as {@code Config}
+     * @return the generated file or {@code null} if the bundle can not be precompiled
+     * @throws IOException if the file can not be written
+     */
+    @Nullable
+    public File precompile(@Nonnull File outputDir, @Nonnull String environment, @Nonnull String basename) throws IOException {
+        requireNonNull(outputDir, "Argument 'outputDir' must not be null");
+        requireNonBlank(environment, "Argument 'environment' must not be blank");
+        requireNonBlank(basename, "Argument 'basename' must not be blank");
+
+        String fileName = basename.replace('.', '/');
+        AbstractCompositeResourceBundleBuilder builder = createBuilder(createResourceHandler(), environment);
+        Collection<ResourceBundle> bundles = builder.loadBundlesFor(fileName);
+        if (bundles.isEmpty()) {
+            throw new IllegalArgumentException("There are no ResourceBundle resources matching " + basename);
+        }
+        if (!isPrecompilable(basename, bundles)) {
+            LOG.warn("Skipping {} for environment {} as its values depend on the machine running the build", basename, environment);
+            return null;
+        }
+
+        File file = new File(outputDir, fileName + "-" + environment + AbstractCompositeResourceBundleBuilder.PRECOMPILED_SUFFIX);
+        if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+            throw new IOException("Could not create directory " + file.getParentFile());
+        }
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            PrecompiledResourceBundle.write(new CompositeResourceBundle(bundles), out);
+        }
+        File index = new File(outputDir, AbstractCompositeResourceBundleBuilder.PRECOMPILED_INDEX);
+        if (!index.getParentFile().exists() && !index.getParentFile().mkdirs()) {
+            throw new IOException("Could not create directory " + index.getParentFile());
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(index, true), "UTF-8")) {
+            writer.write(fileName + "-" + environment + "\n");
+        }
+        LOG.info("Precompiled {} for environment {} into {}", basename, environment, file);
+        return file;
+    }
+
+    /**
+     * Whether the evaluated bundles may be packaged with the application. Bundles whose values depend on
+     * the machine running the build, such as its platform or the user's home directory, must be evaluated
+     * at runtime instead.
+     *
+     * @param basename the basename of the bundle, such as {@code Config}
+     * @param bundles  the evaluated bundles
+     * @return {@code true} if the bundles may be precompiled.
+     */
+    protected boolean isPrecompilable(@Nonnull String basename, @Nonnull Collection<ResourceBundle> bundles) {
+        return true;
+    }
+
+    @Nonnull
+    protected ResourceHandler createResourceHandler() {
+        return new DefaultResourceHandler(new DefaultApplicationClassLoader());
+    }
+
+    @Nonnull
+    protected AbstractCompositeResourceBundleBuilder createBuilder(@Nonnull ResourceHandler resourceHandler, @Nonnull String environment) {
+        return new DefaultCompositeResourceBundleBuilder(resourceHandler);
+    }
+
+    @Nonnull
+    protected static String resolveEnvironmentName(@Nonnull String name) {
+        requireNonBlank(name, "Argument 'name' must not be blank");
+        Environment environment = Environment.resolveEnvironment(name);
+        if (environment == null) {
+            try {
+                environment = Environment.valueOf(name.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // custom environment
+                return name;
+            }
+        }
+        return environment.getName();
+    }
+}
@@ -18,12 +18,14 @@ package griffon.core
 import griffon.core.editors.IntegerPropertyEditor
 import griffon.core.editors.PropertyEditorResolver
 import griffon.inject.Contextual
+import org.codehaus.griffon.runtime.core.AbstractContext
 import org.codehaus.griffon.runtime.core.DefaultContext
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Unroll
 
 import javax.inject.Named
+import java.lang.reflect.Field
 
 @Unroll
 class ContextSpec extends Specification {
@@ -260,6 +262,64 @@ class ContextSpec extends Specification {
         bean.@bar == 'bar'
     }
 
+    def "Cached lookups are refreshed when an ancestor changes"() {
+        given:
+        Context root = new DefaultContext()
+        Context parent = new DefaultContext(root)
+        Context child = new DefaultContext(parent)
+        root['key'] = 'root'
+
+        expect:
+        child.get('key') == 'root'
+        child.get('key') == 'root'
+        !child.containsKey('missing')
+
+        when:
+        parent['key'] = 'parent'
+        root['missing'] = 'found'
+
+        then:
+        child.get('key') == 'parent'
+        child.containsKey('missing')
+
+        when:
+        parent.remove('key')
+        root.remove('missing')
+
+        then:
+        child.get('key') == 'root'
+        !child.containsKey('missing')
+
+        when:
+        parent.destroy()
+
+        then:
+        child.get('key') == null
+
+        when:
+        child.destroy()
+
+        then:
+        child.get('key') == null
+    }
+
+    def "Cached lookups are bounded"() {
+        given:
+        Context root = new DefaultContext()
+        Context child = new DefaultContext(root)
+        int keys = AbstractContext.LOOKUP_CACHE_SIZE * 2
+        keys.times { root['key' + it] = it }
+
+        when:
+        keys.times { assert child.get('key' + it) == it }
+        Field lookups = AbstractContext.getDeclaredField('lookups')
+        lookups.accessible = true
+
+        then:
+        lookups.get(child).size() <= AbstractContext.LOOKUP_CACHE_SIZE
+        child.get('key0') == 0
+    }
+
     static class Bean {
         @Contextual @Named('foo')
         private String foo
@@ -227,6 +227,49 @@ class ObservableContextSpec extends Specification {
         listener3.contextEvent == null
     }
 
+    void "listen to context events by key and prefix"() {
+        given:
+        ObservableContext root = new DefaultObservableContext()
+        ObservableContext parent = new DefaultObservableContext(root)
+        DefaultObservableContext child = new DefaultObservableContext(parent)
+        List<ObservableContext.ContextEvent> keyEvents = []
+        List<ObservableContext.ContextEvent> prefixEvents = []
+        ObservableContext.ContextEventListener keyListener = { e -> keyEvents << e } as ObservableContext.ContextEventListener
+        ObservableContext.ContextEventListener prefixListener = { e -> prefixEvents << e } as ObservableContext.ContextEventListener
+
+        when:
+        child.addContextEventListener('foo', keyListener)
+        child.addContextEventListenerForPrefix('app.', prefixListener)
+        root.put('foo', 'foo')
+        root.put('bar', 'bar')
+        root.put('app.title', 'title')
+        parent.put('app.title', 'shadowed')
+
+        then:
+        root.contextEventListeners.size() == 0
+        parent.contextEventListeners.size() == 0
+        keyEvents*.key == ['foo']
+        prefixEvents*.key == ['app.title', 'app.title']
+        prefixEvents*.newValue == ['title', 'shadowed']
+
+        when:
+        child.put('foo', 'local')
+        root.put('foo', 'ignored')
+
+        then:
+        keyEvents*.newValue == ['foo', 'local']
+
+        when:
+        child.removeContextEventListener('foo', keyListener)
+        child.removeContextEventListenerForPrefix('app.', prefixListener)
+        child.remove('foo')
+        root.put('app.name', 'name')
+
+        then:
+        keyEvents.size() == 2
+        prefixEvents.size() == 2
+    }
+
     private static class TestContextEventListener implements ObservableContext.ContextEventListener {
         ObservableContext.ContextEvent contextEvent
 
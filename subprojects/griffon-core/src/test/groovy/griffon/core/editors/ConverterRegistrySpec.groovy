@@ -0,0 +1,181 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.editors
+
+import griffon.util.TypeUtils
+import spock.lang.Specification
+
+import java.beans.PropertyEditorSupport
+import java.lang.reflect.Field
+
+class ConverterRegistrySpec extends Specification {
+    private final Converter<String, Integer> stringToInteger = new StringToInteger()
+    private final Converter<Number, Amount> numberToAmount = new NumberToAmount()
+
+    void cleanup() {
+        ConverterRegistry.clear()
+        PropertyEditorResolver.clear()
+    }
+
+    void "Nothing is found when no converters are registered"() {
+        expect:
+        !ConverterRegistry.findConverter(String, Integer)
+    }
+
+    void "Direct conversions accept subtypes of the source type"() {
+        given:
+        ConverterRegistry.registerConverter(numberToAmount)
+
+        expect:
+        ConverterRegistry.findConverter(Integer, Amount).is(numberToAmount)
+        ConverterRegistry.findConverter(Long, Amount).convert(42L).cents == 42L
+        !ConverterRegistry.findConverter(String, Amount)
+    }
+
+    void "Two converters are chained when no direct conversion exists"() {
+        given:
+        ConverterRegistry.registerConverter(stringToInteger)
+        ConverterRegistry.registerConverter(numberToAmount)
+
+        when:
+        Converter<Object, Amount> converter = ConverterRegistry.findConverter(String, Amount)
+
+        then:
+        converter.convert('21').cents == 21L
+        ConverterRegistry.isChained(converter)
+        ConverterRegistry.findConverter(String, int.class).is(stringToInteger)
+        !ConverterRegistry.isChained(stringToInteger)
+    }
+
+    void "Cached paths are discarded when converters are unregistered"() {
+        given:
+        ConverterRegistry.registerConverter(stringToInteger)
+        ConverterRegistry.registerConverter(numberToAmount)
+
+        expect:
+        ConverterRegistry.findConverter(String, Amount)
+
+        when:
+        ConverterRegistry.unregisterConverter(stringToInteger)
+
+        then:
+        !ConverterRegistry.findConverter(String, Amount)
+    }
+
+    void "TypeUtils prefers converters over property editors"() {
+        given:
+        ConverterRegistry.registerConverter(stringToInteger)
+        ConverterRegistry.registerConverter(numberToAmount)
+
+        expect:
+        TypeUtils.convertValue(Amount, '7').cents == 7L
+    }
+
+    void "TypeUtils prefers property editors over chained converters"() {
+        given:
+        ConverterRegistry.registerConverter(stringToInteger)
+        ConverterRegistry.registerConverter(numberToAmount)
+        PropertyEditorResolver.registerEditor(Amount, AmountPropertyEditor)
+
+        expect:
+        TypeUtils.convertValue(Amount, 'free').cents == 0L
+        TypeUtils.convertValue(Amount, '7').cents == 700L
+        TypeUtils.convertValue(Amount, 7).cents == 7L
+    }
+
+    void "TypeUtils falls back to property editors when a direct converter fails"() {
+        given:
+        ConverterRegistry.registerConverter(new StringToAmount())
+        PropertyEditorResolver.registerEditor(Amount, AmountPropertyEditor)
+
+        expect:
+        TypeUtils.convertValue(Amount, '7').cents == 7L
+        TypeUtils.convertValue(Amount, 'free').cents == 0L
+    }
+
+    void "Converters of the same class and types replace each other"() {
+        given:
+        Converter<String, Integer> replacement = new StringToInteger()
+        ConverterRegistry.registerConverter(stringToInteger)
+        ConverterRegistry.registerConverter(new StringToAmount())
+
+        when:
+        ConverterRegistry.registerConverter(replacement)
+
+        then:
+        ConverterRegistry.findConverter(String, Integer).is(replacement)
+
+        when:
+        ConverterRegistry.unregisterConverter(replacement)
+
+        then:
+        !ConverterRegistry.findConverter(String, Integer)
+    }
+
+    void "Paths are not cached on source types that can not see the converter"() {
+        given:
+        ConverterRegistry.registerConverter(stringToInteger)
+        Field field = ConverterRegistry.getDeclaredField('PATHS')
+        field.accessible = true
+        ClassValue<Map<Class<?>, ?>> paths = (ClassValue<Map<Class<?>, ?>>) field.get(null)
+
+        expect:
+        ConverterRegistry.findConverter(String, Integer).is(stringToInteger)
+        ConverterRegistry.findConverter(String, Integer).is(stringToInteger)
+        !paths.get(String).containsKey(Integer)
+    }
+
+    static class Amount {
+        final long cents
+
+        Amount(long cents) {
+            this.cents = cents
+        }
+    }
+
+    static class StringToInteger implements Converter<String, Integer> {
+        Class<String> getSourceType() { String }
+
+        Class<Integer> getTargetType() { Integer }
+
+        Integer convert(String value) { Integer.valueOf(value) }
+    }
+
+    static class NumberToAmount implements Converter<Number, Amount> {
+        Class<Number> getSourceType() { Number }
+
+        Class<Amount> getTargetType() { Amount }
+
+        Amount convert(Number value) { new Amount(value.longValue()) }
+    }
+
+    static class StringToAmount implements Converter<String, Amount> {
+        Class<String> getSourceType() { String }
+
+        Class<Amount> getTargetType() { Amount }
+
+        Amount convert(String value) {
+            if (!value.isNumber()) throw new ValueConversionException(value, Amount)
+            new Amount(value.toLong())
+        }
+    }
+
+    static class AmountPropertyEditor extends PropertyEditorSupport {
+        void setAsText(String text) {
+            setValue(text == 'free' ? new Amount(0L) : new Amount(text.toLong() * 100L))
+        }
+    }
+}
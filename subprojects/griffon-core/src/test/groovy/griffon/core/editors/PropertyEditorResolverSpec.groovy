@@ -124,6 +124,34 @@ class PropertyEditorResolverSpec extends Specification {
         !(editor instanceof APropertyEditor)
     }
 
+    void "Editors resolved before a registration change are refreshed"() {
+        given:
+        PropertyEditorResolver.clear()
+        PropertyEditorResolver.registerEditor(Object, APropertyEditor)
+
+        when:
+        PropertyEditor first = PropertyEditorResolver.findEditor(Object)
+        PropertyEditor second = PropertyEditorResolver.findEditor(Object)
+
+        then: 'every call returns a new instance'
+        first instanceof APropertyEditor
+        second instanceof APropertyEditor
+        !first.is(second)
+
+        when:
+        PropertyEditorResolver.unregisterEditor(Object)
+        PropertyEditorResolver.registerEditor(Object, BPropertyEditor)
+
+        then:
+        PropertyEditorResolver.findEditor(Object) instanceof BPropertyEditor
+
+        when:
+        PropertyEditorResolver.clear()
+
+        then:
+        !(PropertyEditorResolver.findEditor(Object) instanceof BPropertyEditor)
+    }
+
     static class APropertyEditor extends AbstractPropertyEditor {
         static int called = 0
 
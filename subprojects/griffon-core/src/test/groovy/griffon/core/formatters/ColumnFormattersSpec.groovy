@@ -0,0 +1,124 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.text.DecimalFormat
+import java.text.DecimalFormatSymbols
+import java.text.SimpleDateFormat
+
+import static griffon.core.formatters.ColumnFormatters.appendTo
+import static griffon.core.formatters.ColumnFormatters.fixedDecimal
+import static griffon.core.formatters.ColumnFormatters.format
+import static griffon.core.formatters.ColumnFormatters.integer
+import static griffon.core.formatters.ColumnFormatters.isoDate
+import static griffon.core.formatters.ColumnFormatters.isoDateTime
+import static griffon.core.formatters.ColumnFormatters.ofDateFormat
+
+@Unroll
+class ColumnFormattersSpec extends Specification {
+    void "Fixed decimal with #digits digits formats #value as '#expected'"() {
+        expect:
+        format([value] as double[], fixedDecimal(digits)) == [expected] as String[]
+
+        where:
+        value            | digits || expected
+        0d               | 2      || '0.00'
+        -0.0d            | 2      || '-0.00'
+        -0.001d          | 2      || '-0.00'
+        -0.4d            | 0      || '-0'
+        2.5d             | 0      || '2'
+        3.5d             | 0      || '4'
+        -3.14159d        | 2      || '-3.14'
+        0.125d           | 2      || '0.12'
+        0.135d           | 2      || '0.14'
+        1234567.891d     | 3      || '1234567.891'
+        1e20d            | 1      || '100000000000000000000.0'
+        Double.NaN       | 2      || 'NaN'
+        Double.MIN_VALUE | 2      || '0.00'
+    }
+
+    void "Fixed decimal rounds like DecimalFormat"() {
+        given:
+        DecimalFormat decimalFormat = new DecimalFormat('0.000', DecimalFormatSymbols.getInstance(Locale.ROOT))
+        Random random = new Random(42L)
+        double[] values = (0..<10000).collect { (random.nextInt(2000000) - 1000000) / 2000d + random.nextInt(3) * 0.0005d } as double[]
+
+        expect:
+        format(values, fixedDecimal(3)) == values.collect { decimalFormat.format(it) } as String[]
+    }
+
+    void "ISO formatters match SimpleDateFormat for #millis"() {
+        given:
+        SimpleDateFormat date = new SimpleDateFormat('yyyy-MM-dd')
+        SimpleDateFormat dateTime = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+        [date, dateTime]*.timeZone = TimeZone.getTimeZone('UTC')
+
+        expect:
+        format([millis] as long[], isoDate()) == [date.format(new Date(millis))] as String[]
+        format([millis] as long[], isoDateTime()) == [dateTime.format(new Date(millis))] as String[]
+
+        where:
+        millis << [0L, -1L, 951782400000L, 1700000000123L, 253402300799999L]
+    }
+
+    void "ISO dates sign years beyond 9999 and before 0000"() {
+        expect:
+        format([253402300800000L, -62198755200000L] as long[], isoDate()) == ['+10000-01-01', '-0001-01-01'] as String[]
+    }
+
+    void "ISO date times include the offset of the time zone"() {
+        expect:
+        format([0L] as long[], isoDateTime(TimeZone.getTimeZone('GMT-03:30'))) == ['1969-12-31T20:30:00.000-03:30'] as String[]
+    }
+
+    void "Values are written into an existing array"() {
+        given:
+        String[] output = new String[4]
+
+        when:
+        format([1L, 2L, 3L] as long[], 1, 2, integer(), output, 2)
+
+        then:
+        output == [null, null, '2', '3'] as String[]
+
+        when:
+        format([1L, 2L, 3L] as long[], 2, 2, integer(), output, 0)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
+    void "Columns are appended to a reusable buffer"() {
+        given:
+        StringBuilder buffer = new StringBuilder()
+
+        when:
+        appendTo(buffer, [1.5d, 2.25d] as double[], 0, 2, fixedDecimal(1), ';')
+        buffer.append('\n')
+        appendTo(buffer, [0L, 86400000L] as long[], 0, 2, ofDateFormat(utc(new SimpleDateFormat('dd/MM/yyyy'))), ';')
+
+        then:
+        buffer.toString() == '1.5;2.2\n01/01/1970;02/01/1970'
+    }
+
+    private static SimpleDateFormat utc(SimpleDateFormat format) {
+        format.timeZone = TimeZone.getTimeZone('UTC')
+        format
+    }
+}
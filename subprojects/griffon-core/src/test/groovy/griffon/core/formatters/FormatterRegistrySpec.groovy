@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class FormatterRegistrySpec extends Specification {
+    void cleanup() {
+        FormatterRegistry.clear()
+    }
+
+    void "Formatters are cached by type and pattern"() {
+        when:
+        DateFormatter first = FormatterRegistry.getFormatter(DateFormatter, 'yyyy-MM-dd')
+        DateFormatter second = FormatterRegistry.getFormatter(DateFormatter, 'yyyy-MM-dd')
+        DateFormatter other = FormatterRegistry.getFormatter(DateFormatter, 'dd/MM/yyyy')
+
+        then:
+        first.is(second)
+        !first.is(other)
+        first.pattern == 'yyyy-MM-dd'
+        other.pattern == 'dd/MM/yyyy'
+    }
+
+    void "Formatters are cached by locale"() {
+        given:
+        Locale defaultLocale = Locale.default
+
+        when:
+        Locale.default = Locale.US
+        IntegerFormatter us = FormatterRegistry.getFormatter(IntegerFormatter, 'currency')
+        Locale.default = Locale.UK
+        IntegerFormatter uk = FormatterRegistry.getFormatter(IntegerFormatter, 'currency')
+
+        then:
+        !us.is(uk)
+        us.format(1) != uk.format(1)
+
+        cleanup:
+        Locale.default = defaultLocale
+    }
+
+    void "Thread-confined formatters are not shared across threads"() {
+        given:
+        DateFormatter local = FormatterRegistry.getFormatter(DateFormatter, 'yyyy-MM-dd')
+        def executor = Executors.newSingleThreadExecutor()
+
+        when:
+        DateFormatter remote = executor.submit({
+            FormatterRegistry.getFormatter(DateFormatter, 'yyyy-MM-dd')
+        } as Callable<DateFormatter>).get()
+
+        then:
+        !local.is(remote)
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "Shared formatters are shared across threads"() {
+        given:
+        DateFormatter local = FormatterRegistry.getSharedFormatter(DateFormatter, 'yyyy-MM-dd')
+        def executor = Executors.newSingleThreadExecutor()
+
+        when:
+        DateFormatter remote = executor.submit({
+            FormatterRegistry.getSharedFormatter(DateFormatter, 'yyyy-MM-dd')
+        } as Callable<DateFormatter>).get()
+
+        then:
+        local.is(remote)
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "Clearing the registry discards the formatters cached by other threads"() {
+        given:
+        def executor = Executors.newSingleThreadExecutor()
+        Callable<DateFormatter> lookup = new Callable<DateFormatter>() {
+            DateFormatter call() { FormatterRegistry.getFormatter(DateFormatter, 'yyyy-MM-dd') }
+        }
+        DateFormatter before = executor.submit(lookup).get()
+
+        when:
+        FormatterRegistry.clear()
+        DateFormatter after = executor.submit(lookup).get()
+
+        then:
+        !before.is(after)
+        after.is(executor.submit(lookup).get())
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "Least recently used shared formatters are evicted first"() {
+        given:
+        DateFormatter recent = FormatterRegistry.getSharedFormatter(DateFormatter, 'yyyy-MM-dd')
+        DateFormatter eldest = FormatterRegistry.getSharedFormatter(DateFormatter, 'dd/MM/yyyy')
+
+        when:
+        (1..<Integer.getInteger('griffon.formatters.cache.size', 64)).each {
+            FormatterRegistry.getSharedFormatter(DateFormatter, 'yyyy-MM-dd')
+            FormatterRegistry.getSharedFormatter(DateFormatter, "'${it}' dd/MM/yyyy".toString())
+        }
+
+        then:
+        FormatterRegistry.getSharedFormatter(DateFormatter, 'yyyy-MM-dd').is(recent)
+        !FormatterRegistry.getSharedFormatter(DateFormatter, 'dd/MM/yyyy').is(eldest)
+    }
+}
@@ -48,4 +48,18 @@ class CompositeResourceBuilderSpec extends Specification {
         'key.number' | 'number'
         'key.float'  | 'float'
     }
+
+    def 'Merged bundle applies precedence and keeps all keys'() {
+        setup:
+        ResourceBundle bundle = new CompositeResourceBundle([
+            new ExpandableResourceBundle(new MapResourceBundle2()),
+            new MapResourceBundle()
+        ])
+
+        expect:
+        bundle.keySet() == ['single', 'key.string', 'key.number', 'key.float', 'key'] as Set
+        bundle.containsKey('key.float')
+        !bundle.containsKey('key.bogus')
+        bundle.getObject('key') == [string: 'string', number: 'number', float: 'float']
+    }
 }
@@ -25,6 +25,7 @@ import griffon.core.mvc.MVCHandler
 import griffon.core.resources.ResourceHandler
 import griffon.core.resources.ResourceResolver
 import griffon.core.threading.ThreadingHandler
+import griffon.exceptions.PropertyException
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -442,6 +443,39 @@ class GriffonClassUtilsSpec extends Specification {
         ]
     }
 
+    void "Properties and fields are accessed through cached metadata"() {
+        given:
+        PropertyBean bean = new PropertyBean()
+
+        when:
+        GriffonClassUtils.setProperty(bean, 'count', 42)
+        GriffonClassUtils.setProperty(bean, 'name', 'griffon')
+        GriffonClassUtils.setField(bean, 'secret', 'value')
+
+        then:
+        42 == GriffonClassUtils.getProperty(bean, 'count')
+        'griffon' == GriffonClassUtils.getProperty(bean, 'name')
+        'value' == GriffonClassUtils.getFieldValue(bean, 'secret')
+        GriffonClassUtils.getPropertyDescriptors(PropertyBean).is(GriffonClassUtils.getPropertyDescriptors(PropertyBean))
+        null == GriffonClassUtils.getFieldValue(bean, 'unknown')
+    }
+
+    void "Setting a null value on a primitive property throws PropertyException"() {
+        when:
+        GriffonClassUtils.setProperty(new PropertyBean(), 'count', null)
+
+        then:
+        thrown(PropertyException)
+    }
+
+    void "Setting an unknown field throws NoSuchFieldException"() {
+        when:
+        GriffonClassUtils.setField(new PropertyBean(), 'unknown', 'value')
+
+        then:
+        thrown(NoSuchFieldException)
+    }
+
     private static List methodDescriptorsOf(Class<?> type, boolean result) {
         List data = []
         for (Method m : type.methods) {
@@ -491,4 +525,10 @@ class GriffonClassUtilsSpec extends Specification {
     static interface MySetter {
         void setSomething(String s)
     }
+
+    static class PropertyBean {
+        int count
+        String name
+        private String secret
+    }
 }
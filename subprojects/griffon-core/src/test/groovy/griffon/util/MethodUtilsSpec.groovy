@@ -0,0 +1,81 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util
+
+import spock.lang.Specification
+
+import java.lang.reflect.InvocationTargetException
+
+class MethodUtilsSpec extends Specification {
+    void "Resolved methods are reused across lookups"() {
+        given:
+        MethodUtils.clearCache()
+
+        when:
+        def first = MethodUtils.getMatchingAccessibleMethod(Target, 'sum', [Integer, Integer] as Class[])
+        def second = MethodUtils.getMatchingAccessibleMethod(Target, 'sum', [Integer, Integer] as Class[])
+
+        then:
+        first
+        first.is(second)
+        MethodUtils.clearCache() > 0
+    }
+
+    void "Failed lookups are reported consistently"() {
+        expect:
+        !MethodUtils.getAccessibleMethod(Target, 'unknown', [] as Class[])
+        !MethodUtils.getAccessibleMethod(Target, 'unknown', [] as Class[])
+
+        when:
+        MethodUtils.invokeMethod(new Target(), 'unknown', null)
+
+        then:
+        thrown(NoSuchMethodException)
+    }
+
+    void "Methods are invoked with matching and exact arguments"() {
+        given:
+        Target target = new Target()
+
+        expect:
+        3 == MethodUtils.invokeMethod(target, 'sum', [1, 2] as Object[])
+        3 == MethodUtils.invokeExactMethod(target, 'sum', [1, 2] as Object[], [int, int] as Class[])
+        'GRIFFON' == MethodUtils.invokeStaticMethod(Target, 'upper', 'griffon')
+    }
+
+    void "Exceptions thrown by the target method are wrapped"() {
+        when:
+        MethodUtils.invokeMethod(new Target(), 'fail', null)
+
+        then:
+        InvocationTargetException e = thrown()
+        e.cause instanceof IllegalStateException
+    }
+
+    static class Target {
+        int sum(int a, int b) {
+            a + b
+        }
+
+        static String upper(String s) {
+            s.toUpperCase()
+        }
+
+        void fail() {
+            throw new IllegalStateException('fail')
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util
+
+import spock.lang.Specification
+
+class PrecompiledResourceBundleSpec extends Specification {
+    def 'A precompiled bundle holds the same entries as its source'() {
+        given:
+        ResourceBundle source = ExpandableResourceBundle.wrapResourceBundle(new MapResourceBundle())
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        PrecompiledResourceBundle.write(source, out)
+        ResourceBundle bundle = PrecompiledResourceBundle.read(new ByteArrayInputStream(out.toByteArray()), getClass().classLoader)
+
+        then:
+        bundle.keySet() == source.keySet()
+        bundle.getObject('single') == 'single'
+        bundle.getObject('key.string') == 'string'
+        bundle.getObject('key') == [string: 'string', number: 'number']
+        ExpandableResourceBundle.wrapResourceBundle(bundle).is(bundle)
+    }
+
+    def 'Reading an unknown format fails'() {
+        given:
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        new ObjectOutputStream(out).with {
+            writeInt(-1)
+            flush()
+        }
+
+        when:
+        PrecompiledResourceBundle.read(new ByteArrayInputStream(out.toByteArray()), getClass().classLoader)
+
+        then:
+        thrown(IOException)
+    }
+}
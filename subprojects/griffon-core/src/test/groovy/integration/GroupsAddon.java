@@ -52,6 +52,35 @@ public class GroupsAddon extends AbstractGriffonAddon implements Invokable {
             .e("args", CollectionUtils.<String, Object>map()
                 .e("model", "integration.ArgsModel")
                 .e("view", "integration.ArgsView")
-                .e("controller", "integration.ArgsController"));
+                .e("controller", "integration.ArgsController"))
+            .e("parallel", CollectionUtils.<String, Object>map()
+                .e("model", "integration.SimpleModel")
+                .e("view", "integration.SimpleView")
+                .e("controller", "integration.SimpleController")
+                .e("config", CollectionUtils.<String, Object>map()
+                    .e("instantiation", CollectionUtils.<String, Object>map()
+                        .e("parallel", true))))
+            .e("lazy", CollectionUtils.<String, Object>map()
+                .e("model", "integration.PooledModel")
+                .e("view", "integration.PooledView")
+                .e("config", CollectionUtils.<String, Object>map()
+                    .e("view", CollectionUtils.<String, Object>map()
+                        .e("lazy", true))))
+            .e("pooled", CollectionUtils.<String, Object>map()
+                .e("model", "integration.PooledModel")
+                .e("view", "integration.PooledView")
+                .e("config", CollectionUtils.<String, Object>map()
+                    .e("component", true)
+                    .e("pool", CollectionUtils.<String, Object>map()
+                        .e("enabled", true)
+                        .e("maxSize", 1))))
+            .e("notRecyclable", CollectionUtils.<String, Object>map()
+                .e("model", "integration.SimpleModel")
+                .e("view", "integration.SimpleView")
+                .e("controller", "integration.SimpleController")
+                .e("config", CollectionUtils.<String, Object>map()
+                    .e("component", true)
+                    .e("pool", CollectionUtils.<String, Object>map()
+                        .e("enabled", true))));
     }
 }
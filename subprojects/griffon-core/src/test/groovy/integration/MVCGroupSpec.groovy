@@ -21,10 +21,16 @@ import griffon.core.env.ApplicationPhase
 import griffon.core.mvc.MVCGroup
 import griffon.exceptions.MVCGroupInstantiationException
 import org.codehaus.griffon.runtime.core.DefaultApplicationBootstrapper
+import org.codehaus.griffon.runtime.core.mvc.AbstractMVCGroup
+import org.codehaus.griffon.runtime.core.mvc.DefaultMVCGroupManager
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Stepwise
 
+import java.util.concurrent.Callable
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
 @Stepwise
 class MVCGroupSpec extends Specification {
     @Shared
@@ -352,4 +358,198 @@ class MVCGroupSpec extends Specification {
         then:
         thrown(IllegalStateException)
     }
-}
\ No newline at end of file
+
+    def 'Pooled MVC groups reuse recycled members'() {
+        given:
+        DefaultMVCGroupManager mvcGroupManager = (DefaultMVCGroupManager) application.mvcGroupManager
+
+        when:
+        MVCGroup group1 = mvcGroupManager.createMVCGroup('pooled', [value: 'one'])
+        PooledView view = group1.view
+        group1.destroy()
+
+        then:
+        view.initialized == 1
+        view.recycled == 1
+        mvcGroupManager.getPool('pooled').size() == 1
+
+        when:
+        MVCGroup group2 = mvcGroupManager.createMVCGroup('pooled', [value: 'two'])
+
+        then:
+        group2.view.is(view)
+        group2.model.value == 'two'
+        view.mvcGroup == group2
+        view.initialized == 1
+        view.reused == 1
+        mvcGroupManager.getPool('pooled').size() == 0
+        mvcGroupManager.getPool('pooled').hits == 1
+        mvcGroupManager.getPool('pooled').misses == 1
+
+        when:
+        MVCGroup group3 = mvcGroupManager.createMVCGroup('pooled')
+        group2.destroy()
+        group3.destroy()
+
+        then:
+        group3.view != view
+        mvcGroupManager.getPool('pooled').size() == 1
+    }
+
+    def 'Groups with members that are not recyclable are never pooled'() {
+        given:
+        DefaultMVCGroupManager mvcGroupManager = (DefaultMVCGroupManager) application.mvcGroupManager
+
+        when:
+        MVCGroup group1 = mvcGroupManager.createMVCGroup('notRecyclable', [key: 'one'])
+        group1.destroy()
+        MVCGroup group2 = mvcGroupManager.createMVCGroup('notRecyclable', [key: 'two'])
+        group2.destroy()
+
+        then:
+        !group2.view.is(group1.view)
+        !group2.controller.is(group1.controller)
+        mvcGroupManager.getPool('notRecyclable').size() == 0
+    }
+
+    def 'Pooled members are reset before they are reused'() {
+        given:
+        DefaultMVCGroupManager mvcGroupManager = (DefaultMVCGroupManager) application.mvcGroupManager
+        mvcGroupManager.clearPools()
+
+        when:
+        MVCGroup group1 = mvcGroupManager.createMVCGroup('pooled', [value: 'one'])
+        PooledModel model = group1.model
+        group1.destroy()
+
+        then:
+        model.value == null
+
+        when:
+        MVCGroup group2 = mvcGroupManager.createMVCGroup('pooled')
+
+        then:
+        group2.model.is(model)
+        model.value == null
+
+        cleanup:
+        group2?.destroy()
+    }
+
+    def 'Members of a group may be instantiated in parallel'() {
+        given:
+        List checks = []
+
+        when:
+        application.mvcGroupManager.withMVCGroup('parallel', [key: 'value']) { MVCGroup group ->
+            checks << (group.members.keySet() as List == ['model', 'view', 'controller'])
+            checks << (group.model instanceof SimpleModel)
+            checks << (group.view instanceof SimpleView)
+            checks << (group.controller instanceof SimpleController)
+            checks << (group.controller.mvcId == 'parallel')
+            checks << (group.controller.key == 'value')
+        }
+
+        then:
+        checks.every { it == true }
+    }
+
+    def 'Parallel instantiation does not starve when invoked from pool threads'() {
+        given:
+        int count = Runtime.runtime.availableProcessors() * 2
+        List<Future<Boolean>> futures = []
+
+        when:
+        count.times { int i ->
+            futures << application.uiThreadManager.runFuture({
+                MVCGroup group = application.mvcGroupManager.createMVCGroup('parallel', 'parallel-' + i, [key: 'value'])
+                boolean ok = group.controller instanceof SimpleController
+                group.destroy()
+                ok
+            } as Callable<Boolean>)
+        }
+
+        then:
+        futures.every { it.get(30, TimeUnit.SECONDS) }
+    }
+
+    def 'View initialization may be deferred until the view is requested'() {
+        when:
+        MVCGroup group = application.mvcGroupManager.createMVCGroup('lazy')
+        PooledView view = group.members.view
+
+        then:
+        !group.viewInitialized
+        view.initialized == 0
+
+        when:
+        group.view
+
+        then:
+        group.viewInitialized
+        view.initialized == 1
+
+        when:
+        group.initializeView()
+
+        then:
+        view.initialized == 1
+
+        cleanup:
+        group.destroy()
+    }
+
+    def 'Views whose initialization fails remain uninitialized'() {
+        given:
+        AbstractMVCGroup group = (AbstractMVCGroup) application.mvcGroupManager.createMVCGroup('lazy', 'lazy-failing')
+        List<Boolean> initializedWhileRunning = []
+        int attempts = 0
+        group.viewInitializer = {
+            attempts++
+            initializedWhileRunning << group.viewInitialized
+            if (attempts == 1) {
+                throw new IllegalStateException('boom')
+            }
+        } as Runnable
+
+        when:
+        group.initializeView()
+
+        then:
+        thrown(IllegalStateException)
+        !group.viewInitialized
+
+        when:
+        group.initializeView()
+
+        then:
+        attempts == 2
+        initializedWhileRunning == [false, false]
+        group.viewInitialized
+
+        cleanup:
+        group.destroy()
+    }
+
+    def 'Groups can be looked up by type and by parent'() {
+        given:
+        MVCGroup root = application.mvcGroupManager.createMVCGroup('root')
+
+        when:
+        root.createMVCGroup('child', 'child1')
+        root.createMVCGroup('child', 'child2')
+
+        then:
+        application.mvcGroupManager.findGroupsByType('child').keySet() as List == ['child1', 'child2']
+        application.mvcGroupManager.findGroupsByParent('root').keySet() as List == ['child1', 'child2']
+        application.mvcGroupManager.findGroupsByType('root').keySet() as List == ['root']
+
+        when:
+        root.destroy()
+
+        then:
+        !application.mvcGroupManager.findGroupsByType('child')
+        !application.mvcGroupManager.findGroupsByParent('root')
+        !application.mvcGroupManager.findGroupsByType('root')
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package integration;
+
+import griffon.core.mvc.RecyclableMVCMember;
+import org.codehaus.griffon.runtime.core.artifact.AbstractGriffonModel;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+public class PooledModel extends AbstractGriffonModel implements RecyclableMVCMember {
+    private String value;
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public void mvcGroupRecycle() {
+        value = null;
+    }
+
+    @Override
+    public void mvcGroupReuse(@Nonnull Map<String, Object> args) {
+        // empty
+    }
+}
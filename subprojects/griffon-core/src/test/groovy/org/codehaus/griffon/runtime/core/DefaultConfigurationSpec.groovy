@@ -16,6 +16,8 @@
 package org.codehaus.griffon.runtime.core
 
 import griffon.core.Configuration
+import griffon.core.editors.CalendarPropertyEditor
+import griffon.core.editors.PropertyEditorResolver
 import griffon.util.AbstractMapResourceBundle
 import spock.lang.Specification
 import spock.lang.Unroll
@@ -74,12 +76,48 @@ class DefaultConfigurationSpec extends Specification {
         props['application.title'] == configuration['application.title']
     }
 
+    def 'Missing and nested keys are resolved from the configuration snapshot'() {
+        given:
+        Configuration configuration = new ResourceBundleConfiguration(new AppResourceBundle())
+
+        expect:
+        configuration.get('mvcGroups.sample') == [
+            model     : 'sample.SampleModel',
+            view      : 'sample.SampleView',
+            controller: 'sample.SampleController'
+        ]
+        configuration.getAsBoolean('application.autoShutdown')
+        configuration.getAsString('application.autoShutdown') == 'true'
+        configuration.get('application.title.unknown') == null
+        configuration.get('unknown.key') == null
+        configuration.getAsInt('unknown.key', 42) == 42
+        configuration.getConverted('application.title', String).is(configuration.getConverted('application.title', String))
+    }
+
+    def 'Converted values of mutable types are not shared'() {
+        given:
+        PropertyEditorResolver.registerEditor(Calendar, CalendarPropertyEditor)
+        Configuration configuration = new ResourceBundleConfiguration(new AppResourceBundle())
+
+        when:
+        Calendar calendar = configuration.getConverted('application.released', Calendar)
+        calendar.add(Calendar.YEAR, 1)
+
+        then:
+        !configuration.getConverted('application.released', Calendar).is(calendar)
+        configuration.getConverted('application.released', Calendar).timeInMillis == 0L
+
+        cleanup:
+        PropertyEditorResolver.unregisterEditor(Calendar)
+    }
+
     class AppResourceBundle extends AbstractMapResourceBundle {
         @Override
         protected void initialize(@Nonnull Map<String, Object> entries) {
             entries['application'] = [
                 title        : 'Griffon',
                 autoShutdown : true,
+                released     : 0L,
                 startupGroups: ['sample']
             ]
             entries['mvcGroups'] = [
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core
+
+import griffon.core.ApplicationConfigurer
+import griffon.core.Configuration
+import griffon.core.GriffonApplication
+import griffon.core.ShutdownHandler
+import griffon.core.event.EventRouter
+import griffon.core.injection.Injector
+import griffon.core.mvc.MVCGroupManager
+import griffon.core.threading.UIThreadManager
+import griffon.inject.DependsOn
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import javax.inject.Named
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.TimeUnit
+
+class ShutdownSequenceSpec extends Specification {
+    def "Shutdown handlers are notified after their dependents"() {
+        given:
+        ShutdownHandler core = new CoreShutdownHandler()
+        ShutdownHandler foo = new FooShutdownHandler()
+        ShutdownHandler bar = new BarShutdownHandler()
+        ShutdownHandler baz = new BazShutdownHandler()
+        ShutdownSequence sequence = new ShutdownSequence(Mock(GriffonApplication), [core, foo, bar, baz], new Object())
+        sequence.shutdownHandlers.addAll([core, foo, bar, baz])
+
+        when:
+        List<List<ShutdownHandler>> waves = sequence.computeHandlerWaves()
+
+        then:
+        waves == [[bar, baz], [foo], [core]]
+    }
+
+    def "Cyclic dependencies between shutdown handlers are notified sequentially"() {
+        given:
+        ShutdownHandler left = new LeftShutdownHandler()
+        ShutdownHandler right = new RightShutdownHandler()
+        ShutdownSequence sequence = new ShutdownSequence(Mock(GriffonApplication), [left, right], new Object())
+        sequence.shutdownHandlers.addAll([left, right])
+
+        when:
+        List<List<ShutdownHandler>> waves = sequence.computeHandlerWaves()
+
+        then:
+        waves == [[left], [right]]
+    }
+
+    def "Parallel shutdown runs each wave concurrently and the waves in order"() {
+        given:
+        List<String> notified = [].asSynchronized()
+        CyclicBarrier barrier = new CyclicBarrier(2)
+        ShutdownHandler core = new CoreShutdownHandler(action: { notified << 'core' })
+        ShutdownHandler foo = new FooShutdownHandler(action: { notified << 'foo' })
+        // bar and baz share the first wave, each waits until the other one has started
+        ShutdownHandler bar = new BarShutdownHandler(action: {
+            barrier.await(10, TimeUnit.SECONDS)
+            notified << 'bar'
+        })
+        ShutdownHandler baz = new BazShutdownHandler(action: {
+            barrier.await(10, TimeUnit.SECONDS)
+            notified << 'baz'
+            throw new IllegalStateException('boom')
+        })
+        ShutdownSequence sequence = new ShutdownSequence(parallelApplication(), [core, foo, bar, baz], new Object())
+
+        when:
+        sequence.execute()
+
+        then:
+        !barrier.broken
+        notified.size() == 4
+        notified[0..1].toSet() == ['bar', 'baz'] as Set
+        notified[2..3] == ['foo', 'core']
+    }
+
+    private GriffonApplication parallelApplication() {
+        Configuration configuration = Stub(Configuration) {
+            getAsBoolean('griffon.shutdown.parallel', false) >> true
+            getAsLong(_, _) >> 0L
+        }
+        MVCGroupManager mvcGroupManager = Stub(MVCGroupManager) {
+            getGroups() >> [:]
+        }
+        Injector injector = Stub(Injector) {
+            getInstance(ApplicationConfigurer) >> Stub(ApplicationConfigurer)
+        }
+        Stub(GriffonApplication) {
+            getConfiguration() >> configuration
+            getUIThreadManager() >> Stub(UIThreadManager) { isUIThread() >> false }
+            getEventRouter() >> Stub(EventRouter) { isEventPublishingEnabled() >> false }
+            getMvcGroupManager() >> mvcGroupManager
+            getInjector() >> injector
+        }
+    }
+
+    static abstract class TestShutdownHandler implements ShutdownHandler {
+        Closure action = {}
+
+        @Override
+        boolean canShutdown(@Nonnull GriffonApplication application) {
+            true
+        }
+
+        @Override
+        void onShutdown(@Nonnull GriffonApplication application) {
+            action.call()
+        }
+    }
+
+    @Named('core')
+    static class CoreShutdownHandler extends TestShutdownHandler {}
+
+    @Named('foo')
+    @DependsOn('core')
+    static class FooShutdownHandler extends TestShutdownHandler {}
+
+    @Named('bar')
+    @DependsOn(['foo', 'core'])
+    static class BarShutdownHandler extends TestShutdownHandler {}
+
+    @Named('baz')
+    static class BazShutdownHandler extends TestShutdownHandler {}
+
+    @Named('left')
+    @DependsOn('right')
+    static class LeftShutdownHandler extends TestShutdownHandler {}
+
+    @Named('right')
+    @DependsOn('left')
+    static class RightShutdownHandler extends TestShutdownHandler {}
+}
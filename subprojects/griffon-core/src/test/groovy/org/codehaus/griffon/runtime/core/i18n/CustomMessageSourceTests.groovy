@@ -145,6 +145,43 @@ class CustomMessageSourceTests {
         assert '@[]' == messageSource.resolveMessageValue('not.a.reference.key3', Locale.default)
     }
 
+    @Test
+    void missingKeysAreResolvedOnlyOnce() {
+        CountingMessageSource source = new CountingMessageSource()
+
+        assert 'default' == source.getMessage('bogus', Locale.default, 'default')
+        assert 'default' == source.getMessage('bogus', Locale.default, 'default')
+        shouldFail(NoSuchMessageException) {
+            source.getMessage('bogus', Locale.default)
+        }
+        assert 'string' == source.getMessage('key.string', Locale.default)
+        assert 2 == source.lookups
+    }
+
+    @Test
+    void missingKeysAreForgottenWhenCachesAreCleared() {
+        CountingMessageSource source = new CountingMessageSource()
+        assert 'default' == source.getMessage('bogus', Locale.default, 'default')
+
+        AbstractMessageSource.clearCaches(new MessageSourceDecorator(source))
+        assert 'default' == source.getMessage('bogus', Locale.default, 'default')
+        assert 2 == source.lookups
+    }
+
+    @Test
+    void missingKeysAreBoundedPerLocale() {
+        CountingMessageSource source = new CountingMessageSource()
+        int keys = AbstractMessageSource.MISSING_KEYS_CACHE_SIZE + 10
+        (1..keys).each { int i ->
+            assert 'default' == source.getMessage("bogus$i", Locale.default, 'default')
+        }
+        (1..keys).each { int i ->
+            assert 'default' == source.getMessage("bogus$i", Locale.default, 'default')
+        }
+        assert source.lookups > keys
+        assert source.lookups < 2 * keys
+    }
+
     private String shouldFail(Class clazz, Closure code) {
         return GroovyAssert.shouldFail(clazz, code).getMessage()
     }
@@ -157,6 +194,18 @@ class CustomMessageSourceTests {
         }
     }
 
+    static class CountingMessageSource extends CustomMessageSource {
+        int lookups
+
+        @Nonnull
+        @Override
+        protected Object doResolveMessageValue(
+            @Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
+            lookups++
+            return super.doResolveMessageValue(key, locale)
+        }
+    }
+
     static class MapResourceBundle extends AbstractMapResourceBundle {
         @Override
         protected void initialize(@Nonnull Map<String, Object> entries) {
@@ -103,6 +103,12 @@ class DefaultMessageSourceTests {
         assert resourceBundle.getString('famous.quote.map')
     }
 
+    @Test
+    void resourceBundleIsReusedUntilBundlesChange() {
+        ResourceBundle resourceBundle = messageSource.asResourceBundle()
+        assert resourceBundle.is(messageSource.asResourceBundle())
+    }
+
     @Test(expected = MissingResourceException)
     void invalidKeysInResourceBundle() {
         ResourceBundle resourceBundle = messageSource.asResourceBundle()
@@ -167,6 +173,24 @@ class DefaultMessageSourceTests {
         assert 'key = {:value}' == messageSource.formatMessage('key = {:value}', [value: null])
     }
 
+    @Test
+    void exerciseFormatMessageWithCachedPatterns() {
+        assert 'key = one' == messageSource.formatMessage('key = {0}', ['one'] as Object[])
+        assert 'key = two' == messageSource.formatMessage('key = {0}', ['two'] as Object[])
+        assert 'no placeholders' == messageSource.formatMessage('no placeholders', ['value'] as Object[])
+        assert "it's quoted" == messageSource.formatMessage("it''s quoted", ['value'] as Object[])
+        assert "it's quoted" == messageSource.formatMessage("it''s quoted", ['value'] as Object[])
+        assert '{0} = value' == messageSource.formatMessage("'{0}' = {0}", ['value'] as Object[])
+    }
+
+    @Test
+    void exerciseFormatMessageBeyondCacheSize() {
+        (0..<AbstractMessageSource.MESSAGE_FORMAT_CACHE_SIZE * 2).each { int i ->
+            assert "key$i = $i" == messageSource.formatMessage("key$i = {0}", [i] as Object[])
+        }
+        assert 'key0 = zero' == messageSource.formatMessage('key0 = {0}', ['zero'] as Object[])
+    }
+
     @Test
     void resolveMessageValueWithReferencedKey() {
         assert "what's up doc?" == messageSource.resolveMessageValue('reference.key', Locale.default)
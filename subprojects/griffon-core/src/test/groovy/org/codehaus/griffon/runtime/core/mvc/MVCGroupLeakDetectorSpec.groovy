@@ -0,0 +1,94 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.mvc
+
+import griffon.core.mvc.MVCGroup
+import spock.lang.Specification
+
+import javax.annotation.Nullable
+import java.lang.ref.ReferenceQueue
+
+class MVCGroupLeakDetectorSpec extends Specification {
+    def "Report a destroyed group that is still reachable"() {
+        given:
+        Holder holder = new Holder()
+        TestLeakDetector detector = new TestLeakDetector(holder)
+        Object model = new Object()
+        holder.listeners << model
+
+        when:
+        detector.track(group([model: model]))
+        detector.collections++
+        List<String> leaks = detector.check()
+
+        then:
+        leaks.size() == 2
+        leaks.find { it.contains('MVC model') }.contains("Retained by ${Holder.name} via Holder.listeners[0]")
+        detector.size() == 0
+    }
+
+    def "Instances are not reported before enough garbage collections"() {
+        given:
+        TestLeakDetector detector = new TestLeakDetector(null)
+        detector.track(group([model: new Object()]))
+
+        when:
+        List<String> leaks = detector.check()
+
+        then:
+        leaks.isEmpty()
+        detector.size() == 2
+    }
+
+    def "Collected instances are not reported"() {
+        given:
+        TestLeakDetector detector = new TestLeakDetector(null)
+        detector.track(group([model: new Object()]))
+
+        when:
+        detector.trackedReferences*.enqueue()
+        detector.collections++
+
+        then:
+        detector.check().isEmpty()
+        detector.size() == 0
+    }
+
+    private MVCGroup group(Map<String, Object> members) {
+        Stub(MVCGroup) {
+            getMvcType() >> 'foo'
+            getMvcId() >> 'foo-1'
+            getMembers() >> members
+        }
+    }
+
+    static class Holder {
+        List<Object> listeners = []
+    }
+
+    static class TestLeakDetector extends MVCGroupLeakDetector {
+        long collections
+
+        TestLeakDetector(@Nullable Object root) {
+            super(root, 1, 60000L, new ReferenceQueue<Object>())
+        }
+
+        @Override
+        protected long collectionCount() {
+            collections
+        }
+    }
+}
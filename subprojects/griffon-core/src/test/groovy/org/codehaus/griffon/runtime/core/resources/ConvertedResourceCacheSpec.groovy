@@ -0,0 +1,105 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.resources
+
+import spock.lang.Specification
+
+import java.awt.Color
+import java.awt.Dimension
+import java.awt.Polygon
+import java.awt.image.BufferedImage
+
+class ConvertedResourceCacheSpec extends Specification {
+    def 'Converted values are reused while the source does not change'() {
+        given:
+        ConvertedResourceCache cache = new ConvertedResourceCache(1024 * 1024)
+        Object value = new Color(1, 2, 3)
+
+        when:
+        cache.put('key', Locale.ENGLISH, Color, null, 'source', value)
+
+        then:
+        cache.get('key', Locale.ENGLISH, Color, null, 'source').is(value)
+        !cache.get('key', Locale.ENGLISH, Color, null, 'other')
+        !cache.get('key', Locale.ENGLISH, Color, 'format', 'source')
+        !cache.get('key', Locale.ENGLISH, Object, null, 'source')
+    }
+
+    def 'Entries are kept per locale'() {
+        given:
+        ConvertedResourceCache cache = new ConvertedResourceCache(1024 * 1024)
+        cache.put('key', Locale.ENGLISH, Color, null, 'source', Color.RED)
+
+        when:
+        cache.put('key', Locale.GERMAN, Color, null, 'source', Color.BLUE)
+
+        then:
+        cache.size() == 2
+        cache.get('key', Locale.ENGLISH, Color, null, 'source') == Color.RED
+        cache.get('key', Locale.GERMAN, Color, null, 'source') == Color.BLUE
+        !cache.get('key', Locale.FRENCH, Color, null, 'source')
+    }
+
+    def 'Least recently used entries are evicted according to their estimated size'() {
+        given:
+        String value = 'x' * 1000
+        ConvertedResourceCache cache = new ConvertedResourceCache(2 * value.length() * 3)
+
+        when:
+        (1..3).each { int i ->
+            cache.put("text$i", Locale.ENGLISH, String, null, "text$i".toString(), new String(value))
+            Thread.sleep(1)
+        }
+        cache.get('text1', Locale.ENGLISH, String, null, 'text1')
+        cache.put('text4', Locale.ENGLISH, String, null, 'text4', new String(value))
+
+        then:
+        cache.size() < 4
+        cache.get('text1', Locale.ENGLISH, String, null, 'text1')
+        cache.get('text4', Locale.ENGLISH, String, null, 'text4')
+        !cache.get('text2', Locale.ENGLISH, String, null, 'text2')
+    }
+
+    def 'Values of types not known to be immutable are not cached'() {
+        given:
+        ConvertedResourceCache cache = new ConvertedResourceCache(1024 * 1024)
+
+        when:
+        cache.put('dimension', Locale.ENGLISH, Dimension, null, '10, 10', new Dimension(10, 10))
+        cache.put('list', Locale.ENGLISH, List, null, '1, 2', [1, 2])
+        cache.put('calendar', Locale.ENGLISH, Calendar, null, '0', new GregorianCalendar())
+        cache.put('polygon', Locale.ENGLISH, Polygon, null, '0', new Polygon())
+        cache.put('image', Locale.ENGLISH, BufferedImage, null, 'image', new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB))
+        cache.put('object', Locale.ENGLISH, Object, null, 'object', new Object())
+
+        then:
+        cache.size() == 0
+    }
+
+    def 'Clearing drops entries of every locale'() {
+        given:
+        ConvertedResourceCache cache = new ConvertedResourceCache(1024 * 1024)
+        cache.put('key', Locale.ENGLISH, Color, null, 'source', Color.RED)
+        cache.put('key', Locale.GERMAN, Color, null, 'source', Color.BLUE)
+
+        when:
+        cache.clear()
+
+        then:
+        cache.size() == 0
+        !cache.get('key', Locale.ENGLISH, Color, null, 'source')
+    }
+}
@@ -19,9 +19,12 @@ import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
 import griffon.core.ApplicationClassLoader
+import griffon.core.editors.DatePropertyEditor
 import griffon.core.editors.IntegerPropertyEditor
 import griffon.core.editors.PropertyEditorResolver
 import griffon.core.editors.StringPropertyEditor
+import griffon.core.resources.InjectedResource
+import griffon.core.resources.LocaleAwareResourceInjector
 import griffon.core.resources.ResourceHandler
 import griffon.core.resources.ResourceInjector
 import griffon.core.resources.ResourceResolver
@@ -35,6 +38,7 @@ import org.junit.Test
 
 import javax.inject.Inject
 import javax.inject.Singleton
+import java.text.SimpleDateFormat
 
 class DefaultResourceInjectorTests {
     @Rule
@@ -49,6 +53,7 @@ class DefaultResourceInjectorTests {
         PropertyEditorResolver.registerEditor(String, StringPropertyEditor)
         PropertyEditorResolver.registerEditor(Integer, IntegerPropertyEditor)
         PropertyEditorResolver.registerEditor(int.class, IntegerPropertyEditor)
+        PropertyEditorResolver.registerEditor(Date, DatePropertyEditor)
     }
 
     @AfterClass
@@ -74,6 +79,96 @@ class DefaultResourceInjectorTests {
         assert !bean.@notFound
     }
 
+    @Test
+    void injectionPlansAreComputedOncePerClass() {
+        ResourceResolver resourceResolver = new DefaultResourceResolver(bundleBuilder, 'org.codehaus.griffon.runtime.core.resources.injector')
+        DefaultResourceInjector resourcesInjector = new DefaultResourceInjector(resourceResolver)
+
+        assert resourcesInjector.getInjectionPlan(Object).isEmpty()
+        assert resourcesInjector.getInjectionPlan(Bean).is(resourcesInjector.getInjectionPlan(Bean))
+
+        [new Bean(), new Bean()].each { Bean bean ->
+            resourcesInjector.injectResources(bean)
+            assert bean.@privateField == 'privateField'
+            assert bean.@fieldBySetter == 'fieldBySetter'
+            assert bean.@privateIntField == 42
+            assert bean.@intFieldBySetter == 21
+        }
+
+        Bean subclass = new Bean() {}
+        resourcesInjector.injectResources(subclass)
+        assert subclass.@privateField == 'privateField'
+        assert subclass.@intFieldBySetter == 21
+    }
+
+    @Test
+    void injectStaticFields() {
+        ResourceResolver resourceResolver = new DefaultResourceResolver(bundleBuilder, 'org.codehaus.griffon.runtime.core.resources.injector')
+        ResourceInjector resourcesInjector = new DefaultResourceInjector(resourceResolver)
+        StaticBean.staticField = null
+        resourcesInjector.injectResources(new StaticBean())
+
+        assert StaticBean.staticField == 'STATIC'
+    }
+
+    @Test
+    void reinjectOnlyMembersThatChangeBetweenLocales() {
+        ResourceResolver resourceResolver = new DefaultResourceResolver(bundleBuilder, 'org.codehaus.griffon.runtime.core.resources.injector')
+        LocaleAwareResourceInjector resourcesInjector = new DefaultResourceInjector(resourceResolver)
+        Locale defaultLocale = Locale.default
+        Locale.default = Locale.ENGLISH
+        try {
+            Bean bean = new Bean()
+            resourcesInjector.injectResources(bean)
+            assert bean.@privateField == 'privateField'
+            assert bean.@privateIntField == 42
+
+            bean.@intFieldBySetter = 0
+            Locale.default = new Locale('es')
+            resourcesInjector.reinjectResources(Locale.ENGLISH, new Locale('es'))
+
+            assert bean.@privateField == 'campoPrivado'
+            assert bean.@privateIntField == 84
+            assert bean.@fieldBySetter == 'fieldBySetter'
+            assert bean.@intFieldBySetter == 0
+        } finally {
+            Locale.default = defaultLocale
+        }
+    }
+
+    @Test
+    void reinjectMutableValuesIntoEachInstance() {
+        ResourceResolver resourceResolver = new DefaultResourceResolver(bundleBuilder, 'org.codehaus.griffon.runtime.core.resources.injector')
+        LocaleAwareResourceInjector resourcesInjector = new DefaultResourceInjector(resourceResolver)
+        Locale defaultLocale = Locale.default
+        Locale.default = Locale.ENGLISH
+        try {
+            DateBean first = new DateBean()
+            DateBean second = new DateBean()
+            resourcesInjector.injectResources(first)
+            resourcesInjector.injectResources(second)
+
+            Locale.default = new Locale('es')
+            resourcesInjector.reinjectResources(Locale.ENGLISH, new Locale('es'))
+
+            assert first.@date == new SimpleDateFormat('yyyy-MM-dd').parse('2016-02-01')
+            assert first.@date == second.@date
+            assert !first.@date.is(second.@date)
+        } finally {
+            Locale.default = defaultLocale
+        }
+    }
+
+    static final class DateBean {
+        @InjectedResource(key = 'sample.key.date', format = 'yyyy-MM-dd')
+        private Date date
+    }
+
+    static final class StaticBean {
+        @InjectedResource(key = 'sample.key.static', defaultValue = 'STATIC')
+        private static String staticField
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
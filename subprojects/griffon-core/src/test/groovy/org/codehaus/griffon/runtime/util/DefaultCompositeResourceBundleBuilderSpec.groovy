@@ -69,6 +69,31 @@ class DefaultCompositeResourceBundleBuilderSpec extends Specification {
             'org.codehaus.griffon.runtime.util.BrokenBundle']
     }
 
+    def 'Files shared by several locales are loaded only once'() {
+        given:
+        List<String> fileNames = [].asSynchronized()
+        CompositeResourceBundleBuilder builder = new DefaultCompositeResourceBundleBuilder(resourceHandler) {
+            @Override
+            protected Collection<ResourceBundle> loadBundlesFor(String fileName) {
+                fileNames << fileName
+                return super.loadBundlesFor(fileName)
+            }
+        }
+
+        when:
+        ResourceBundle english = builder.create('org.codehaus.griffon.runtime.util.NotFoundBundle', Locale.UK)
+        ResourceBundle american = builder.create('org.codehaus.griffon.runtime.util.NotFoundBundle', Locale.US)
+
+        then:
+        english.keySet() == american.keySet()
+        fileNames.sort() == [
+            'org/codehaus/griffon/runtime/util/NotFoundBundle',
+            'org/codehaus/griffon/runtime/util/NotFoundBundle_en',
+            'org/codehaus/griffon/runtime/util/NotFoundBundle_en_GB',
+            'org/codehaus/griffon/runtime/util/NotFoundBundle_en_US'
+        ]
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
@@ -46,6 +46,7 @@ class ConfigReader {
     private Stack<String> currentConditionalBlock = new Stack<String>()
     private final Map<String, String> conditionValues = [:]
     private final Stack<Map<String, ConfigObject>> conditionalBlocks = new Stack<Map<String, ConfigObject>>()
+    private final Set<String> conditionalBlocksInUse = Collections.synchronizedSet(new LinkedHashSet<String>())
 
     static class Provider implements javax.inject.Provider<ConfigReader> {
         @Inject private ApplicationClassLoader applicationClassLoader
@@ -86,6 +87,17 @@ class ConfigReader {
         Collections.unmodifiableMap(conditionValues)
     }
 
+    /**
+     * Returns the names of the registered conditional blocks found in the scripts parsed so far.
+     *
+     * @since 2.8.0
+     */
+    Set<String> getUsedConditionalBlocks() {
+        synchronized (conditionalBlocksInUse) {
+            Collections.unmodifiableSet(new LinkedHashSet<String>(conditionalBlocksInUse))
+        }
+    }
+
     String getEnvironment() {
         return conditionValues[ENVIRONMENTS_METHOD]
     }
@@ -237,6 +249,7 @@ class ConfigReader {
             def result
             if (args.length == 1 && args[0] instanceof Closure) {
                 if (name in conditionValues.keySet()) {
+                    conditionalBlocksInUse << name
                     try {
                         currentConditionalBlock.push(name)
                         conditionalBlocks.push([:])
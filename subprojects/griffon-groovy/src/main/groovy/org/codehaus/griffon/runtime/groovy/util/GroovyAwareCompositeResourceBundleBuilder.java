@@ -51,7 +51,10 @@ public class GroovyAwareCompositeResourceBundleBuilder extends DefaultCompositeR
         List<ResourceBundle> bundles = new ArrayList<>();
         URL resource = getResourceAsURL(fileName, GROOVY_SUFFIX);
         if (null != resource) {
-            bundles.add(new GroovyScriptResourceBundle(configReader, resource));
+            // bundles may be loaded in parallel, ConfigReader is not thread safe
+            synchronized (configReader) {
+                bundles.add(new GroovyScriptResourceBundle(configReader, resource));
+            }
             return bundles;
         }
 
@@ -61,7 +64,9 @@ public class GroovyAwareCompositeResourceBundleBuilder extends DefaultCompositeR
             try {
                 Class<?> klass = loadClass(className);
                 if (Script.class.isAssignableFrom(klass)) {
-                    bundles.add(new GroovyScriptResourceBundle(configReader, (Class<? extends Script>) klass));
+                    synchronized (configReader) {
+                        bundles.add(new GroovyScriptResourceBundle(configReader, (Class<? extends Script>) klass));
+                    }
                     return bundles;
                 }
             } catch (ClassNotFoundException e) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.groovy.util;
+
+import griffon.core.env.GriffonEnvironment;
+import griffon.core.env.Metadata;
+import griffon.core.resources.ResourceHandler;
+import griffon.util.ConfigReader;
+import griffon.util.GriffonApplicationUtils;
+import org.codehaus.griffon.runtime.core.DefaultApplicationClassLoader;
+import org.codehaus.griffon.runtime.util.AbstractCompositeResourceBundleBuilder;
+import org.codehaus.griffon.runtime.util.ResourceBundlePrecompiler;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.UUID;
+
+import static griffon.util.CollectionUtils.map;
+
+/**
+ * Precompiles resource bundles that may be defined as Groovy scripts.
+ * Scripts are evaluated with the same bindings and conditional blocks as {@code ConfigReader.Provider}.
+ * Scripts that contain a {@code platforms} block or use the {@code userHome} binding are left to be
+ * evaluated at runtime.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class GroovyAwareResourceBundlePrecompiler extends ResourceBundlePrecompiler {
+    private static final String PLATFORMS = "platforms";
+    private static final String USER_HOME = "griffon-precompiler-" + UUID.randomUUID() + "-user-home";
+
+    private ConfigReader configReader;
+
+    public static void main(String[] args) throws IOException {
+        new GroovyAwareResourceBundlePrecompiler().execute(args);
+    }
+
+    @Nonnull
+    @Override
+    protected AbstractCompositeResourceBundleBuilder createBuilder(@Nonnull ResourceHandler resourceHandler, @Nonnull String environment) {
+        Metadata metadata = new Metadata(Metadata.FILENAME);
+        configReader = new ConfigReader(new DefaultApplicationClassLoader());
+        // a placeholder that is only found in the evaluated bundles if the user's home directory is used
+        configReader.setBinding(map()
+            .e("userHome", USER_HOME)
+            .e("appName", metadata.getApplicationName())
+            .e("appVersion", metadata.getApplicationVersion())
+            .e("griffonVersion", GriffonEnvironment.getGriffonVersion()));
+        configReader.registerConditionalBlock("environments", environment);
+        configReader.registerConditionalBlock("projects", metadata.getApplicationName());
+        configReader.registerConditionalBlock(PLATFORMS, GriffonApplicationUtils.getPlatform());
+        return new GroovyAwareCompositeResourceBundleBuilder(resourceHandler, configReader);
+    }
+
+    @Override
+    protected boolean isPrecompilable(@Nonnull String basename, @Nonnull Collection<ResourceBundle> bundles) {
+        if (configReader != null && configReader.getUsedConditionalBlocks().contains(PLATFORMS)) {
+            return false;
+        }
+        for (ResourceBundle bundle : bundles) {
+            for (String key : bundle.keySet()) {
+                if (usesUserHome(bundle.getObject(key))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean usesUserHome(@Nullable Object value) {
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (usesUserHome(entry.getKey()) || usesUserHome(entry.getValue())) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                if (usesUserHome(element)) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (value instanceof Object[]) {
+            return usesUserHome(Arrays.asList((Object[]) value));
+        }
+        return value != null && String.valueOf(value).contains(USER_HOME);
+    }
+}
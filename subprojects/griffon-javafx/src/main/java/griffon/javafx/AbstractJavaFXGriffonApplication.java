@@ -38,9 +38,11 @@ import griffon.core.resources.ResourceInjector;
 import griffon.core.resources.ResourceResolver;
 import griffon.core.threading.UIThreadManager;
 import griffon.core.view.WindowManager;
+import griffon.javafx.support.JavaFXUtils;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import org.codehaus.griffon.runtime.core.MVCGroupExceptionHandler;
+import org.codehaus.griffon.runtime.core.ShutdownSequence;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,7 +56,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
 
 import static griffon.util.AnnotationUtils.named;
 import static griffon.util.GriffonApplicationUtils.parseLocale;
@@ -277,6 +278,7 @@ public abstract class AbstractJavaFXGriffonApplication extends Application imple
     public void setInjector(@Nonnull Injector<?> injector) {
         this.injector = requireNonNull(injector, "Argument 'injector' cannot be null");
         this.injector.injectMembers(this);
+        JavaFXUtils.setImageService(injector.getInstance(JavaFXImageService.class));
         addShutdownHandler(getWindowManager());
         MVCGroupExceptionHandler.registerWith(this);
     }
@@ -357,43 +359,10 @@ public abstract class AbstractJavaFXGriffonApplication extends Application imple
         // signal that shutdown is in process
         setPhase(ApplicationPhase.SHUTDOWN);
 
-        // stage 1 - alert all app event handlers
-        // wait for all handlers to complete before proceeding
-        // with stage #2 if and only if the current thread is
-        // the ui thread
-        log.debug("Shutdown stage 1: notify all event listeners");
-        if (getEventRouter().isEventPublishingEnabled()) {
-            final CountDownLatch latch = new CountDownLatch(getUIThreadManager().isUIThread() ? 1 : 0);
-            getEventRouter().addEventListener(ApplicationEvent.SHUTDOWN_START.getName(), (Object... args) -> latch.countDown());
-            event(ApplicationEvent.SHUTDOWN_START, asList(this));
-            try {
-                latch.await();
-            } catch (InterruptedException e) {
-                // ignore
-            }
-        }
-
-        // stage 2 - alert all shutdown handlers
-        log.debug("Shutdown stage 2: notify all shutdown handlers");
-        synchronized (shutdownLock) {
-            for (ShutdownHandler handler : shutdownHandlers) {
-                handler.onShutdown(this);
-            }
-        }
-
-        // stage 3 - destroy all mvc groups
-        log.debug("Shutdown stage 3: destroy all MVC groups");
-        List<String> mvcIds = new ArrayList<>();
-        mvcIds.addAll(getMvcGroupManager().getGroups().keySet());
-        for (String id : mvcIds) {
-            getMvcGroupManager().destroyMVCGroup(id);
-        }
-
-        // stage 4 - call shutdown script
-        log.debug("Shutdown stage 4: execute Shutdown script");
-        getApplicationConfigurer().runLifecycleHandler(Lifecycle.SHUTDOWN);
+        new ShutdownSequence(this, shutdownHandlers, shutdownLock).execute();
 
         injector.getInstance(ExecutorServiceManager.class).shutdownAll();
+        JavaFXUtils.setImageService(null);
         injector.close();
 
         return true;
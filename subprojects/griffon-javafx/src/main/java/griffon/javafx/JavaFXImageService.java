@@ -0,0 +1,54 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.javafx;
+
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Loads images from the application's classpath in the background. Requests for the same
+ * resource share a single {@code Image} instance, which are kept in a size bounded cache.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public interface JavaFXImageService {
+    /**
+     * Returns an image for the given resource. The image is decoded in the background, views
+     * displaying it are updated inside the UI thread once decoding completes.
+     *
+     * @param resource the path of the image resource, such as {@code com/acme/icons/save.png}
+     * @return an image for the resource.
+     */
+    @Nonnull
+    Image getImage(@Nonnull String resource);
+
+    /**
+     * Returns a new node that displays the image of the given resource.
+     *
+     * @param resource the path of the image resource, such as {@code com/acme/icons/save.png}
+     * @return a node displaying the image.
+     */
+    @Nonnull
+    Node getIcon(@Nonnull String resource);
+
+    /**
+     * Discards all cached images.
+     */
+    void clear();
+}
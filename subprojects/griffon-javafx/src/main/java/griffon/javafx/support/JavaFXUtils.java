@@ -20,6 +20,7 @@ import griffon.core.controller.Action;
 import griffon.core.controller.ActionManager;
 import griffon.core.editors.ValueConversionException;
 import griffon.exceptions.InstanceMethodInvocationException;
+import griffon.javafx.JavaFXImageService;
 import javafx.application.Platform;
 import javafx.beans.property.Property;
 import javafx.collections.ListChangeListener;
@@ -87,10 +88,24 @@ public final class JavaFXUtils {
     private static final String ACTION_TARGET_SUFFIX = "ActionTarget";
     private static final String PROPERTY_SUFFIX = "Property";
 
+    private static volatile JavaFXImageService imageService;
+
     private JavaFXUtils() {
 
     }
 
+    /**
+     * Sets the service used by {@code resolveIcon} and {@code setIcon} to load icons. Icons are
+     * loaded without caching if no service has been set.
+     *
+     * @param service the application's image service, {@code null} to stop using it.
+     *
+     * @since 2.8.0
+     */
+    public static void setImageService(@Nullable JavaFXImageService service) {
+        imageService = service;
+    }
+
     /**
      * Associates a {@code Action} with a target {@code Node}.
      *
@@ -514,7 +529,8 @@ public final class JavaFXUtils {
         } else {
             URL resource = Thread.currentThread().getContextClassLoader().getResource(iconUrl);
             if (resource != null) {
-                return new ImageView(new Image(resource.toString()));
+                JavaFXImageService service = imageService;
+                return service != null ? service.getIcon(iconUrl) : new ImageView(new Image(resource.toString()));
             }
         }
         return null;
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.javafx;
+
+import griffon.core.ApplicationClassLoader;
+import griffon.core.Configuration;
+import griffon.javafx.JavaFXImageService;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class DefaultJavaFXImageService implements JavaFXImageService {
+    private static final String ERROR_RESOURCE_BLANK = "Argument 'resource' must not be blank";
+    private static final String KEY_CACHE_SIZE = "griffon.images.cache.size";
+
+    private final ApplicationClassLoader applicationClassLoader;
+    private final Map<String, Image> images;
+
+    @Inject
+    public DefaultJavaFXImageService(@Nonnull ApplicationClassLoader applicationClassLoader, @Nonnull Configuration configuration) {
+        this.applicationClassLoader = requireNonNull(applicationClassLoader, "Argument 'applicationClassLoader' must not be null");
+        int cacheSize = requireNonNull(configuration, "Argument 'configuration' must not be null").getAsInt(KEY_CACHE_SIZE, 256);
+        this.images = new LinkedHashMap<String, Image>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Nonnull
+    @Override
+    public Image getImage(@Nonnull String resource) {
+        requireNonBlank(resource, ERROR_RESOURCE_BLANK);
+        synchronized (images) {
+            Image image = images.get(resource);
+            // failed loads may be retried
+            if (image == null || image.isError()) {
+                image = createImage(resource);
+                images.put(resource, image);
+            }
+            return image;
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Node getIcon(@Nonnull String resource) {
+        return new ImageView(getImage(resource));
+    }
+
+    @Override
+    public void clear() {
+        synchronized (images) {
+            images.clear();
+        }
+    }
+
+    @Nonnull
+    protected Image createImage(@Nonnull String resource) {
+        URL url = applicationClassLoader.get().getResource(resource);
+        if (url == null) {
+            throw new IllegalArgumentException("Resource " + resource + " was not found");
+        }
+        // decoding happens in the background, ImageViews are updated once it completes
+        return new Image(url.toExternalForm(), true);
+    }
+}
@@ -19,6 +19,7 @@ import griffon.core.controller.ActionManager;
 import griffon.core.injection.Module;
 import griffon.core.threading.UIThreadManager;
 import griffon.core.view.WindowManager;
+import griffon.javafx.JavaFXImageService;
 import griffon.javafx.JavaFXWindowDisplayHandler;
 import org.codehaus.griffon.runtime.core.injection.AbstractModule;
 import org.codehaus.griffon.runtime.javafx.controller.JavaFXActionManager;
@@ -59,6 +60,10 @@ public class JavaFXModule extends AbstractModule {
         bind(ActionManager.class)
             .to(JavaFXActionManager.class)
             .asSingleton();
+
+        bind(JavaFXImageService.class)
+            .to(DefaultJavaFXImageService.class)
+            .asSingleton();
         // end::bindings[]
     }
 }
@@ -15,6 +15,8 @@
  */
 package griffon.javafx.support
 
+import griffon.core.ApplicationClassLoader
+import griffon.core.Configuration
 import javafx.application.Platform
 import javafx.collections.FXCollections
 import javafx.collections.ListChangeListener
@@ -33,8 +35,10 @@ import javafx.scene.control.Tab
 import javafx.scene.control.TabPane
 import javafx.scene.control.TitledPane
 import javafx.scene.control.ToolBar
+import javafx.scene.image.ImageView
 import javafx.scene.layout.BorderPane
 import javafx.scene.layout.Pane
+import org.codehaus.griffon.runtime.javafx.DefaultJavaFXImageService
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -157,6 +161,29 @@ class JavaFXUtilsSpec extends Specification {
         ]
     }
 
+    void "Icons are resolved through the image service and share their image"() {
+        given:
+        ApplicationClassLoader applicationClassLoader = Stub(ApplicationClassLoader) {
+            get() >> JavaFXUtilsSpec.classLoader
+        }
+        Configuration configuration = Stub(Configuration) {
+            getAsInt('griffon.images.cache.size', 256) >> 256
+        }
+        JavaFXUtils.setImageService(new DefaultJavaFXImageService(applicationClassLoader, configuration))
+
+        when:
+        ImageView first = (ImageView) JavaFXUtils.resolveIcon('griffon-icon-16x16.png')
+        ImageView second = (ImageView) JavaFXUtils.resolveIcon('griffon-icon-16x16.png')
+
+        then:
+        !first.is(second)
+        first.image.is(second.image)
+        JavaFXUtils.resolveIcon('missing-icon.png') == null
+
+        cleanup:
+        JavaFXUtils.setImageService(null)
+    }
+
     private BorderPane createBorderPane() {
         runInsideUISync {
             BorderPane pane = new BorderPane()
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.swing;
+
+import javax.annotation.Nonnull;
+import javax.swing.Icon;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.Future;
+
+/**
+ * Loads images from the application's classpath outside of the UI thread. Concurrent requests
+ * for the same resource share a single decoding task, and decoded images are kept in a size
+ * bounded cache.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public interface SwingImageService {
+    /**
+     * Decodes an image in the background.
+     *
+     * @param resource the path of the image resource, such as {@code com/acme/icons/save.png}
+     * @return a future that completes when the image has been decoded. Cancelling it does not
+     * affect other requests for the same resource.
+     */
+    @Nonnull
+    Future<BufferedImage> loadImage(@Nonnull String resource);
+
+    /**
+     * Returns an icon for the given resource without waiting for it to be decoded. The icon
+     * is empty until decoding completes; components that painted it are revalidated and
+     * repainted inside the UI thread once the image becomes available.
+     *
+     * @param resource the path of the image resource, such as {@code com/acme/icons/save.png}
+     * @return an icon for the resource.
+     */
+    @Nonnull
+    Icon getIcon(@Nonnull String resource);
+
+    /**
+     * Discards all cached images.
+     */
+    void clear();
+}
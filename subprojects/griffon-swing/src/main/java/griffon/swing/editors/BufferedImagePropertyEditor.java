@@ -76,7 +76,7 @@ public class BufferedImagePropertyEditor extends AbstractPropertyEditor {
 
     protected void handleAsURL(URL url) {
         try {
-            super.setValueInternal(ImageIO.read(url));
+            super.setValueInternal(DecodedImages.read(url));
         } catch (IOException e) {
             throw illegalValue(url, BufferedImage.class, e);
         }
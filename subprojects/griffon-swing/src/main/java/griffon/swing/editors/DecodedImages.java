@@ -0,0 +1,110 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.swing.editors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps images decoded from classpath and file URLs so that converting the same resource again
+ * does not read and decode it a second time. Decoded images are mutable, every caller receives
+ * its own copy. Once the size of all decoded images exceeds the budget the least recently used
+ * ones are dropped. The budget (in bytes) may be set with the {@code griffon.images.decoded.cache.size}
+ * System property. A value of 0 disables caching.
+ *
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+final class DecodedImages {
+    private static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+    private static final long MAX_SIZE = Long.getLong("griffon.images.decoded.cache.size", DEFAULT_MAX_SIZE);
+
+    private static final Map<String, BufferedImage> IMAGES = new LinkedHashMap<>(16, 0.75f, true);
+    private static final Object LOCK = new Object[0];
+    private static long size;
+
+    private DecodedImages() {
+        // prevent instantiation
+    }
+
+    /**
+     * Reads the image located at the given URL.
+     *
+     * @param url the location of the image, may be {@code null} if the resource could not be found
+     * @return a copy of the decoded image or {@code null} if no reader supports the image's format.
+     * @throws IOException if the image can not be read
+     */
+    @Nullable
+    static BufferedImage read(@Nullable URL url) throws IOException {
+        // missing resources are reported by ImageIO, as before
+        if (url == null || MAX_SIZE <= 0 || !isLocal(url)) {
+            return ImageIO.read(url);
+        }
+
+        String key = url.toExternalForm();
+        BufferedImage image;
+        synchronized (LOCK) {
+            image = IMAGES.get(key);
+        }
+        if (image == null) {
+            image = ImageIO.read(url);
+            if (image == null) {
+                return null;
+            }
+            put(key, image);
+        }
+        return copy(image);
+    }
+
+    private static boolean isLocal(@Nonnull URL url) {
+        // remote resources may change between reads
+        String protocol = url.getProtocol();
+        return "file".equals(protocol) || "jar".equals(protocol);
+    }
+
+    private static void put(@Nonnull String key, @Nonnull BufferedImage image) {
+        long imageSize = sizeOf(image);
+        if (imageSize > MAX_SIZE) {
+            return;
+        }
+
+        synchronized (LOCK) {
+            BufferedImage previous = IMAGES.put(key, image);
+            size += imageSize - (previous != null ? sizeOf(previous) : 0);
+            for (Iterator<BufferedImage> it = IMAGES.values().iterator(); size > MAX_SIZE && it.hasNext(); ) {
+                size -= sizeOf(it.next());
+                it.remove();
+            }
+        }
+    }
+
+    private static long sizeOf(@Nonnull BufferedImage image) {
+        int bytesPerPixel = Math.max(1, image.getColorModel().getPixelSize() / 8);
+        return (long) image.getWidth() * image.getHeight() * bytesPerPixel;
+    }
+
+    @Nonnull
+    private static BufferedImage copy(@Nonnull BufferedImage image) {
+        return new BufferedImage(image.getColorModel(), image.copyData(null), image.isAlphaPremultiplied(), null);
+    }
+}
@@ -117,7 +117,7 @@ public class IconPropertyEditor extends AbstractPropertyEditor {
 
     protected void handleAsURL(URL url) {
         try {
-            handleAsImage(ImageIO.read(url));
+            handleAsImage(DecodedImages.read(url));
         } catch (IOException e) {
             throw illegalValue(url, Icon.class, e);
         }
@@ -79,7 +79,7 @@ public class ImagePropertyEditor extends AbstractPropertyEditor {
 
     protected void handleAsURL(URL url) {
         try {
-            super.setValueInternal(ImageIO.read(url));
+            super.setValueInternal(DecodedImages.read(url));
         } catch (IOException e) {
             throw illegalValue(url, Image.class, e);
         }
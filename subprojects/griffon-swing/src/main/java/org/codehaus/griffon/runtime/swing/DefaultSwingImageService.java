@@ -0,0 +1,328 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.swing;
+
+import griffon.core.ApplicationClassLoader;
+import griffon.core.Configuration;
+import griffon.core.ExecutorServiceManager;
+import griffon.core.threading.UIThreadManager;
+import griffon.swing.SwingImageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.imageio.ImageIO;
+import javax.inject.Inject;
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static griffon.core.GriffonExceptionHandler.sanitize;
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @author Andres Almiray
+ * @since 2.8.0
+ */
+public class DefaultSwingImageService implements SwingImageService {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultSwingImageService.class);
+    private static final String ERROR_RESOURCE_BLANK = "Argument 'resource' must not be blank";
+    private static final String KEY_CACHE_SIZE = "griffon.images.cache.size";
+    private static final String KEY_LOADER_THREADS = "griffon.images.loader.threads";
+    private static final AtomicInteger IMAGE_SERVICE_ID = new AtomicInteger(1);
+
+    private final ApplicationClassLoader applicationClassLoader;
+    private final UIThreadManager uiThreadManager;
+    private final ExecutorService executorService;
+    private final Map<String, ImageTask> images;
+    private ExecutorServiceManager executorServiceManager;
+
+    @Inject
+    public DefaultSwingImageService(@Nonnull ApplicationClassLoader applicationClassLoader,
+                                    @Nonnull UIThreadManager uiThreadManager,
+                                    @Nonnull Configuration configuration) {
+        this(applicationClassLoader, uiThreadManager, configuration, createExecutorService(configuration));
+    }
+
+    protected DefaultSwingImageService(@Nonnull ApplicationClassLoader applicationClassLoader,
+                                       @Nonnull UIThreadManager uiThreadManager,
+                                       @Nonnull Configuration configuration,
+                                       @Nonnull ExecutorService executorService) {
+        this.applicationClassLoader = requireNonNull(applicationClassLoader, "Argument 'applicationClassLoader' must not be null");
+        this.uiThreadManager = requireNonNull(uiThreadManager, "Argument 'uiThreadManager' must not be null");
+        this.executorService = requireNonNull(executorService, "Argument 'executorService' must not be null");
+        final int cacheSize = requireNonNull(configuration, "Argument 'configuration' must not be null").getAsInt(KEY_CACHE_SIZE, 256);
+        this.images = new LinkedHashMap<String, ImageTask>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ImageTask> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Inject
+    public void setExecutorServiceManager(@Nonnull ExecutorServiceManager executorServiceManager) {
+        requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
+        if (this.executorServiceManager != null) {
+            this.executorServiceManager.remove(executorService);
+        }
+        this.executorServiceManager = executorServiceManager;
+        this.executorServiceManager.add(executorService);
+    }
+
+    @Nonnull
+    @Override
+    public Future<BufferedImage> loadImage(@Nonnull String resource) {
+        final ImageTask task = loadImageTask(resource);
+        // every caller gets its own future, cancelling it must not affect the shared task
+        FutureTask<BufferedImage> future = new FutureTask<>(new Callable<BufferedImage>() {
+            @Override
+            public BufferedImage call() throws Exception {
+                try {
+                    return task.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof Error) throw (Error) cause;
+                    throw (Exception) cause;
+                }
+            }
+        });
+        task.whenDone(future);
+        return future;
+    }
+
+    @Nonnull
+    @Override
+    public Icon getIcon(@Nonnull String resource) {
+        final ImageTask task = loadImageTask(resource);
+        if (task.isDone()) {
+            BufferedImage image = task.getImageNow();
+            if (image != null) {
+                return new ImageIcon(image);
+            }
+        }
+
+        final AsyncIcon icon = new AsyncIcon();
+        task.whenDone(new Runnable() {
+            @Override
+            public void run() {
+                final BufferedImage image = task.getImageNow();
+                if (image != null) {
+                    uiThreadManager.runInsideUIAsync(new Runnable() {
+                        @Override
+                        public void run() {
+                            icon.setImage(image);
+                        }
+                    });
+                }
+            }
+        });
+        return icon;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (images) {
+            images.clear();
+        }
+    }
+
+    @Nonnull
+    protected BufferedImage readImage(@Nonnull String resource) throws IOException {
+        URL url = applicationClassLoader.get().getResource(resource);
+        if (url == null) {
+            throw new IOException("Resource " + resource + " was not found");
+        }
+        BufferedImage image = ImageIO.read(url);
+        if (image == null) {
+            throw new IOException("Resource " + resource + " is not a supported image");
+        }
+        return image;
+    }
+
+    @Nonnull
+    private ImageTask loadImageTask(@Nonnull String resource) {
+        requireNonBlank(resource, ERROR_RESOURCE_BLANK);
+        ImageTask task;
+        synchronized (images) {
+            task = images.get(resource);
+            if (task != null) {
+                return task;
+            }
+            task = new ImageTask(resource);
+            images.put(resource, task);
+        }
+        try {
+            executorService.execute(task);
+        } catch (RejectedExecutionException e) {
+            // the executor has been shut down, the task fails and is evicted
+            task.setException(e);
+        }
+        return task;
+    }
+
+    @Nonnull
+    private static ExecutorService createExecutorService(@Nonnull Configuration configuration) {
+        requireNonNull(configuration, "Argument 'configuration' must not be null");
+        int threads = Math.max(1, configuration.getAsInt(KEY_LOADER_THREADS, Math.min(4, Runtime.getRuntime().availableProcessors())));
+        final int serviceId = IMAGE_SERVICE_ID.getAndIncrement();
+        // decoding is kept off the shared executor, a burst of icons must not starve other tasks
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+            30L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(),
+            new ThreadFactory() {
+                private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "griffon-image-loader-" + serviceId + "-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private final class ImageTask extends FutureTask<BufferedImage> {
+        private final String resource;
+        private final List<Runnable> callbacks = new ArrayList<>();
+
+        private ImageTask(@Nonnull final String resource) {
+            super(new Callable<BufferedImage>() {
+                @Override
+                public BufferedImage call() throws Exception {
+                    return readImage(resource);
+                }
+            });
+            this.resource = resource;
+        }
+
+        private BufferedImage getImageNow() {
+            try {
+                return get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException | CancellationException e) {
+                return null;
+            }
+        }
+
+        private void whenDone(@Nonnull Runnable callback) {
+            synchronized (callbacks) {
+                if (!isDone()) {
+                    callbacks.add(callback);
+                    return;
+                }
+            }
+            callback.run();
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            LOG.warn("Could not load image {}", resource, sanitize(t));
+            evict();
+            super.setException(t);
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                evict();
+            }
+            List<Runnable> pending;
+            synchronized (callbacks) {
+                pending = new ArrayList<>(callbacks);
+                callbacks.clear();
+            }
+            for (Runnable callback : pending) {
+                callback.run();
+            }
+        }
+
+        private void evict() {
+            // failed or cancelled loads may be retried
+            synchronized (images) {
+                if (images.get(resource) == this) {
+                    images.remove(resource);
+                }
+            }
+        }
+    }
+
+    private static final class AsyncIcon implements Icon {
+        private final Set<Component> components = Collections.newSetFromMap(new WeakHashMap<Component, Boolean>());
+        private Icon delegate;
+
+        private void setImage(@Nonnull BufferedImage image) {
+            delegate = new ImageIcon(image);
+            for (Component component : new ArrayList<>(components)) {
+                if (component instanceof JComponent) {
+                    ((JComponent) component).revalidate();
+                }
+                component.repaint();
+            }
+            components.clear();
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            if (delegate != null) {
+                delegate.paintIcon(c, g, x, y);
+            } else if (c != null) {
+                components.add(c);
+            }
+        }
+
+        @Override
+        public int getIconWidth() {
+            return delegate != null ? delegate.getIconWidth() : 0;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return delegate != null ? delegate.getIconHeight() : 0;
+        }
+    }
+}
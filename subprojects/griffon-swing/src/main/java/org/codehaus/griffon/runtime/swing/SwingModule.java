@@ -20,6 +20,7 @@ import griffon.core.controller.ActionManager;
 import griffon.core.injection.Module;
 import griffon.core.threading.UIThreadManager;
 import griffon.core.view.WindowManager;
+import griffon.swing.SwingImageService;
 import griffon.swing.SwingWindowDisplayHandler;
 import org.codehaus.griffon.runtime.core.injection.AbstractModule;
 import org.codehaus.griffon.runtime.swing.controller.SwingActionManager;
@@ -61,6 +62,10 @@ public class SwingModule extends AbstractModule {
             .to(SwingActionManager.class)
             .asSingleton();
 
+        bind(SwingImageService.class)
+            .to(DefaultSwingImageService.class)
+            .asSingleton();
+
         bind(GriffonAddon.class)
             .to(SwingAddon.class)
             .asSingleton();
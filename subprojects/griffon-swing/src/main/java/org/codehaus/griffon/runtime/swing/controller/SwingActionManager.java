@@ -18,6 +18,7 @@ package org.codehaus.griffon.runtime.swing.controller;
 import griffon.core.GriffonApplication;
 import griffon.core.artifact.GriffonController;
 import griffon.core.controller.Action;
+import griffon.swing.SwingImageService;
 import org.codehaus.griffon.runtime.core.controller.AbstractActionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +29,7 @@ import javax.inject.Inject;
 import static griffon.util.GriffonApplicationUtils.isMacOSX;
 import static griffon.util.GriffonNameUtils.isBlank;
 import static griffon.util.TypeUtils.castToBoolean;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
@@ -36,11 +38,24 @@ import static griffon.util.TypeUtils.castToBoolean;
 public class SwingActionManager extends AbstractActionManager {
     private static final Logger LOG = LoggerFactory.getLogger(SwingActionManager.class);
 
+    private SwingImageService imageService;
+
     @Inject
     public SwingActionManager(@Nonnull GriffonApplication application) {
         super(application);
     }
 
+    /**
+     * Sets the service used to load action icons in the background.
+     *
+     * @param imageService the image service
+     * @since 2.8.0
+     */
+    @Inject
+    public void setImageService(@Nonnull SwingImageService imageService) {
+        this.imageService = requireNonNull(imageService, "Argument 'imageService' must not be null");
+    }
+
     @Override
     protected void doConfigureAction(@Nonnull Action action, @Nonnull GriffonController controller, @Nonnull String normalizeNamed, @Nonnull String keyPrefix) {
         SwingGriffonControllerAction swingAction = (SwingGriffonControllerAction) action;
@@ -125,6 +140,8 @@ public class SwingActionManager extends AbstractActionManager {
     @Nonnull
     @Override
     protected Action createControllerAction(@Nonnull GriffonController controller, @Nonnull String actionName) {
-        return new SwingGriffonControllerAction(getUiThreadManager(), this, controller, actionName);
+        SwingGriffonControllerAction action = new SwingGriffonControllerAction(getUiThreadManager(), this, controller, actionName);
+        action.setImageService(imageService);
+        return action;
     }
 }
@@ -20,8 +20,11 @@ import griffon.core.artifact.GriffonController;
 import griffon.core.controller.ActionManager;
 import griffon.core.editors.PropertyEditorResolver;
 import griffon.core.threading.UIThreadManager;
+import griffon.swing.SwingImageService;
 import griffon.swing.support.SwingAction;
 import org.codehaus.griffon.runtime.core.controller.AbstractAction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -33,6 +36,7 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyEditor;
 
+import static griffon.core.GriffonExceptionHandler.sanitize;
 import static griffon.util.GriffonNameUtils.isBlank;
 import static java.util.Objects.requireNonNull;
 
@@ -41,6 +45,7 @@ import static java.util.Objects.requireNonNull;
  * @since 2.0.0
  */
 public class SwingGriffonControllerAction extends AbstractAction {
+    private static final Logger LOG = LoggerFactory.getLogger(SwingGriffonControllerAction.class);
     public static final String KEY_SHORT_DESCRIPTION = "shortDescription";
     public static final String KEY_LONG_DESCRIPTION = "longDescription";
     public static final String KEY_SMALL_ICON = "smallIcon";
@@ -58,6 +63,7 @@ public class SwingGriffonControllerAction extends AbstractAction {
     private String mnemonic;
     private String command;
     private boolean selected;
+    private SwingImageService imageService;
 
     public SwingGriffonControllerAction(final @Nonnull UIThreadManager uiThreadManager, @Nonnull final ActionManager actionManager, @Nonnull final GriffonController controller, @Nonnull final String actionName) {
         super(actionManager, controller, actionName);
@@ -115,10 +121,29 @@ public class SwingGriffonControllerAction extends AbstractAction {
         }
     }
 
+    /**
+     * Sets the service used to load icons given as classpath resources. Icons are decoded
+     * synchronously when no service is set.
+     *
+     * @param imageService the image service, may be {@code null}
+     * @since 2.8.0
+     */
+    public void setImageService(@Nullable SwingImageService imageService) {
+        this.imageService = imageService;
+    }
+
     protected void handleIcon(@Nullable Object value, @Nonnull String key) {
-        if (value != null) {
+        if (imageService != null && value instanceof String && !isBlank((String) value) && !((String) value).contains("|")) {
+            // load failures are reported by the image service once decoding completes
+            toolkitAction.putValue(key, imageService.getIcon((String) value));
+        } else if (value != null) {
             PropertyEditor editor = PropertyEditorResolver.findEditor(Icon.class);
-            editor.setValue(value);
+            try {
+                editor.setValue(value);
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Could not load icon {} for action {}", value, getFullyQualifiedName(), sanitize(e));
+                throw e;
+            }
             toolkitAction.putValue(key, editor.getValue());
         }
     }
@@ -18,6 +18,8 @@ package griffon.swing.editors
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import javax.imageio.ImageIO
+import java.awt.image.BufferedImage
 import java.beans.PropertyEditor
 
 @Unroll
@@ -68,4 +70,25 @@ class BufferedImagePropertyEditorSpec extends Specification {
             new Object(),
         ]
     }
+
+    void "Images read from the same URL are decoded once and copied for every caller"() {
+        given:
+        File file = File.createTempFile('image', '.png')
+        file.deleteOnExit()
+        BufferedImage source = new BufferedImage(4, 3, BufferedImage.TYPE_INT_ARGB)
+        source.setRGB(1, 1, (int) 0xff00ff00)
+        ImageIO.write(source, 'png', file)
+        PropertyEditor first = new BufferedImagePropertyEditor()
+        PropertyEditor second = new BufferedImagePropertyEditor()
+
+        when:
+        first.value = file.toURI().toURL()
+        BufferedImage image = first.value
+        image.setRGB(1, 1, (int) 0xffff0000)
+        second.value = file.toURI().toURL()
+
+        then:
+        !second.value.is(image)
+        second.value.getRGB(1, 1) == (int) 0xff00ff00
+    }
 }
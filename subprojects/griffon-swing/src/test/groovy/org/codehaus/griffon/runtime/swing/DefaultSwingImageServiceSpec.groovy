@@ -0,0 +1,147 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.swing
+
+import griffon.core.ApplicationClassLoader
+import griffon.core.Configuration
+import griffon.core.threading.UIThreadManager
+import spock.lang.Specification
+
+import javax.imageio.ImageIO
+import javax.swing.Icon
+import java.awt.image.BufferedImage
+import java.util.concurrent.CancellationException
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Future
+import java.util.concurrent.RejectedExecutionException
+
+class DefaultSwingImageServiceSpec extends Specification {
+    private File root
+    private List<Runnable> tasks = []
+    private DefaultSwingImageService service
+    private boolean rejecting
+
+    def setup() {
+        root = File.createTempDir()
+        ImageIO.write(new BufferedImage(16, 8, BufferedImage.TYPE_INT_ARGB), 'png', new File(root, 'icon.png'))
+        ClassLoader classLoader = new URLClassLoader([root.toURI().toURL()] as URL[], (ClassLoader) null)
+
+        ExecutorService executorService = Mock(ExecutorService)
+        executorService.execute(_) >> { Runnable r ->
+            if (rejecting) throw new RejectedExecutionException()
+            tasks << r
+        }
+        UIThreadManager uiThreadManager = Mock(UIThreadManager)
+        uiThreadManager.runInsideUIAsync(_) >> { Runnable r -> r.run() }
+        Configuration configuration = Stub(Configuration)
+        configuration.getAsInt(_, _) >> { String key, int defaultValue -> defaultValue }
+
+        service = new DefaultSwingImageService({ classLoader } as ApplicationClassLoader, uiThreadManager, configuration, executorService)
+    }
+
+    def cleanup() {
+        root.deleteDir()
+    }
+
+    def 'Requests for the same image share a single decoding task'() {
+        when:
+        Future<BufferedImage> first = service.loadImage('icon.png')
+        Future<BufferedImage> second = service.loadImage('icon.png')
+
+        then:
+        tasks.size() == 1
+
+        when:
+        tasks*.run()
+
+        then:
+        first.get().width == 16
+        first.get().is(second.get())
+    }
+
+    def 'Cancelling a request does not affect other requests for the same image'() {
+        given:
+        Future<BufferedImage> first = service.loadImage('icon.png')
+        Future<BufferedImage> second = service.loadImage('icon.png')
+
+        when:
+        first.cancel(true)
+        tasks*.run()
+        first.get()
+
+        then:
+        thrown(CancellationException)
+        second.get().width == 16
+        service.loadImage('icon.png').get().is(second.get())
+        service.getIcon('icon.png').iconWidth == 16
+        tasks.size() == 1
+    }
+
+    def 'Rejected loads fail and are not cached'() {
+        given:
+        rejecting = true
+
+        when:
+        Future<BufferedImage> image = service.loadImage('icon.png')
+        image.get()
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof RejectedExecutionException
+        service.getIcon('icon.png').iconWidth == 0
+
+        when:
+        rejecting = false
+        image = service.loadImage('icon.png')
+        tasks*.run()
+
+        then:
+        image.get().width == 16
+    }
+
+    def 'Icons swap to the decoded image once it is available'() {
+        when:
+        Icon icon = service.getIcon('icon.png')
+
+        then:
+        icon.iconWidth == 0
+
+        when:
+        tasks*.run()
+
+        then:
+        icon.iconWidth == 16
+        icon.iconHeight == 8
+        service.getIcon('icon.png').iconWidth == 16
+    }
+
+    def 'Failed loads are not cached'() {
+        when:
+        Future<BufferedImage> image = service.loadImage('missing.png')
+        tasks*.run()
+        image.get()
+
+        then:
+        thrown(ExecutionException)
+
+        when:
+        service.loadImage('missing.png')
+
+        then:
+        tasks.size() == 2
+    }
+}